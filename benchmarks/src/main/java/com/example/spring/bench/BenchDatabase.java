@@ -0,0 +1,107 @@
+package com.example.spring.bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * DAO 측정용 내장 DB (H2, MariaDB 호환 모드)
+ *
+ * - 애플리케이션과 같은 mybatis-config.xml, mapper/postMapper.xml 을 그대로 사용
+ * - POST 테이블을 만들고 rows 건을 JDBC 배치로 채움
+ * - 측정 스레드가 하나이므로 커넥션 하나(SingleConnectionDataSource)로 커넥션 풀 비용을 제외
+ */
+public final class BenchDatabase implements AutoCloseable {
+
+    private static final int SEED_BATCH_SIZE = 5000;
+
+    private final SingleConnectionDataSource dataSource;
+    private final SqlSessionTemplate sqlSessionTemplate;
+
+    /**
+     * @param name DB 이름 (측정 클래스별로 다르게)
+     * @param rows 채울 게시글 수
+     * @param contentLength 게시글 내용 길이
+     */
+    public BenchDatabase(String name, int rows, int contentLength) throws Exception {
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:" + name + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "", true);
+
+        createSchema();
+        seed(rows, contentLength);
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfigLocation(new ClassPathResource("mybatis-config.xml"));
+        factoryBean.setMapperLocations(new ClassPathResource("mapper/postMapper.xml"));
+        SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+
+        sqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory);
+    }
+
+    public SqlSessionTemplate sqlSessionTemplate() {
+        return sqlSessionTemplate;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    private void createSchema() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS POST");
+            statement.execute(
+                "CREATE TABLE POST ("
+                    + " ID INT AUTO_INCREMENT PRIMARY KEY,"
+                    + " TITLE VARCHAR(255) NOT NULL,"
+                    + " CONTENT TEXT,"
+                    + " CONTENT_BLOB BLOB,"
+                    + " USERNAME VARCHAR(50) NOT NULL,"
+                    + " PASSWORD VARCHAR(100) NOT NULL,"
+                    + " EXCERPT VARCHAR(200),"
+                    + " VIEWS INT NOT NULL DEFAULT 0,"
+                    + " VERSION INT NOT NULL DEFAULT 0,"
+                    + " CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,"
+                    + " UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP"
+                    + ")");
+        }
+    }
+
+    private void seed(int rows, int contentLength) throws SQLException {
+        String sql = "INSERT INTO POST (TITLE, CONTENT, USERNAME, PASSWORD, EXCERPT) VALUES (?, ?, ?, ?, ?)";
+        try (Connection connection = dataSource.getConnection(); PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int n = 1; n <= rows; n++) {
+                String content = SampleData.content(n, contentLength);
+                insert.setString(1, SampleData.title(n));
+                insert.setString(2, content);
+                insert.setString(3, SampleData.username(n));
+                insert.setString(4, "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmar");
+                insert.setString(5, content.substring(0, Math.min(100, content.length())));
+                insert.addBatch();
+
+                if (n % SEED_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        } finally {
+            dataSource.destroy();
+        }
+    }
+}
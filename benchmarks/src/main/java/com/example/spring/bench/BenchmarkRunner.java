@@ -0,0 +1,35 @@
+package com.example.spring.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * benchmarks.jar 실행 진입점
+ * - JMH 명령행 옵션을 그대로 받으며, 결과 파일을 지정하지 않으면 target/jmh-result.json 에 JSON으로 저장
+ *
+ * 예:
+ *   java -jar target/benchmarks.jar                              전체 실행
+ *   java -jar target/benchmarks.jar PostDao -p rows=1000000      DAO 측정만, 100만 건
+ *   java -jar target/benchmarks.jar -rff before.json             결과 파일 지정 (변경 전/후 비교용)
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.spring.bench;
+
+import java.lang.reflect.Field;
+
+/**
+ * 측정용 객체 조립 도우미
+ * - Spring 컨테이너 없이 @Autowired/@Value 필드에 값을 직접 주입
+ */
+public final class Fields {
+
+    private Fields() {
+    }
+
+    /**
+     * 필드 값 설정 (상위 클래스의 필드 포함, private 허용)
+     * @param target 대상 객체
+     * @param name 필드 이름
+     * @param value 설정할 값
+     */
+    public static void set(Object target, String name, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스에서 다시 찾음
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(target.getClass().getName() + "에 " + name + " 필드가 없습니다.");
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.spring.bench;
+
+/**
+ * 측정용 게시글 데이터 생성기
+ * - 같은 번호에는 항상 같은 값을 만들어 실행마다 결과를 비교할 수 있도록 함
+ * - 제목/내용에 KEYWORDS 중 하나가 들어가므로 검색 측정 시 일치하는 게시글이 일정 비율로 존재
+ */
+public final class SampleData {
+
+    /** 제목/내용에 섞어 넣는 검색어 (각각 전체 게시글의 1/8에 등장) */
+    public static final String[] KEYWORDS = {"스프링", "게시판", "성능", "검색어", "페이지", "데이터", "캐시", "인덱스"};
+
+    private static final String FILLER = "본문 내용을 채우기 위한 문장입니다. Lorem ipsum dolor sit amet. ";
+
+    private SampleData() {
+    }
+
+    public static String title(int n) {
+        return KEYWORDS[n % KEYWORDS.length] + " 게시글 " + n;
+    }
+
+    public static String username(int n) {
+        return "user" + (n % 1000);
+    }
+
+    /**
+     * @param n 게시글 번호
+     * @param length 내용 길이 (글자 수)
+     */
+    public static String content(int n, int length) {
+        StringBuilder content = new StringBuilder(length + FILLER.length());
+        content.append(KEYWORDS[(n / KEYWORDS.length) % KEYWORDS.length]).append(' ');
+        while (content.length() < length) {
+            content.append(FILLER);
+        }
+        content.setLength(length);
+        return content.toString();
+    }
+
+    /**
+     * 붙여 넣은 로그 형태의 내용 (시각, 스레드, 요청 ID 등이 줄마다 달라 FILLER보다 압축률이 현실적임)
+     * @param n 게시글 번호
+     * @param length 내용 길이 (글자 수)
+     */
+    public static String logContent(int n, int length) {
+        String[] levels = {"INFO ", "DEBUG", "WARN ", "INFO "};
+        String[] loggers = {"c.e.s.post.PostController", "c.e.s.post.PostService", "c.e.s.db.DbBulkhead", "o.s.web.servlet.DispatcherServlet"};
+        java.util.Random random = new java.util.Random(n);
+
+        StringBuilder content = new StringBuilder(length + 200);
+        long millis = 1_700_000_000_000L + n * 60_000L;
+        while (content.length() < length) {
+            millis += random.nextInt(500);
+            content.append(String.format("2024-01-%02d %02d:%02d:%02d.%03d [http-nio-8080-exec-%d] %s %s - 요청 처리 id=%08x elapsed=%dms%n",
+                1 + (int) (millis / 86_400_000L % 28), millis / 3_600_000L % 24, millis / 60_000L % 60, millis / 1000 % 60, millis % 1000,
+                1 + random.nextInt(200), levels[random.nextInt(levels.length)], loggers[random.nextInt(loggers.length)],
+                random.nextInt(), random.nextInt(3000)));
+        }
+        content.setLength(length);
+        return content.toString();
+    }
+}
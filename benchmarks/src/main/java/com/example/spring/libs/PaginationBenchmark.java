@@ -0,0 +1,47 @@
+package com.example.spring.libs;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pagination 계산 비용 측정 (목록 요청마다 한 번씩 생성됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    @Param({"0", "1000", "10000000"})
+    int totalCount;
+
+    @Param({"1", "48"})
+    int currentPage;
+
+    @Benchmark
+    public Pagination pageNumber() {
+        return new Pagination(currentPage, 10, 5, totalCount);
+    }
+
+    @Benchmark
+    public Pagination cursor() {
+        return new Pagination(10, currentPage * 10, currentPage * 10 - 9);
+    }
+
+    @Benchmark
+    public int countCapAndOffset() {
+        return Pagination.countCap(currentPage, 10, 5) + new Pagination(currentPage, 10, 5, totalCount).offset();
+    }
+}
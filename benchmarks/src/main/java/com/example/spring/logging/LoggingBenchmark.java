@@ -0,0 +1,118 @@
+package com.example.spring.logging;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.example.spring.metrics.MetricsRegistry;
+
+/**
+ * 로그 설정별 요청 한 건의 로그 비용 측정 (지연 시간 분포, p99/p999 확인용)
+ *
+ * 요청 한 건 = 게시글 목록 요청에서 나오는 로그를 흉내 냄
+ * (DispatcherServlet DEBUG 3줄 + MyBatis 문장 2개 × DEBUG 3줄 + INFO 1줄, MDC 요청 ID)
+ *
+ * config
+ * - sync      : 변경 전 설정 (동기 Logger, Root debug, 모든 요청의 DEBUG 출력)
+ * - async     : 변경 후 설정 (AsyncLogger, Root info, 1% 요청만 DEBUG 출력, 버퍼가 차면 버림)
+ * - async-all : 변경 후 설정에서 모든 요청을 샘플링 (비동기 전환만의 효과)
+ *
+ * 콘솔 대신 target/bench-logs 의 파일에 출력하며, Log4j 설정은 JVM마다 한 번만 정해지므로 config마다 별도 JVM(fork)에서 실행
+ * 버퍼가 가득 차서 버린 로그 수는 측정 후 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async", "async-all"})
+    String config;
+
+    private Logger dispatcher;
+    private Logger statement;
+    private Logger controller;
+    private double sampleRate;
+
+    @Setup
+    public void setUp() {
+        File dir = new File("target/bench-logs");
+        dir.mkdirs();
+        System.setProperty("bench.log.dir", dir.getAbsolutePath());
+
+        // 애플리케이션의 log4j2.component.properties 보다 시스템 프로퍼티가 우선
+        if (config.equals("sync")) {
+            System.setProperty("log4j2.contextSelector", "org.apache.logging.log4j.core.selector.ClassLoaderContextSelector");
+            System.setProperty("log4j2.configurationFile", "log4j2-bench-sync.xml");
+        } else {
+            System.setProperty("log4j2.contextSelector", "org.apache.logging.log4j.core.async.AsyncLoggerContextSelector");
+            System.setProperty("log4j2.configurationFile", "log4j2-bench-async.xml");
+        }
+        sampleRate = config.equals("async") ? 0.01 : 1.0;
+
+        dispatcher = LoggerFactory.getLogger("org.springframework.web.servlet.DispatcherServlet");
+        statement = LoggerFactory.getLogger("postMapper.list");
+        controller = LoggerFactory.getLogger("com.example.spring.post.PostController");
+    }
+
+    @TearDown
+    public void tearDown() {
+        LogManager.shutdown();
+
+        long dropped = 0;
+        for (String level : new String[] {"FATAL", "ERROR", "WARN", "INFO", "DEBUG", "TRACE"}) {
+            LongAdder counter = MetricsRegistry.get().counter("log_events_dropped_total", "비동기 로그 버퍼가 가득 차서 버린 로그 수",
+                MetricsRegistry.label("level", level));
+            dropped += counter.sum();
+        }
+        System.out.printf("%n버퍼 초과로 버린 로그 (config=%s) : %,d건%n", config, dropped);
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+        int page;
+    }
+
+    @Benchmark
+    public void request(Request request) {
+        request.page = request.page % 100 + 1;
+        String requestId = RequestIdFilter.newRequestId();
+        MDC.put(RequestIdFilter.REQUEST_ID, requestId);
+        MDC.put(RequestIdFilter.SAMPLED, RequestIdFilter.isSampled(requestId, sampleRate) ? "true" : "false");
+        try {
+            dispatcher.debug("GET \"/posts?page={}\", parameters={}", request.page, "masked");
+            dispatcher.debug("Mapped to com.example.spring.post.PostController#listGet(String, String, int, Integer, Integer, String, ServletWebRequest)");
+            for (int i = 0; i < 2; i++) {
+                statement.debug("==>  Preparing: SELECT ID, TITLE, USERNAME, VIEWS, CREATED_AT FROM POST ORDER BY ID DESC LIMIT ?, ?");
+                statement.debug("==> Parameters: {}(Integer), {}(Integer)", (request.page - 1) * 10, 10);
+                statement.debug("<==      Total: {}", 10);
+            }
+            controller.info("게시글 목록 조회 : page={}, 건수={}", request.page, 10);
+            dispatcher.debug("Completed 200 OK");
+        } finally {
+            MDC.remove(RequestIdFilter.REQUEST_ID);
+            MDC.remove(RequestIdFilter.SAMPLED);
+        }
+    }
+}
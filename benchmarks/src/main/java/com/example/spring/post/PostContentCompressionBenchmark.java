@@ -0,0 +1,119 @@
+package com.example.spring.post;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spring.bench.BenchDatabase;
+import com.example.spring.bench.Fields;
+import com.example.spring.bench.SampleData;
+import com.example.spring.libs.ContentCodec;
+import com.example.spring.libs.ContentRow;
+
+/**
+ * 게시글 내용 압축(ContentCodec, CONTENT_BLOB)의 저장 크기와 단건 조회 비용 측정
+ * - compressed=false: 원문을 CONTENT에 저장 / true: 압축 변환(compressCandidates → storeCompressed) 후 측정
+ * - 저장 크기(CONTENT + CONTENT_BLOB 바이트 합계)는 준비 단계에서 출력
+ * - readWithoutContent: 비밀번호 확인처럼 내용을 쓰지 않는 조회 (압축을 풀지 않음)
+ * - readContent: 화면 출력처럼 내용을 쓰는 조회 (압축된 경우 getContent()에서 복원)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class PostContentCompressionBenchmark {
+
+    private static final int THRESHOLD_BYTES = 8192;
+
+    @Param({"1000"})
+    int rows;
+
+    @Param({"2000", "50000", "300000"})
+    int contentLength;
+
+    @Param({"false", "true"})
+    boolean compressed;
+
+    private BenchDatabase database;
+    private PostDao postDao;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchDatabase("postContent", rows, 0);
+        postDao = new PostDao();
+        Fields.set(postDao, "sqlSessionTemplate", database.sqlSessionTemplate());
+        Fields.set(postDao, "compressThresholdBytes", THRESHOLD_BYTES);
+
+        // 붙여 넣은 로그 형태의 내용으로 교체
+        try (Connection connection = database.dataSource().getConnection();
+             PreparedStatement update = connection.prepareStatement("UPDATE POST SET CONTENT = ? WHERE ID = ?")) {
+            for (int n = 1; n <= rows; n++) {
+                update.setString(1, SampleData.logContent(n, contentLength));
+                update.setInt(2, n);
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+
+        if (compressed) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database.dataSource()));
+            int afterId = 0;
+            List<ContentRow> batch;
+            while (!(batch = postDao.compressCandidates(afterId, 500)).isEmpty()) {
+                for (ContentRow row : batch) {
+                    row.setContentBlob(ContentCodec.compress(row.getContent(), THRESHOLD_BYTES));
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+                batch.removeIf(row -> row.getContentBlob() == null);
+                List<ContentRow> toStore = batch;
+                transactionTemplate.execute(status -> postDao.storeCompressed(toStore));
+            }
+        }
+
+        try (Connection connection = database.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                 "SELECT SUM(COALESCE(OCTET_LENGTH(CONTENT), 0)), SUM(COALESCE(OCTET_LENGTH(CONTENT_BLOB), 0)),"
+                     + " SUM(CASE WHEN CONTENT_BLOB IS NULL THEN 0 ELSE 1 END) FROM POST")) {
+            rs.next();
+            System.out.printf("%n저장 크기 (contentLength=%d, compressed=%s) : CONTENT %,d바이트 + CONTENT_BLOB %,d바이트 (압축 %d건)%n",
+                contentLength, compressed, rs.getLong(1), rs.getLong(2), rs.getLong(3));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public String readWithoutContent() {
+        return postDao.read(ThreadLocalRandom.current().nextInt(1, rows + 1)).getPassword();
+    }
+
+    @Benchmark
+    public int readContent() {
+        return postDao.read(ThreadLocalRandom.current().nextInt(1, rows + 1)).getContent().length();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.spring.post;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.spring.bench.BenchDatabase;
+import com.example.spring.bench.Fields;
+
+/**
+ * PostDao 목록/카운트/단건 조회 비용 측정 (H2 MariaDB 호환 모드, 실제 postMapper.xml 사용)
+ * - 앞쪽 페이지와 깊은 페이지(OFFSET)의 차이, 커서(keyset) 조회와의 차이를 비교
+ * - 게시글 수는 -p rows=... 로 변경 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class PostDaoBenchmark {
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    @Param({"2000"})
+    int contentLength;
+
+    private BenchDatabase database;
+    private PostDao postDao;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchDatabase("postDao", rows, contentLength);
+        postDao = new PostDao();
+        Fields.set(postDao, "sqlSessionTemplate", database.sqlSessionTemplate());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public List<PostSummary> listFirstPage() {
+        return postDao.list(0, 10, null, null);
+    }
+
+    @Benchmark
+    public List<PostSummary> listMiddlePage() {
+        return postDao.list(rows / 2, 10, null, null);
+    }
+
+    @Benchmark
+    public List<PostSummary> listLastPage() {
+        return postDao.list(rows - 10, 10, null, null);
+    }
+
+    @Benchmark
+    public List<PostSummary> listByCursorLastPage() {
+        return postDao.listByCursor(11, null, 11, null, null);
+    }
+
+    @Benchmark
+    public int totalCount() {
+        return postDao.totalCount(null, null);
+    }
+
+    @Benchmark
+    public PostDto read() {
+        return postDao.read(ThreadLocalRandom.current().nextInt(1, rows + 1));
+    }
+
+    @Benchmark
+    public PostDto readCredential() {
+        return postDao.readCredential(ThreadLocalRandom.current().nextInt(1, rows + 1));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.spring.post;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.spring.bench.BenchDatabase;
+import com.example.spring.bench.Fields;
+
+/**
+ * PostDao 검색(LIKE) 비용 측정 (searchType별)
+ * - 검색 색인을 사용할 수 없을 때(한 글자 검색어, 색인 준비 전)의 DB 검색 비용 기준값
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class PostDaoSearchBenchmark {
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    @Param({"2000"})
+    int contentLength;
+
+    @Param({"title", "content", "username", "all"})
+    String searchType;
+
+    @Param({"스프링"})
+    String searchKeyword;
+
+    private BenchDatabase database;
+    private PostDao postDao;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchDatabase("postDaoSearch", rows, contentLength);
+        postDao = new PostDao();
+        Fields.set(postDao, "sqlSessionTemplate", database.sqlSessionTemplate());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public List<PostSummary> listFirstPage() {
+        return postDao.list(0, 10, searchType, searchKeyword);
+    }
+
+    @Benchmark
+    public int totalCount() {
+        return postDao.totalCount(searchType, searchKeyword);
+    }
+
+    @Benchmark
+    public int totalCountCapped() {
+        return postDao.totalCountCapped(searchType, searchKeyword, 251);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.spring.post;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.spring.bench.Fields;
+import com.example.spring.db.ReplicaHealthCheck;
+import com.example.spring.search.PostSearchIndex;
+
+/**
+ * PostService 목록/조회 비용 측정 (DAO는 StubPostDao로 대체)
+ * - DB 비용을 뺀 서비스 계층(페이지 계산, 카운트 캐시, single-flight 로더, 결과 Map 구성) 비용만 측정
+ * - 검색 색인은 준비되지 않은 상태이므로 검색 요청은 카운트 캐시 + DAO 경로를 탐
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostServiceBenchmark {
+
+    @Param({"100000"})
+    int rows;
+
+    @Param({"false", "true"})
+    boolean approximateCount;
+
+    private PostService postService;
+    private PostReadLoader postReadLoader;
+
+    @Setup
+    public void setUp() {
+        StubPostDao postDao = new StubPostDao(rows, 2000);
+
+        PostCountCache postCountCache = new PostCountCache();
+        postCountCache.postDao = postDao;
+        Fields.set(postCountCache, "filteredTtlMillis", 30000L);
+        Fields.set(postCountCache, "filteredMaxEntries", 1000);
+        Fields.set(postCountCache, "resyncMillis", 600000L);
+
+        postReadLoader = new PostReadLoader();
+        postReadLoader.postDao = postDao;
+        postReadLoader.replicaHealthCheck = new ReplicaHealthCheck(); // 시작하지 않은 상태 확인 (지연 허용 시간만 사용)
+        Fields.set(postReadLoader, "ttlMillis", 1000L);
+        Fields.set(postReadLoader, "negativeTtlMillis", 1000L);
+        Fields.set(postReadLoader, "maxEntries", 10000);
+
+        postService = new PostService();
+        postService.postDao = postDao;
+        postService.postSearchIndex = new PostSearchIndex(); // 시작하지 않은 색인 (항상 DB 경로)
+        postService.postCountCache = postCountCache;
+        postService.postReadLoader = postReadLoader;
+        Fields.set(postService, "approximateCount", approximateCount);
+    }
+
+    @Benchmark
+    public Map<String, Object> listFirstPage() {
+        return postService.list(1, 10, 5, null, null);
+    }
+
+    @Benchmark
+    public Map<String, Object> listDeepPage() {
+        return postService.list(48, 10, 5, null, null);
+    }
+
+    @Benchmark
+    public Map<String, Object> listSearch() {
+        return postService.list(1, 10, 5, "title", "스프링");
+    }
+
+    @Benchmark
+    public Map<String, Object> listByCursor() {
+        return postService.listByCursor(rows / 2, null, 10, null, null);
+    }
+
+    @Benchmark
+    public PostDto readCached() {
+        return postService.read(rows);
+    }
+
+    @Benchmark
+    public PostDto readUncached() {
+        postReadLoader.invalidate(rows);
+        return postService.read(rows);
+    }
+}
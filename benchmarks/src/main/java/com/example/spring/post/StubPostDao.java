@@ -0,0 +1,122 @@
+package com.example.spring.post;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import com.example.spring.bench.SampleData;
+
+/**
+ * DB 없이 고정된 결과를 돌려주는 PostDao (서비스 계층 측정용)
+ * - 목록은 미리 만든 한 페이지 분량을 그대로 반환하므로 측정값에는 서비스 계층 비용만 남음
+ */
+public class StubPostDao extends PostDao {
+
+    private final int rows;
+    private final int contentLength;
+    private final List<PostSummary> page = new ArrayList<>();
+    private final PostDto post = new PostDto();
+
+    /**
+     * @param rows 전체 게시글 수로 보고할 값 (streamSearchSource, streamSuggestSource는 이만큼 생성)
+     * @param contentLength streamSearchSource가 만드는 게시글 내용 길이
+     */
+    public StubPostDao(int rows, int contentLength) {
+        this.rows = rows;
+        this.contentLength = contentLength;
+
+        Date now = new Date();
+        for (int n = rows; n > rows - 10 && n > 0; n--) {
+            PostSummary summary = new PostSummary();
+            summary.setId(n);
+            summary.setTitle(SampleData.title(n));
+            summary.setUsername(SampleData.username(n));
+            summary.setCreatedAt(now);
+            summary.setUpdatedAt(now);
+            page.add(summary);
+        }
+
+        post.setId(rows);
+        post.setTitle(SampleData.title(rows));
+        post.setContent(SampleData.content(rows, contentLength));
+        post.setUsername(SampleData.username(rows));
+        post.setCreatedAt(now);
+        post.setUpdatedAt(now);
+    }
+
+    @Override
+    public List<PostSummary> list(int offset, int listCountPerPage, String searchType, String searchKeyword) {
+        return new ArrayList<>(page);
+    }
+
+    @Override
+    public List<PostSummary> listByCursor(Integer after, Integer before, int limit, String searchType, String searchKeyword) {
+        return new ArrayList<>(page);
+    }
+
+    @Override
+    public List<PostSummary> listByIds(List<Integer> ids) {
+        return new ArrayList<>(page);
+    }
+
+    @Override
+    public List<PostDto> listSearchText(List<Integer> ids, boolean withContent) {
+        List<PostDto> posts = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            PostDto source = new PostDto();
+            source.setId(id);
+            source.setTitle(SampleData.title(id));
+            source.setUsername(SampleData.username(id));
+            if (withContent) {
+                source.setContent(SampleData.content(id, contentLength));
+            }
+            posts.add(source);
+        }
+        return posts;
+    }
+
+    @Override
+    public PostDto read(int id) {
+        return post;
+    }
+
+    @Override
+    public int totalCount(String searchType, String searchKeyword) {
+        return rows;
+    }
+
+    @Override
+    public int totalCountCapped(String searchType, String searchKeyword, int cap) {
+        return Math.min(rows, cap);
+    }
+
+    @Override
+    public void streamSearchSource(ResultHandler<PostDto> handler) {
+        DefaultResultContext<PostDto> context = new DefaultResultContext<>();
+        for (int n = 1; n <= rows && !context.isStopped(); n++) {
+            PostDto source = new PostDto();
+            source.setId(n);
+            source.setTitle(SampleData.title(n));
+            source.setContent(SampleData.content(n, contentLength));
+            source.setUsername(SampleData.username(n));
+            context.nextResultObject(source);
+            handler.handleResult(context);
+        }
+    }
+
+    @Override
+    public void streamSuggestSource(ResultHandler<PostSummary> handler) {
+        DefaultResultContext<PostSummary> context = new DefaultResultContext<>();
+        for (int n = 1; n <= rows && !context.isStopped(); n++) {
+            PostSummary source = new PostSummary();
+            source.setId(n);
+            source.setTitle(SampleData.title(n));
+            source.setUsername(SampleData.username(n));
+            context.nextResultObject(source);
+            handler.handleResult(context);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.spring.search;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.spring.bench.Fields;
+import com.example.spring.post.StubPostDao;
+
+/**
+ * 메모리 검색 색인(PostSearchIndex) 검색 비용 측정
+ * - 게시글 100만 건 색인에서도 검색 한 번이 LIKE 전체 스캔(PostDaoSearchBenchmark)보다 충분히 빠른지 확인
+ * - 세 글자 이상 검색어는 후보 확인(listSearchText) 비용이 포함됨 (StubPostDao는 DB 대신 값을 생성)
+ *   (후보가 verifyMaxCandidates를 넘으면 확인하지 않고 null을 반환하므로 DB 검색 비용은 PostDaoSearchBenchmark로 비교)
+ * - 색인 구축 시간과 메모리는 로그(구축 완료 메시지)와 -prof gc 로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+public class PostSearchIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rows;
+
+    @Param({"300"})
+    int contentLength;
+
+    @Param({"title", "content", "username", "all"})
+    String searchType;
+
+    @Param({"스프링", "게시글 1"})
+    String searchKeyword;
+
+    private PostSearchIndex index;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        index = new PostSearchIndex();
+        index.postDao = new StubPostDao(rows, contentLength);
+        Fields.set(index, "enabled", true);
+        Fields.set(index, "indexContent", true);
+        Fields.set(index, "verifyMaxCandidates", 2000);
+        index.afterPropertiesSet();
+
+        while (!index.isReady()) {
+            Thread.sleep(100);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.destroy();
+    }
+
+    @Benchmark
+    public int[] search() {
+        return index.search(searchType, searchKeyword);
+    }
+}
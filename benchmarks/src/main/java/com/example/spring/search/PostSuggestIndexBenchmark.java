@@ -0,0 +1,76 @@
+package com.example.spring.search;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.spring.bench.Fields;
+import com.example.spring.post.StubPostDao;
+
+/**
+ * 자동완성 색인(PostSuggestIndex) 조회 비용 측정
+ * - 게시글 100만 건(서로 다른 제목 100만 개)에서도 제안 조회 한 번이 1ms보다 충분히 짧은지 확인
+ * - 짧은 접두어(범위가 넓음)와 긴 접두어(범위가 좁음)의 차이가 작아야 함 (최신순 상위 k개만 찾음)
+ * - 표의 크기는 로그(구축 완료 메시지)와 /metrics의 suggest_index_bytes로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class PostSuggestIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rows;
+
+    // 대상 필드:접두어
+    @Param({"title:스", "title:스프링 게시글 99", "username:user1"})
+    String query;
+
+    @Param({"10"})
+    int limit;
+
+    private PostSuggestIndex index;
+    private String type;
+    private String prefix;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        index = new PostSuggestIndex();
+        index.postDao = new StubPostDao(rows, 0);
+        Fields.set(index, "enabled", true);
+        Fields.set(index, "maxLength", 50);
+        Fields.set(index, "rebuildThreshold", 10000);
+        index.afterPropertiesSet();
+
+        while (!index.isReady()) {
+            Thread.sleep(100);
+        }
+
+        type = query.substring(0, query.indexOf(':'));
+        prefix = query.substring(query.indexOf(':') + 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.destroy();
+    }
+
+    @Benchmark
+    public List<PostSuggestion> suggest() {
+        return index.suggest(type, prefix, limit);
+    }
+}
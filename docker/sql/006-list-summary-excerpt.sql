@@ -0,0 +1,11 @@
+-- 목록 화면용 내용 미리보기(EXCERPT) 컬럼 추가
+-- - 목록 쿼리(postMapper.list, listByCursor, listByIds / bbsMapper.list)는 CONTENT, PASSWORD 대신 이 컬럼만 조회
+-- - 등록/수정 시 애플리케이션(Excerpt.of)이 값을 채움 (최대 100자 + 말줄임표)
+-- - mariadb-data 볼륨이 이미 초기화되어 있으므로 배포 전에 직접 실행 (예: adminer, mariadb CLI)
+
+ALTER TABLE POST ADD COLUMN IF NOT EXISTS EXCERPT VARCHAR(200) NULL AFTER CONTENT;
+ALTER TABLE bbs ADD COLUMN IF NOT EXISTS EXCERPT VARCHAR(200) NULL AFTER CONTENT;
+
+-- 기존 게시글 미리보기 채우기 (공백 정리는 생략, 이후 수정 시 애플리케이션 값으로 갱신됨)
+UPDATE POST SET EXCERPT = LEFT(CONTENT, 100) WHERE EXCERPT IS NULL;
+UPDATE bbs SET EXCERPT = LEFT(CONTENT, 100) WHERE EXCERPT IS NULL;
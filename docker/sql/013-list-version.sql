@@ -0,0 +1,17 @@
+-- 게시글 목록 조건부 GET(ETag)용 목록 버전
+-- - PostService / BbsService가 게시글을 등록/수정/삭제(대량 등록 포함)할 때마다 해당 행의 VERSION을 1 올림
+--   (postMapper.bumpListVersion / bbsMapper.bumpListVersion)
+-- - 목록 ETag는 이 값으로 계산하므로 어느 서버에서 바뀌었든, 삭제여도 모든 서버의 ETag가 바뀜
+--   (이전의 MAX(ID), MAX(UPDATED_AT)은 삭제를 알 수 없어 서버별 메모리 삭제 횟수에 기대야 했음)
+-- - MAX(UPDATED_AT)용이던 IDX_POST_UPDATED_AT / IDX_BBS_UPDATED_AT은 더 이상 쓰지 않으므로 제거
+-- - mariadb-data 볼륨이 이미 초기화되어 있으므로 배포 전에 직접 실행 (예: adminer, mariadb CLI)
+
+CREATE TABLE IF NOT EXISTS LIST_VERSION (
+    NAME VARCHAR(32) NOT NULL PRIMARY KEY,   -- 게시판 테이블 이름
+    VERSION BIGINT NOT NULL DEFAULT 0        -- 목록 버전 (등록/수정/삭제할 때마다 1 증가)
+);
+
+INSERT IGNORE INTO LIST_VERSION (NAME, VERSION) VALUES ('POST', 0), ('bbs', 0);
+
+DROP INDEX IF EXISTS IDX_POST_UPDATED_AT ON POST;
+DROP INDEX IF EXISTS IDX_BBS_UPDATED_AT ON bbs;
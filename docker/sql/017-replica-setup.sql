@@ -0,0 +1,22 @@
+-- 조회 라우팅(ReplicaRoutingDataSource) 로컬 테스트용 복제본 설정
+-- - 원본: maria-project-a (3306), 복제본: maria-project-a-replica (3307, --profile replica)
+-- - 애플리케이션은 복제본 주소를 -Ddb.replica.url=jdbc:mariadb://127.0.0.1:3307/springdb 로 변경 가능
+-- - 복제 없이 두 인스턴스를 따로 띄워도 라우팅은 동작함 (ReplicaHealthCheck는 접속 여부만 확인)
+--
+-- 1) 원본(3306)에서 실행: 복제 계정 생성
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED BY '1234';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+-- 애플리케이션 계정이 복제 지연(SHOW REPLICA STATUS)을 확인할 수 있도록 권한 부여 (복제본으로 함께 복제됨)
+GRANT REPLICA MONITOR ON *.* TO 'spring'@'%';
+
+-- 2) 원본 데이터를 복제본으로 복사 (셸에서 실행, GTID 위치 포함)
+--    mariadb-dump -h127.0.0.1 -P3306 -uroot -p1234 --single-transaction --gtid --master-data=2 springdb \
+--      | mariadb -h127.0.0.1 -P3307 -uroot -p1234 springdb
+--    덤프 앞부분 주석의 gtid_slave_pos 값을 확인 (예: 0-1-1234)
+
+-- 3) 복제본(3307)에서 실행: 복제 시작
+-- SET GLOBAL gtid_slave_pos = '0-1-1234';
+-- CHANGE MASTER TO MASTER_HOST = 'maria-project-a', MASTER_PORT = 3306,
+--   MASTER_USER = 'repl', MASTER_PASSWORD = '1234', MASTER_USE_GTID = slave_pos;
+-- START REPLICA;
+-- SHOW REPLICA STATUS;   -- Slave_IO_Running / Slave_SQL_Running = Yes 확인
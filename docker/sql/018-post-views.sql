@@ -0,0 +1,7 @@
+-- 게시글 조회수 컬럼과 조회순 정렬용 인덱스
+-- - 조회수는 PostViewCounter가 메모리에 모아 두었다가 주기적으로 한 번에 더함 (postMapper.addViews)
+-- - postMapper.list 의 조회순 정렬(ORDER BY VIEWS DESC, ID DESC)을 인덱스 역순 탐색으로 처리
+-- - mariadb-data 볼륨이 이미 초기화되어 있으므로 배포 전에 직접 실행 (예: adminer, mariadb CLI)
+
+ALTER TABLE POST ADD COLUMN IF NOT EXISTS VIEWS INT NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS IDX_POST_VIEWS ON POST (VIEWS, ID);
@@ -0,0 +1,12 @@
+-- 큰 게시글 내용 압축 저장용 컬럼
+-- - content.compress.thresholdBytes(기본 8192바이트) 이상인 내용은 ContentCodec 형식으로 압축하여 CONTENT_BLOB에 저장하고 CONTENT는 NULL
+-- - CONTENT가 NULL을 허용하지 않는 경우 기존 타입 그대로 NULL 허용으로 변경 (SHOW CREATE TABLE로 타입 확인 후 실행)
+-- - 기존 게시글은 POST /admin/content-compression?table=post (또는 bbs) 로 묶음 단위 변환
+--   (-Dcontent.compress.migrateEnabled=true로 켠 뒤 서버 안에서 127.0.0.1로 요청)
+-- - mariadb-data 볼륨이 이미 초기화되어 있으므로 배포 전에 직접 실행 (예: adminer, mariadb CLI)
+
+ALTER TABLE POST ADD COLUMN IF NOT EXISTS CONTENT_BLOB LONGBLOB NULL AFTER CONTENT;
+ALTER TABLE bbs ADD COLUMN IF NOT EXISTS CONTENT_BLOB LONGBLOB NULL AFTER CONTENT;
+
+-- ALTER TABLE POST MODIFY CONTENT TEXT NULL;
+-- ALTER TABLE bbs MODIFY CONTENT TEXT NULL;
@@ -0,0 +1,8 @@
+-- 게시글 수정 횟수(낙관적 잠금) 컬럼
+-- - 수정/삭제 전에 postMapper.credential / bbsMapper.credential 로 ID, PASSWORD, VERSION만 읽어 비밀번호를 확인하고,
+--   수정/삭제 문장은 WHERE ID = ? AND VERSION = ? 로 실행 (확인 후 다른 요청이 먼저 바꿨으면 0건)
+-- - 수정할 때마다 VERSION = VERSION + 1 (조회수 반영, 압축 변환은 내용이 바뀌지 않으므로 올리지 않음)
+-- - mariadb-data 볼륨이 이미 초기화되어 있으므로 배포 전에 직접 실행 (예: adminer, mariadb CLI)
+
+ALTER TABLE POST ADD COLUMN IF NOT EXISTS VERSION INT NOT NULL DEFAULT 0;
+ALTER TABLE bbs ADD COLUMN IF NOT EXISTS VERSION INT NOT NULL DEFAULT 0;
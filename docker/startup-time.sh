@@ -0,0 +1,36 @@
+#!/bin/sh
+# 애플리케이션 기동 시간 측정
+# - Tomcat 컨테이너를 다시 시작하고 /ready 가 200을 응답할 때까지(StartupWarmup 완료) 걸린 시간을 출력
+# - 두 번째 인자로 최대 허용 시간(초)을 주면 넘었을 때 종료 코드 1 (배포 전 기동 시간 회귀 확인용)
+#
+# 사용법: sh docker/startup-time.sh [컨테이너 이름] [최대 허용 시간(초)]
+#   sh docker/startup-time.sh tomcat-project-a 30
+# 자세한 단계별 시간은 Tomcat 로그의 "시작 준비 완료" 줄과 /metrics 의 app_startup_seconds 참고
+
+CONTAINER=${1:-tomcat-project-a}
+MAX_SECONDS=${2:-}
+URL=${READY_URL:-http://localhost:8083/ready}
+TIMEOUT=${TIMEOUT:-300}
+
+start=$(date +%s)
+docker restart "$CONTAINER" > /dev/null || exit 2
+
+while :; do
+    status=$(curl -s -o /dev/null -w '%{http_code}' "$URL")
+    if [ "$status" = "200" ]; then
+        break
+    fi
+    if [ $(( $(date +%s) - start )) -ge "$TIMEOUT" ]; then
+        echo "준비 시간 초과 : ${TIMEOUT}초 (마지막 응답 ${status})" >&2
+        exit 2
+    fi
+    sleep 0.5
+done
+
+elapsed=$(( $(date +%s) - start ))
+echo "기동 시간 : ${elapsed}초 ($CONTAINER, $URL)"
+
+if [ -n "$MAX_SECONDS" ] && [ "$elapsed" -gt "$MAX_SECONDS" ]; then
+    echo "기동 시간이 허용 시간(${MAX_SECONDS}초)을 넘었습니다." >&2
+    exit 1
+fi
@@ -0,0 +1,227 @@
+package com.example.spring.admission;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.spring.metrics.HikariPoolMetrics;
+import com.example.spring.metrics.MetricsRegistry;
+
+/**
+ * DB 혼잡도에 따라 요청 수를 조절하는 필터 (web.xml 에서 DelegatingFilterProxy로 DispatcherServlet 앞에 등록)
+ *
+ * DB가 느려지면 요청이 커넥션 풀(connectionTimeout 30초) 앞에 쌓였다가 한꺼번에 시간 초과되므로,
+ * 동시에 처리하는 요청 수를 DB가 감당하는 만큼으로 제한하고 넘는 요청은 기다리게 하지 않고 바로 503(Retry-After)으로 돌려보냄
+ *
+ * - 제한은 AIMD(AimdLimit)로 자동 조정: 최근 커넥션 획득 대기 시간(HikariPoolMetrics)이 poolWaitTargetMillis를 넘거나,
+ *   조회 요청이 latencyTargetMillis보다 오래 걸리거나, 503으로 끝난 요청이 있으면 줄이고, 그렇지 않으면 조금씩 늘림
+ * - 우선순위: 게시글 목록/상세 조회와 글쓰기는 제한 전체를, 검색과 전체 내보내기는 제한의 lowPriorityShare만 사용
+ *   (혼잡할 때 무거운 요청부터 거절되어 일반 조회의 지연이 유지됨)
+ * - 비동기 요청(DeferredResult)은 AsyncListener로 응답이 끝난 시점에 반환
+ * - 정적 파일, /metrics, /ready, /admin/ 요청은 제한하지 않음 (관리 작업은 각자 동시 실행 수를 제한함)
+ * - 자동완성(/posts/suggest)은 DB를 사용하지 않고 입력할 때마다 호출되므로 제한하지 않음
+ * - 지표: admission_limit, admission_in_flight{route}, admission_rejected_total{route} (/metrics)
+ */
+@Component("admissionControlFilter")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    @Autowired
+    HikariPoolMetrics hikariPoolMetrics;
+
+    @Value("${admission.enabled:true}")
+    private boolean enabled;                // false면 제한 없이 모든 요청 처리
+
+    @Value("${admission.initialLimit:20}")
+    private int initialLimit;               // 시작 시 동시 처리 수 제한
+
+    @Value("${admission.minLimit:4}")
+    private int minLimit;                   // 동시 처리 수 제한 하한
+
+    @Value("${admission.maxLimit:200}")
+    private int maxLimit;                   // 동시 처리 수 제한 상한 (Tomcat maxThreads)
+
+    @Value("${admission.backoffRatio:0.9}")
+    private double backoffRatio;            // 과부하 시 제한에 곱할 비율
+
+    @Value("${admission.poolWaitTargetMillis:50}")
+    private double poolWaitTargetMillis;    // 최근 커넥션 획득 대기 시간이 이보다 길면 과부하
+
+    @Value("${admission.latencyTargetMillis:1000}")
+    private long latencyTargetMillis;       // 조회 요청 처리 시간이 이보다 길면 과부하
+
+    @Value("${admission.lowPriorityShare:0.5}")
+    private double lowPriorityShare;        // 검색/내보내기가 사용할 수 있는 제한의 비율
+
+    @Value("${admission.retryAfterSeconds:1}")
+    private int retryAfterSeconds;          // 거절 응답의 Retry-After 헤더 값
+
+    private AimdLimit limit;
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    @Override
+    protected void initFilterBean() {
+        limit = new AimdLimit(initialLimit, minLimit, maxLimit, backoffRatio);
+        MetricsRegistry.get().gauge("admission_limit", "동시 처리 수 제한 (AIMD로 조정)", "", limit::limit);
+        logger.info("요청 수 제한 {} : 시작 제한 {} ({}~{}), 커넥션 대기 기준 {}ms, 응답 시간 기준 {}ms",
+            enabled ? "사용" : "사용 안 함", limit.limit(), minLimit, maxLimit, poolWaitTargetMillis, latencyTargetMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = path(request);
+        return path.startsWith("/resources/") || path.equals("/metrics") || path.equals("/ready") || path.startsWith("/admin/")
+            || path.equals("/posts/suggest");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        Route route = routes.computeIfAbsent(route(request), Route::new);
+        if (!limit.tryAcquire(route.share)) {
+            route.rejected.increment();
+            response.setHeader("Retry-After", Integer.toString(retryAfterSeconds));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        Permit permit = new Permit(route, response);
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // 응답은 작업 스레드의 결과를 받아 다시 디스패치된 뒤에 끝남
+                request.getAsyncContext().addListener(permit);
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.release(response.getStatus());
+            }
+        }
+    }
+
+    /**
+     * 요청 경로를 제한/지표 구분용 이름으로 분류
+     */
+    private static String route(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return "write";
+        }
+
+        String path = path(request);
+        if (path.startsWith("/api/")) {
+            path = path.substring(4);
+        }
+        if (path.equals("/posts/export") || path.equals("/bbses/all")) {
+            return "export";
+        }
+        if (path.equals("/posts/search") || path.equals("/posts") && StringUtils.hasText(request.getParameter("searchKeyword"))) {
+            return "search";
+        }
+        if (path.equals("/posts") || path.equals("/bbses")) {
+            return path.substring(1) + ".list";
+        }
+        if (path.matches("/(posts|bbses)/\\d+")) {
+            return path.substring(1, path.indexOf('/', 1)) + ".read";
+        }
+        return "other";
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 분류 하나의 우선순위와 지표
+     */
+    private final class Route {
+        private final double share;             // 사용할 수 있는 제한의 비율
+        private final boolean latencySignal;    // 처리 시간을 과부하 신호로 쓰는지 여부 (오래 걸리는 것이 정상인 요청은 제외)
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder rejected;
+
+        private Route(String name) {
+            boolean lowPriority = name.equals("search") || name.equals("export");
+            share = lowPriority ? lowPriorityShare : 1.0;
+            latencySignal = name.endsWith(".list") || name.endsWith(".read");
+
+            MetricsRegistry registry = MetricsRegistry.get();
+            String labels = MetricsRegistry.label("route", name);
+            registry.gauge("admission_in_flight", "처리 중인 요청 수", labels, inFlight::get);
+            rejected = registry.counter("admission_rejected_total", "동시 처리 수 제한으로 거절한 요청 수", labels);
+        }
+    }
+
+    /**
+     * 허가 하나 (동기 요청은 필터에서, 비동기 요청은 AsyncListener로 한 번만 반환)
+     */
+    private final class Permit implements AsyncListener {
+        private final Route route;
+        private final HttpServletResponse response;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Route route, HttpServletResponse response) {
+            this.route = route;
+            this.response = response;
+            route.inFlight.incrementAndGet();
+        }
+
+        private void release(int status) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            route.inFlight.decrementAndGet();
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+            boolean overloaded = status == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                || hikariPoolMetrics.recentAcquireMillis() > poolWaitTargetMillis
+                || route.latencySignal && elapsedMillis > latencyTargetMillis;
+            limit.release(startedNanos, overloaded);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 같은 요청에서 비동기를 다시 시작하면 리스너를 다시 등록해야 하지만 이 애플리케이션에서는 사용하지 않음
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.spring.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 처리 수 제한 (AIMD: 가산 증가, 곱셈 감소)
+ *
+ * - 과부하 신호 없이 끝난 요청이 있고 제한의 절반 이상을 쓰고 있으면 제한을 조금씩 늘림 (제한만큼 끝날 때마다 약 +1)
+ * - 과부하 신호(커넥션 대기 증가, 응답 지연, 503)와 함께 끝난 요청이 있으면 제한을 backoffRatio배로 줄임
+ * - 한 번 줄인 뒤에는 그 이후에 시작한 요청의 신호로만 다시 줄임 (같은 혼잡 구간에서 끝난 요청들이 제한을 연달아 깎지 않도록)
+ */
+final class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 처리 시작 허가
+     * @param share 사용할 수 있는 제한의 비율 (우선순위가 낮은 요청은 1보다 작게 하여 나머지를 높은 우선순위 요청 몫으로 남김)
+     * @return 허가되면 true (끝나면 반드시 release 호출)
+     */
+    boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 종료와 제한 조정
+     * @param startedNanos 처리 시작 시각 (System.nanoTime)
+     * @param overloaded 과부하 신호가 있었는지 여부
+     */
+    void release(long startedNanos, boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (overloaded) {
+                if (startedNanos - lastDecreaseNanos > 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = System.nanoTime();
+                }
+            } else if (current * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
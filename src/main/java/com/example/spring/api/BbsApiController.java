@@ -0,0 +1,130 @@
+package com.example.spring.api;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.example.spring.bbs.BbsDto;
+import com.example.spring.bbs.BbsService;
+import com.example.spring.bbs.BbsSummary;
+import com.example.spring.libs.JsonWriter;
+import com.example.spring.libs.PageResult;
+
+/**
+ * 게시판(bbs) 조회용 JSON API 컨트롤러
+ *
+ * - 화면(BbsController)과 같은 BbsService를 사용 (커서 방식 페이징)
+ * - 응답 형식, 필드 선택(fields), gzip 압축은 게시글 API(PostApiController)와 동일
+ * - 비밀번호는 출력 필드에 없으므로 응답에 포함되지 않음
+ */
+@Controller
+@RequestMapping("/api/bbses")
+public class BbsApiController {
+
+    private static final int MAX_PAGE_SIZE = 100;   // 한 번에 조회할 수 있는 최대 게시글 수
+
+    /** 목록 응답의 게시글 필드 */
+    private static final JsonFields<BbsSummary> SUMMARY_FIELDS = new JsonFields<BbsSummary>()
+        .add("id", (json, bbs) -> json.value(bbs.getId()))
+        .add("title", (json, bbs) -> json.value(bbs.getTitle()))
+        .add("username", (json, bbs) -> json.value(bbs.getUsername()))
+        .add("excerpt", (json, bbs) -> json.value(bbs.getExcerpt()))
+        .add("createdAt", (json, bbs) -> json.value(bbs.getCreatedAt()))
+        .add("updatedAt", (json, bbs) -> json.value(bbs.getUpdatedAt()));
+
+    /** 상세 응답의 게시글 필드 */
+    private static final JsonFields<BbsDto> DETAIL_FIELDS = new JsonFields<BbsDto>()
+        .add("id", (json, bbs) -> json.value(bbs.getId()))
+        .add("title", (json, bbs) -> json.value(bbs.getTitle()))
+        .add("content", (json, bbs) -> json.value(bbs.getContent()))
+        .add("username", (json, bbs) -> json.value(bbs.getUsername()))
+        .add("createdAt", (json, bbs) -> json.value(bbs.getCreatedAt()))
+        .add("updatedAt", (json, bbs) -> json.value(bbs.getUpdatedAt()));
+
+    @Autowired
+    BbsService bbsService;
+
+    /**
+     * 게시글 목록 조회
+     *
+     * 응답 예: {"bbses":[{"id":3,"title":"..."}],"pagination":{"cursorMode":true,"size":10,"nextCursor":3,"prevCursor":null}}
+     *
+     * @param size 한 페이지의 게시글 수 (기본값: 10, 최대 100)
+     * @param after 이 ID보다 오래된 게시글부터 조회 (다음 페이지 커서), null 허용
+     * @param before 이 ID보다 최신 게시글부터 조회 (이전 페이지 커서), null 허용
+     * @param fields 출력할 필드 (쉼표로 구분, 기본값: 전체)
+     */
+    @GetMapping("")
+    public void listGet(
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) Integer after,
+        @RequestParam(required = false) Integer before,
+        @RequestParam(required = false) String fields,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, "size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+            return;
+        }
+
+        JsonFields.Selection<BbsSummary> selection;
+        try {
+            selection = SUMMARY_FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        PageResult<BbsSummary> result = bbsService.listPage(after, before, size);
+
+        try (JsonWriter json = JsonResponse.open(request, response)) {
+            json.beginObject();
+            json.name("bbses");
+            selection.writeAll(json, result.getItems());
+            json.name("pagination");
+            JsonResponse.writePagination(json, result.getPagination());
+            json.endObject();
+        }
+    }
+
+    /**
+     * 게시글 상세 조회
+     *
+     * @param id 게시글 ID
+     * @param fields 출력할 필드 (쉼표로 구분, 기본값: 전체)
+     */
+    @GetMapping("/{id}")
+    public void readGet(
+        @PathVariable("id") int id,
+        @RequestParam(required = false) String fields,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        JsonFields.Selection<BbsDto> selection;
+        try {
+            selection = DETAIL_FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        BbsDto bbs = bbsService.read(id);
+        if (bbs == null) {
+            JsonResponse.error(response, HttpServletResponse.SC_NOT_FOUND, "게시글이 존재하지 않습니다.");
+            return;
+        }
+
+        try (JsonWriter json = JsonResponse.open(request, response)) {
+            selection.write(json, bbs);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.spring.api;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.spring.libs.JsonWriter;
+
+/**
+ * JSON 응답에 출력할 수 있는 필드 목록 (필드 이름 → 출력 방법)
+ *
+ * - 등록한 필드만 출력되므로 비밀번호처럼 등록하지 않은 값은 어떤 요청으로도 응답에 나가지 않음
+ * - fields 파라미터(예: "id,title")로 출력할 필드를 고르며, 고른 결과(Selection)는 요청마다 한 번만 만들어 모든 항목에 사용
+ *
+ * @param <T> 출력할 항목 타입 (예: PostSummary)
+ */
+public final class JsonFields<T> {
+
+    /**
+     * 항목 하나에서 필드 값을 꺼내 출력하는 방법
+     */
+    @FunctionalInterface
+    public interface Field<T> {
+        void write(JsonWriter json, T item) throws IOException;
+    }
+
+    private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+
+    /**
+     * 필드 등록 (등록한 순서대로 출력)
+     */
+    public JsonFields<T> add(String name, Field<T> field) {
+        fields.put(name, field);
+        return this;
+    }
+
+    /**
+     * 출력할 필드 선택
+     * @param names 쉼표로 구분한 필드 이름 (null 또는 빈 문자열이면 전체 필드)
+     * @return 선택한 필드 (요청에 적힌 순서, 중복 제거)
+     * @throws IllegalArgumentException 등록되지 않은 필드 이름이 있는 경우
+     */
+    public Selection<T> select(String names) {
+        if (names == null || names.trim().isEmpty()) {
+            return new Selection<>(new ArrayList<>(fields.keySet()), new ArrayList<>(fields.values()));
+        }
+
+        List<String> selectedNames = new ArrayList<>();
+        List<Field<T>> selectedFields = new ArrayList<>();
+        for (String name : names.split(",")) {
+            name = name.trim();
+            if (name.isEmpty() || selectedNames.contains(name)) {
+                continue;
+            }
+            Field<T> field = fields.get(name);
+            if (field == null) {
+                throw new IllegalArgumentException("알 수 없는 필드입니다 : " + name + " (사용 가능: " + String.join(",", fields.keySet()) + ")");
+            }
+            selectedNames.add(name);
+            selectedFields.add(field);
+        }
+        return new Selection<>(selectedNames, selectedFields);
+    }
+
+    /**
+     * 선택한 필드 목록
+     */
+    public static final class Selection<T> {
+        private final String[] names;
+        private final List<Field<T>> fields;
+
+        private Selection(List<String> names, List<Field<T>> fields) {
+            this.names = names.toArray(new String[0]);
+            this.fields = fields;
+        }
+
+        /**
+         * 항목 하나를 선택한 필드만 가진 JSON 객체로 출력
+         */
+        public void write(JsonWriter json, T item) throws IOException {
+            json.beginObject();
+            for (int i = 0; i < names.length; i++) {
+                json.name(names[i]);
+                fields.get(i).write(json, item);
+            }
+            json.endObject();
+        }
+
+        /**
+         * 항목 목록을 JSON 배열로 출력 (null이면 빈 배열)
+         */
+        public void writeAll(JsonWriter json, List<? extends T> items) throws IOException {
+            json.beginArray();
+            if (items != null) {
+                for (T item : items) {
+                    write(json, item);
+                }
+            }
+            json.endArray();
+        }
+    }
+}
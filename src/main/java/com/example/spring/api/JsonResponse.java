@@ -0,0 +1,115 @@
+package com.example.spring.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.example.spring.libs.JsonWriter;
+import com.example.spring.libs.Pagination;
+
+/**
+ * JSON API 응답 출력 도우미
+ *
+ * - 응답을 문자열로 모으지 않고 JsonWriter로 출력 스트림에 바로 씀
+ * - 클라이언트가 Accept-Encoding으로 gzip을 허용하면 gzip으로 압축하여 전송
+ */
+public final class JsonResponse {
+
+    private static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private JsonResponse() {
+    }
+
+    /**
+     * 응답 헤더 설정 후 JSON 출력기 생성
+     * - 사용 후 반드시 close() (gzip 스트림의 마지막 블록을 써야 함)
+     *
+     * @param request 요청 객체 (Accept-Encoding 확인용)
+     * @param response 응답 객체
+     * @return 응답 본문에 쓰는 JSON 출력기
+     */
+    public static JsonWriter open(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Vary", "Accept-Encoding");
+
+        OutputStream out = response.getOutputStream();
+        if (acceptsGzip(request.getHeader("Accept-Encoding"))) {
+            response.setHeader("Content-Encoding", "gzip");
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return new JsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    /**
+     * 오류 응답 출력 ({"error":"..."}, 압축하지 않음)
+     * @param response 응답 객체
+     * @param status HTTP 상태 코드 (예: 400, 404)
+     * @param message 오류 메시지
+     */
+    public static void error(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+
+        try (JsonWriter json = new JsonWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8))) {
+            json.beginObject().name("error").value(message).endObject();
+        }
+    }
+
+    /**
+     * 페이지네이션 정보 출력
+     * - 페이지 번호 방식: page, totalCount, totalPages, approximate(전체 게시글 수가 근사값인지)
+     * - 공통: size, nextCursor/prevCursor (다음/이전 페이지는 after/before 파라미터로 조회)
+     */
+    public static void writePagination(JsonWriter json, Pagination pagination) throws IOException {
+        json.beginObject();
+        json.name("cursorMode").value(pagination.isCursorMode());
+        if (!pagination.isCursorMode()) {
+            json.name("page").value(pagination.getCurrentPage());
+            json.name("totalCount").value(pagination.getTotalCount());
+            json.name("totalPages").value(pagination.getTotalPages());
+            json.name("approximate").value(pagination.isApproximate());
+        }
+        json.name("size").value(pagination.getListCountPerPage());
+        json.name("nextCursor").value(pagination.getNextCursor());
+        json.name("prevCursor").value(pagination.getPrevCursor());
+        json.endObject();
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인 (예: "gzip, deflate", "gzip;q=0"은 거부)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            return quality > 0;
+        }
+        return false;
+    }
+}
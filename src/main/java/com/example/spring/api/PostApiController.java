@@ -0,0 +1,175 @@
+package com.example.spring.api;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.example.spring.libs.JsonWriter;
+import com.example.spring.libs.PageResult;
+import com.example.spring.post.PostDto;
+import com.example.spring.post.PostService;
+import com.example.spring.post.PostSummary;
+
+/**
+ * 게시글 조회용 JSON API 컨트롤러
+ *
+ * - 화면(PostController)과 같은 PostService를 사용하므로 검색 색인, 캐시, 페이징 동작이 동일함
+ * - 응답은 JsonWriter로 바로 출력 (중간 Map/문자열 없음), Accept-Encoding에 따라 gzip 압축
+ * - fields 파라미터로 출력할 필드를 고를 수 있음 (예: ?fields=id,title)
+ * - 비밀번호는 출력 필드에 없으므로 응답에 포함되지 않음
+ */
+@Controller
+@RequestMapping("/api/posts")
+public class PostApiController {
+
+    private static final int MAX_PAGE_SIZE = 100;       // 한 번에 조회할 수 있는 최대 게시글 수
+    private static final int PAGE_COUNT_PER_PAGE = 5;   // 화면 목록과 같은 페이지 블록 크기 (전체 게시글 수 계산 범위)
+
+    /** 목록/검색 응답의 게시글 필드 */
+    private static final JsonFields<PostSummary> SUMMARY_FIELDS = new JsonFields<PostSummary>()
+        .add("id", (json, post) -> json.value(post.getId()))
+        .add("title", (json, post) -> json.value(post.getTitle()))
+        .add("username", (json, post) -> json.value(post.getUsername()))
+        .add("excerpt", (json, post) -> json.value(post.getExcerpt()))
+        .add("createdAt", (json, post) -> json.value(post.getCreatedAt()))
+        .add("updatedAt", (json, post) -> json.value(post.getUpdatedAt()));
+
+    /** 상세 응답의 게시글 필드 */
+    private static final JsonFields<PostDto> DETAIL_FIELDS = new JsonFields<PostDto>()
+        .add("id", (json, post) -> json.value(post.getId()))
+        .add("title", (json, post) -> json.value(post.getTitle()))
+        .add("content", (json, post) -> json.value(post.getContent()))
+        .add("username", (json, post) -> json.value(post.getUsername()))
+        .add("createdAt", (json, post) -> json.value(post.getCreatedAt()))
+        .add("updatedAt", (json, post) -> json.value(post.getUpdatedAt()));
+
+    @Autowired
+    PostService postService;
+
+    /**
+     * 게시글 목록 조회
+     *
+     * 응답 예: {"posts":[{"id":3,"title":"..."}],"pagination":{"cursorMode":false,"page":1,...,"nextCursor":3}}
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all"), null 허용
+     * @param searchKeyword 검색어, null 허용
+     * @param page 페이지 번호 (기본값: 1)
+     * @param size 한 페이지의 게시글 수 (기본값: 10, 최대 100)
+     * @param after 이 ID보다 오래된 게시글부터 조회 (다음 페이지 커서), null 허용
+     * @param before 이 ID보다 최신 게시글부터 조회 (이전 페이지 커서), null 허용
+     * @param fields 출력할 필드 (쉼표로 구분, 기본값: 전체)
+     */
+    @GetMapping("")
+    public void listGet(
+        @RequestParam(required = false) String searchType,
+        @RequestParam(required = false) String searchKeyword,
+        @RequestParam(defaultValue = "1") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) Integer after,
+        @RequestParam(required = false) Integer before,
+        @RequestParam(required = false) String fields,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        writeList(searchType, searchKeyword, page, size, after, before, fields, request, response);
+    }
+
+    /**
+     * 게시글 검색 (목록 조회와 같고 검색어가 필수)
+     *
+     * @param q 검색어
+     * @param type 검색 기준 ("title", "content", "username", "all", 기본값: "all")
+     */
+    @GetMapping("/search")
+    public void searchGet(
+        @RequestParam(defaultValue = "") String q,
+        @RequestParam(defaultValue = "all") String type,
+        @RequestParam(defaultValue = "1") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) Integer after,
+        @RequestParam(required = false) Integer before,
+        @RequestParam(required = false) String fields,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        if (q.trim().isEmpty()) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, "검색어(q)가 없습니다.");
+            return;
+        }
+        writeList(type, q, page, size, after, before, fields, request, response);
+    }
+
+    /**
+     * 게시글 상세 조회
+     *
+     * @param id 게시글 ID
+     * @param fields 출력할 필드 (쉼표로 구분, 기본값: 전체)
+     */
+    @GetMapping("/{id}")
+    public void readGet(
+        @PathVariable("id") int id,
+        @RequestParam(required = false) String fields,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        JsonFields.Selection<PostDto> selection;
+        try {
+            selection = DETAIL_FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        PostDto post = postService.read(id);
+        if (post == null) {
+            JsonResponse.error(response, HttpServletResponse.SC_NOT_FOUND, "게시글이 존재하지 않습니다.");
+            return;
+        }
+
+        try (JsonWriter json = JsonResponse.open(request, response)) {
+            selection.write(json, post);
+        }
+    }
+
+    private void writeList(
+        String searchType, String searchKeyword, int page, int size, Integer after, Integer before, String fields,
+        HttpServletRequest request, HttpServletResponse response
+    ) throws IOException {
+        if (page < 1 || size < 1 || size > MAX_PAGE_SIZE) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, "page는 1 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+            return;
+        }
+
+        JsonFields.Selection<PostSummary> selection;
+        try {
+            selection = SUMMARY_FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        PageResult<PostSummary> result;
+        if (after != null || before != null) {
+            result = postService.cursorPage(after, before, size, searchType, searchKeyword);
+        } else {
+            result = postService.listPage(page, size, PAGE_COUNT_PER_PAGE, searchType, searchKeyword);
+        }
+
+        try (JsonWriter json = JsonResponse.open(request, response)) {
+            json.beginObject();
+            json.name("posts");
+            selection.writeAll(json, result.getItems());
+            json.name("pagination");
+            JsonResponse.writePagination(json, result.getPagination());
+            json.endObject();
+        }
+    }
+}
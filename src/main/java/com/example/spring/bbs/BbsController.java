@@ -1,7 +1,11 @@
 package com.example.spring.bbs;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -9,9 +13,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.example.spring.db.DbBulkhead;
+import com.example.spring.libs.ConditionalGet;
+import com.example.spring.libs.RowVersion;
+
 
 
 
@@ -24,25 +37,91 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequestMapping("/bbses")
 public class BbsController {
 
+    private static final Logger logger = LoggerFactory.getLogger(BbsController.class);
+
     @Autowired // BbsService 객체를 자동으로 주입
     BbsService bbsService;
 
+    @Autowired // DB 조회 전용 실행기 (요청 스레드 대신 DB 작업 실행)
+    DbBulkhead dbBulkhead;
+
 
     /**
      * 게시글 목록 화면 요청 처리 (GET 방식)
-     * @param model 뷰에 데이터를 전달하기 위한 객체
-     * @return "bbs/list" 뷰 이름 (bbs/list.jsp)
+     * - 게시글 ID 커서(after/before) 기준으로 한 페이지 분량만 조회
+     * - 목록 버전(DB의 LIST_VERSION, 등록/수정/삭제마다 증가)이 클라이언트의 ETag와 같으면 목록 조회와 렌더링 없이 304 응답
+     *   (삭제는 MAX 값을 바꾸지 않으므로 목록에는 Last-Modified를 보내지 않음)
+     * - DB 조회는 DbBulkhead 작업 스레드에서 실행 (비동기 요청, 혼잡하면 503)
+     * @param after 이 ID보다 오래된 게시글부터 조회 (다음 페이지 커서), null 허용
+     * @param before 이 ID보다 최신 게시글부터 조회 (이전 페이지 커서), null 허용
+     * @param webRequest 조건부 요청 헤더 확인 및 응답 헤더 설정용
+     * @return "bbs/list" 뷰 (bbs/list.jsp, 변경이 없으면 null)를 돌려줄 비동기 결과
      */
     @GetMapping("")
-    public String listGet(Model model) {
-        // 서비스 계층을 통해 게시글 목록을 가져옴
-        List<BbsDto> bbses = bbsService.list();
+    public DeferredResult<ModelAndView> listGet(
+        @RequestParam(required = false) Integer after,
+        @RequestParam(required = false) Integer before,
+        ServletWebRequest webRequest
+    ) {
+        return dbBulkhead.submit("bbses.list", () -> {
+            // 게시글이 하나도 바뀌지 않았으면 목록 조회와 렌더링 없이 304 응답
+            RowVersion version = bbsService.listVersion();
+            if (ConditionalGet.notModified(webRequest, ConditionalGet.tag("bbses", version), null)) {
+                return null;
+            }
+
+            int listCountPerPage = 10;  // 한 페이지에서 불러올 게시글 수
+
+            // 서비스 계층을 통해 게시글 목록 + 페이징 정보를 가져옴
+            Map<String, Object> result = bbsService.list(after, before, listCountPerPage);
+
+            // "bbses"라는 이름으로 게시글 목록 데이터를 모델에 담아 bbs/list.jsp 의 화면을 렌더링
+            ModelAndView mav = new ModelAndView("bbs/list");
+            mav.addObject("bbses", result.get("bbses"));
+            mav.addObject("pagination", result.get("pagination"));
+            return mav;
+        });
+    }
+
+    /**
+     * 게시글 전체 보기 화면 요청 처리 (GET 방식)
+     * - 전체 게시글을 List로 모으지 않고 DB 커서에서 읽는 즉시 렌더링하여 버퍼 단위로 전송 (chunked)
+     * - 커서는 뷰 렌더링이 끝난 뒤(요청 완료 시) 닫힘
+     * - 목록 버전이 클라이언트의 ETag와 같으면 커서를 열지 않고 304 응답
+     * @param model 뷰에 데이터를 전달하기 위한 객체
+     * @param redirectAttributes 동시 실행 수 초과 시 메시지를 전달하는 객체
+     * @param webRequest 조건부 요청 헤더 확인 및 응답 헤더 설정용
+     * @return "bbs/all" 뷰 이름 (bbs/all.jsp), 동시 실행 수 초과 시 목록으로 리다이렉트, 변경이 없으면 null (304)
+     */
+    @GetMapping("/all")
+    public String listAllGet(Model model, RedirectAttributes redirectAttributes, ServletWebRequest webRequest) {
+        RowVersion version = bbsService.listVersion();
+        if (ConditionalGet.notModified(webRequest, ConditionalGet.tag("bbses-all", version), null)) {
+            return null;
+        }
 
-        // "bbses"라는 이름으로 게시글 목록 데이터를 모델에 담아 뷰로 전달
-        model.addAttribute("bbses", bbses);
+        Cursor<BbsSummary> cursor = bbsService.openListAll();
+        if (cursor == null) {
+            redirectAttributes.addFlashAttribute("errorMessage", "전체 보기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            return "redirect:/bbses";
+        }
+
+        // JSP 렌더링이 끝난 뒤 커서(DB 커넥션) 반환
+        RequestContextHolder.currentRequestAttributes().registerDestructionCallback(
+            "bbsListAllCursor", () -> closeCursor(cursor), RequestAttributes.SCOPE_REQUEST);
 
-        // bbs/list.jsp 의 화면을 렌더링
-        return "bbs/list";
+        // c:forEach가 한 건씩 꺼내 쓰도록 Iterator로 전달
+        model.addAttribute("bbses", cursor.iterator());
+
+        return "bbs/all";
+    }
+
+    private static void closeCursor(Cursor<BbsSummary> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            logger.error("게시글 전체 보기 커서 닫기 오류 : {}", e.getMessage(), e);
+        }
     }
     /**
      * 게시글 등록 화면 요청 처리 (GET 방식)
@@ -78,20 +157,27 @@ public class BbsController {
 
     /**
      * 게시글 상세보기 요청 처리 (GET 방식)
+     * - 게시글 버전(ID, VERSION, 수정일시)이 클라이언트의 ETag/If-Modified-Since와 같으면 본문 조회와 렌더링 없이 304 응답
+     * - DB 조회는 DbBulkhead 작업 스레드에서 실행 (비동기 요청, 혼잡하면 503)
      * @param id 상세 조회할 게시글 ID
-     * @param model 뷰에 전달할 게시글 데이터를 담는 객체
-     * @return 상세보기 화면 뷰 이름 ("bbs/read.jsp")
+     * @param webRequest 조건부 요청 헤더 확인 및 응답 헤더 설정용
+     * @return 상세보기 화면 뷰 ("bbs/read.jsp", 변경이 없으면 null)를 돌려줄 비동기 결과
      */
     @GetMapping("/{id}")
-    public String readGet(@PathVariable("id") int id, Model model) {
-        // 서비스 계층을 통해 게시글 ID에 해당하는 게시글 데이터 조회
-        BbsDto bbs = bbsService.read(id);
-
-        // 조회한 게시글 데이터를 모델에 담아 뷰로 전달
-        model.addAttribute("bbs", bbs);
-
-        // 게시글 상세보기 화면 렌더링
-        return "bbs/read";
+    public DeferredResult<ModelAndView> readGet(@PathVariable("id") int id, ServletWebRequest webRequest) {
+        return dbBulkhead.submit("bbses.read", () -> {
+            // 게시글이 바뀌지 않았으면 본문 조회와 렌더링 없이 304 응답
+            RowVersion version = bbsService.version(id);
+            if (version != null && ConditionalGet.notModified(webRequest, ConditionalGet.tag("bbs", version), version.getUpdatedAt())) {
+                return null;
+            }
+
+            // 서비스 계층을 통해 게시글 ID에 해당하는 게시글 데이터 조회
+            BbsDto bbs = bbsService.read(id);
+
+            // 조회한 게시글 데이터를 모델에 담아 게시글 상세보기 화면 렌더링
+            return new ModelAndView("bbs/read", "bbs", bbs);
+        });
     }
 
     /**
@@ -1,15 +1,28 @@
 package com.example.spring.bbs;
 
+import java.sql.Statement;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import com.example.spring.libs.ClosingCursor;
+import com.example.spring.libs.ContentCodec;
+import com.example.spring.libs.ContentRow;
+import com.example.spring.libs.RowVersion;
+
 @Component
 public class BbsDao {
 
@@ -21,17 +34,31 @@ public class BbsDao {
     @Autowired
     private SqlSessionTemplate sqlSessionTemplate;
 
+    @Value("${content.compress.thresholdBytes:8192}")
+    private int compressThresholdBytes;     // 이 크기(UTF-8 바이트) 이상인 내용은 압축하여 CONTENT_BLOB에 저장 (0이면 압축하지 않음)
+
+    private volatile SqlSessionTemplate batchSqlSessionTemplate; // 압축 변환용 (ExecutorType.BATCH)
+
     /**
-     * 게시글 목록을 데이터베이스에서 조회하는 메서드
-     * MyBatis 매퍼(bbsMapper.xml)의 list 구문을 호출하여 전체 게시글을 조회함
+     * 커서(게시글 ID)를 기준으로 게시글 목록을 조회하는 메서드 (keyset 페이징)
+     * - 전체 테이블이 아닌 한 페이지 분량(limit)만 조회하므로 테이블 크기와 관계없이 메모리 사용량이 일정함
+     * - before가 주어지면 오래된 순(ASC)으로 반환되므로 호출하는 쪽에서 역순 정렬 필요
      *
-     * @return 게시글(BbsDto) 리스트, 조회 실패 시 null 또는 빈 리스트 반환
+     * @param after 이 ID보다 작은 게시글을 조회 (다음 페이지), null 허용
+     * @param before 이 ID보다 큰 게시글을 조회 (이전 페이지), null 허용
+     * @param limit 조회할 최대 게시글 수
+     * @return 게시글 요약(BbsSummary) 리스트 (CONTENT/PASSWORD 제외), 조회 실패 시 null 반환
      */
-    public List<BbsDto> list() {
-        List<BbsDto> bbses = null;
+    public List<BbsSummary> listByCursor(Integer after, Integer before, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("after", after);
+        params.put("before", before);
+        params.put("limit", limit);
+
+        List<BbsSummary> bbses = null;
 
         try {
-            bbses = sqlSessionTemplate.selectList("bbsMapper.list");
+            bbses = sqlSessionTemplate.selectList("bbsMapper.listByCursor", params);
         } catch (DataAccessException e) {
             logger.error("게시글 목록 오류 : {}", e.getMessage(), e);
         }
@@ -39,6 +66,25 @@ public class BbsDao {
         return bbses;
     }
 
+    /**
+     * 전체 게시글을 한 건씩 읽는 커서를 여는 메서드 (전체 보기 화면용)
+     * - 결과를 List로 모으지 않고 fetchSize 단위로 DB에서 읽어오므로 메모리 사용량이 일정함
+     * - 반환된 커서를 닫을 때까지 DB 커넥션 1개를 사용하므로 사용 후 반드시 close() 호출
+     *
+     * @return 게시글 요약 커서 (닫으면 SqlSession도 함께 닫힘)
+     */
+    public Cursor<BbsSummary> openListAllCursor() {
+        // SqlSessionTemplate의 커서는 호출이 끝나면 닫히므로 세션을 직접 열어 커서와 함께 반환
+        SqlSession session = sqlSessionTemplate.getSqlSessionFactory().openSession();
+        try {
+            Cursor<BbsSummary> cursor = session.selectCursor("bbsMapper.listAll");
+            return new ClosingCursor<>(cursor, session);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
     /**
      * 게시글을 데이터베이스에 저장하는 메서드 (MyBatis 기반)
      * @param bbs 사용자가 작성한 게시글 데이터
@@ -49,6 +95,7 @@ int result = -1;
         try {
             // MyBatis 매퍼의 bbsMapper.create 구문 실행
             // useGeneratedKeys="true"와 keyProperty="id"가 설정되어 있어 bbs.id에 자동으로 삽입된 ID가 주입됨
+            bbs.setContentBlob(ContentCodec.compress(bbs.getContent(), compressThresholdBytes));
             result = sqlSessionTemplate.insert("bbsMapper.create", bbs);
 
         } catch (DataAccessException e) {
@@ -79,18 +126,91 @@ int result = -1;
 
         return bbs;
     }
+
+    /**
+     * 수정/삭제 전 비밀번호 확인용으로 게시글을 조회하는 메서드
+     * - 내용(CONTENT)을 읽지 않고 ID, 비밀번호, VERSION만 조회 (bbsMapper.credential)
+     *
+     * @param id 조회할 게시글의 ID
+     * @return BbsDto 객체 (내용은 채워지지 않음), 게시글이 없거나 실패 시 null 반환
+     */
+    public BbsDto readCredential(int id) {
+        BbsDto bbs = null;
+
+        try {
+            bbs = sqlSessionTemplate.selectOne("bbsMapper.credential", id);
+        } catch (DataAccessException e) {
+            logger.error("게시글 비밀번호 확인 오류 : {}", e.getMessage(), e);
+        }
+
+        return bbs;
+    }
+
+    /**
+     * 게시글 버전(ID, VERSION, 수정일시)만 조회하는 메서드 (조건부 GET용)
+     *
+     * @param id 조회할 게시글의 ID
+     * @return 게시글 버전, 없거나 조회 실패 시 null 반환
+     */
+    public RowVersion version(int id) {
+        RowVersion version = null;
+
+        try {
+            version = sqlSessionTemplate.selectOne("bbsMapper.version", id);
+        } catch (DataAccessException e) {
+            logger.error("게시글 버전 조회 오류 : {}", e.getMessage(), e);
+        }
+
+        return version;
+    }
+
+    /**
+     * 게시글 목록 버전(LIST_VERSION)을 조회하는 메서드 (조건부 GET용)
+     *
+     * @return 목록 버전 (version만 채워짐), 버전 행이 없거나 조회 실패 시 null 반환
+     */
+    public RowVersion listVersion() {
+        RowVersion version = null;
+
+        try {
+            version = sqlSessionTemplate.selectOne("bbsMapper.listVersion");
+        } catch (DataAccessException e) {
+            logger.error("게시글 목록 버전 조회 오류 : {}", e.getMessage(), e);
+        }
+
+        return version;
+    }
+
+    /**
+     * 게시글 목록 버전(LIST_VERSION)을 1 올리는 메서드 (등록/수정/삭제 후 호출)
+     * - 모든 서버가 같은 값을 보므로 다른 서버의 목록 ETag도 바뀜
+     *
+     * @return 변경된 행 수, 실패 시 -1 반환
+     */
+    public int bumpListVersion() {
+        int result = -1;
+
+        try {
+            result = sqlSessionTemplate.update("bbsMapper.bumpListVersion");
+        } catch (DataAccessException e) {
+            logger.error("게시글 목록 버전 증가 오류 : {}", e.getMessage(), e);
+        }
+
+        return result;
+    }
         /**
      * 게시글을 수정하는 메서드
      * MyBatis 매퍼(bbsMapper.update)를 호출하여 게시글 정보를 DB에 반영함
      *
-     * @param bbs 수정할 게시글 정보 (ID 포함)
-     * @return 수정된 행 수 (성공 시 1, 실패 또는 오류 시 -1)
+     * @param bbs 수정할 게시글 정보 (ID, 비밀번호 확인 시 읽은 VERSION 포함)
+     * @return 수정된 행 수 (성공 시 1, 그 사이 다른 요청이 수정/삭제했으면 0, 오류 시 -1)
      */
     public int update(BbsDto bbs) {
         int result = -1;
 
         try {
             // bbsMapper.xml의 <update id="update"> 구문 실행
+            bbs.setContentBlob(ContentCodec.compress(bbs.getContent(), compressThresholdBytes));
             result = sqlSessionTemplate.update("bbsMapper.update", bbs);
         } catch (DataAccessException e) {
             // SQL 실행 중 오류 발생 시 로그 출력
@@ -104,14 +224,19 @@ int result = -1;
      * MyBatis 매퍼(bbsMapper.delete)를 호출하여 ID에 해당하는 게시글을 삭제함
      *
      * @param id 삭제할 게시글의 ID
-     * @return 삭제된 행 수 (성공 시 1, 실패 또는 예외 시 -1)
+     * @param version 비밀번호 확인 시 읽은 VERSION
+     * @return 삭제된 행 수 (성공 시 1, 그 사이 다른 요청이 수정/삭제했으면 0, 예외 시 -1)
      */
-    public int delete(int id) {
+    public int delete(int id, int version) {
         int result = -1;
 
         try {
+            Map<String, Object> params = new HashMap<>();
+            params.put("id", id);
+            params.put("version", version);
+
             // bbsMapper.xml의 <delete id="delete"> 구문 실행
-            result = sqlSessionTemplate.delete("bbsMapper.delete", id);
+            result = sqlSessionTemplate.delete("bbsMapper.delete", params);
         } catch (DataAccessException e) {
             // 예외 발생 시 로그 출력
             logger.error("게시글 삭제 오류 : {}", e.getMessage(), e);
@@ -119,4 +244,65 @@ int result = -1;
 
         return result;
     }
+
+    /**
+     * 압축 변환 대상 게시글 조회 (기존 게시글 압축 변환용)
+     * - afterId보다 큰 ID 중 아직 압축하지 않았고 내용이 기준 크기 이상인 게시글을 ID 순으로 조회
+     *
+     * @param afterId 이 ID 다음부터 조회 (처음에는 0)
+     * @param limit 조회할 최대 게시글 수
+     * @return 게시글 ID와 내용 목록, 조회 실패 시 null 반환
+     */
+    public List<ContentRow> compressCandidates(int afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterId", afterId);
+        params.put("minLength", compressThresholdBytes);
+        params.put("limit", limit);
+
+        List<ContentRow> rows = null;
+        try {
+            rows = sqlSessionTemplate.selectList("bbsMapper.compressCandidates", params);
+        } catch (DataAccessException e) {
+            logger.error("게시글 압축 대상 조회 오류 : {}", e.getMessage(), e);
+        }
+        return rows;
+    }
+
+    /**
+     * 압축한 내용을 JDBC 배치로 한 번에 저장 (기존 게시글 압축 변환용)
+     * - 조회 이후 내용이 수정된 게시글은 건너뜀 (수정일시는 바꾸지 않음)
+     * - 반드시 트랜잭션 안에서 호출해야 하며, 실패 시 DataAccessException을 그대로 던짐
+     *
+     * @param rows contentBlob을 채운 게시글 목록
+     * @return 저장된 게시글 수
+     */
+    public int storeCompressed(List<ContentRow> rows) {
+        SqlSessionTemplate batch = batchSqlSessionTemplate();
+        for (ContentRow row : rows) {
+            batch.update("bbsMapper.storeCompressed", row);
+        }
+
+        int stored = 0;
+        for (BatchResult result : batch.flushStatements()) {
+            for (int count : result.getUpdateCounts()) {
+                // SUCCESS_NO_INFO(-2)는 건수를 알 수 없으므로 성공으로 셈
+                stored += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * 압축 기준 크기 (UTF-8 바이트, 0이면 압축하지 않음)
+     */
+    public int compressThresholdBytes() {
+        return compressThresholdBytes;
+    }
+
+    private SqlSessionTemplate batchSqlSessionTemplate() {
+        if (batchSqlSessionTemplate == null) {
+            batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionTemplate.getSqlSessionFactory(), ExecutorType.BATCH);
+        }
+        return batchSqlSessionTemplate;
+    }
 }
@@ -1,37 +1,139 @@
 package com.example.spring.bbs;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
-
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.spring.db.ReplicaRead;
+import com.example.spring.libs.ClosingCursor;
+import com.example.spring.libs.Excerpt;
+import com.example.spring.libs.PageResult;
+import com.example.spring.libs.Pagination;
+import com.example.spring.libs.RowVersion;
+
 /**
  * 게시글 관련 비즈니스 로직을 처리하는 서비스 클래스
  * 컨트롤러와 DAO 사이에서 중간 역할을 수행
+ * 조회 메서드(@ReplicaRead)는 복제본 DB, 쓰기와 비밀번호 확인은 원본 DB를 사용
  */
 @Service // Spring이 이 클래스를 서비스 컴포넌트로 인식하여 Bean으로 등록
-public class BbsService {
+public class BbsService implements InitializingBean {
 
     @Autowired // BbsDao 객체를 자동으로 주입받음
     BbsDao bbsDao;
 
+    @Value("${bbs.listAll.maxConcurrent:2}")
+    private int listAllMaxConcurrent;   // 전체 보기(스트리밍) 동시 실행 수 (실행 중에는 DB 커넥션을 계속 사용)
+
+    private Semaphore listAllPermits;
+
+
+    @Override
+    public void afterPropertiesSet() {
+        listAllPermits = new Semaphore(listAllMaxConcurrent);
+    }
+
     /**
      * 비밀번호 검증 메서드
+     * - 내용 없이 ID, 비밀번호, VERSION만 조회 (bbsMapper.credential)
      * @param bbs 사용자가 입력한 게시글 정보(ID, 비밀번호 포함)
-     * @return 비밀번호 일치 여부 (true: 일치, false: 불일치 또는 게시글 없음)
+     * @return 비밀번호가 일치하면 수정/삭제 전 원본 게시글(ID, 비밀번호, VERSION), 불일치 또는 게시글 없음이면 null
+     *         (저장된 비밀번호가 NULL이거나 입력한 비밀번호가 없으면 불일치)
+     */
+    private BbsDto verifyPassword(BbsDto bbs) {
+        BbsDto originalBbs = bbsDao.readCredential(bbs.getId());
+        return originalBbs != null && bbs.getPassword() != null && bbs.getPassword().equals(originalBbs.getPassword()) ? originalBbs : null;
+    }
+
+    /**
+     * 커서(게시글 ID) 기반으로 게시글 목록 한 페이지를 조회하는 메서드 (keyset 페이징)
+     *
+     * - 전체 게시글 대신 한 페이지 분량만 조회하므로 테이블이 커져도 메모리 사용량과 응답 시간이 일정함
+     * - 전체 게시글 수(COUNT)를 조회하지 않고, 한 건을 더 읽어 다음/이전 페이지 존재 여부만 판단
+     *
+     * @param after 이 ID보다 오래된 게시글 조회 (다음 페이지), null 허용
+     * @param before 이 ID보다 최신 게시글 조회 (이전 페이지), null 허용 (0이면 마지막 페이지)
+     * @param listCountPerPage 한 페이지에 보여줄 게시글 수
+     * @return Map<String, Object> 형태의 결과
+     *         - bbses: 게시글 요약 리스트 (List<BbsSummary>)
+     *         - pagination: 페이지네이션 정보 (커서 방식)
+     */
+    @ReplicaRead
+    public Map<String, Object> list(Integer after, Integer before, int listCountPerPage) {
+        PageResult<BbsSummary> page = listPage(after, before, listCountPerPage);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("bbses", page.getItems());
+        result.put("pagination", page.getPagination());
+
+        return result;
+    }
+
+    /**
+     * 커서(게시글 ID) 기반으로 게시글 목록 한 페이지를 조회하는 메서드 (list()와 동일, JSON API용)
+     * @return 게시글 요약 리스트와 페이지네이션 정보 (커서 방식)
      */
-    private boolean verifyPassword(BbsDto bbs) {
-        BbsDto originalBbs = bbsDao.read(bbs.getId());
-        return originalBbs != null && originalBbs.getPassword().equals(bbs.getPassword());
+    @ReplicaRead
+    public PageResult<BbsSummary> listPage(Integer after, Integer before, int listCountPerPage) {
+        // 다음/이전 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<BbsSummary> bbses = bbsDao.listByCursor(after, before, listCountPerPage + 1);
+        if (bbses == null) {
+            bbses = new ArrayList<>();
+        }
+
+        boolean hasMore = bbses.size() > listCountPerPage;
+        if (hasMore) {
+            bbses.remove(bbses.size() - 1);
+        }
+
+        // before 조회는 오래된 순으로 반환되므로 최신순으로 뒤집음
+        if (before != null) {
+            Collections.reverse(bbses);
+        }
+
+        Integer prevCursor = null;
+        Integer nextCursor = null;
+        if (!bbses.isEmpty()) {
+            // 이전 페이지: after로 넘어왔거나, before 조회에서 더 최신 글이 남아 있는 경우
+            if (after != null || (before != null && hasMore)) {
+                prevCursor = bbses.get(0).getId();
+            }
+            // 다음 페이지: before로 돌아왔거나, after 조회에서 더 오래된 글이 남아 있는 경우
+            if ((before != null && before > 0) || (before == null && hasMore)) {
+                nextCursor = bbses.get(bbses.size() - 1).getId();
+            }
+        }
+
+        return new PageResult<>(bbses, new Pagination(listCountPerPage, prevCursor, nextCursor));
     }
 
     /**
-     * 게시글 목록을 조회하는 메서드
-     * @return 게시글 리스트 (List<BbsDto>)
+     * 전체 게시글을 한 건씩 읽는 커서를 여는 메서드 (전체 보기 화면용)
+     * - 커서가 열려 있는 동안 DB 커넥션을 사용하므로 동시에 열 수 있는 개수를 제한함
+     *
+     * @return 게시글 요약 커서 (사용 후 반드시 close()), 동시 실행 수를 초과하면 null
      */
-    public List<BbsDto> list() {
-        return bbsDao.list(); // DAO를 통해 DB에서 게시글 목록을 가져옴
+    @ReplicaRead
+    public Cursor<BbsSummary> openListAll() {
+        if (!listAllPermits.tryAcquire()) {
+            return null;
+        }
+
+        try {
+            return new ClosingCursor<>(bbsDao.openListAllCursor(), listAllPermits::release);
+        } catch (RuntimeException e) {
+            listAllPermits.release();
+            throw e;
+        }
     }
 
     /**
@@ -41,7 +143,11 @@ public class BbsService {
      */
     public int create(BbsDto bbs) {
         // DAO를 호출하여 게시글을 DB에 저장하고 결과를 반환
+        bbs.setExcerpt(Excerpt.of(bbs.getContent())); // 목록 화면용 미리보기
         int result = bbsDao.create(bbs);
+        if (result > 0) {
+            bbsDao.bumpListVersion();
+        }
         return result;
     }
 
@@ -50,38 +156,71 @@ public class BbsService {
      * @param id 조회할 게시글의 ID
      * @return 게시글(BbsDto) 객체, 없으면 null
      */
+    @ReplicaRead
     public BbsDto read(int id) {
         // DAO를 통해 ID에 해당하는 게시글을 조회
         return bbsDao.read(id);
     }
 
+    /**
+     * 게시글 버전(ID, VERSION, 수정일시)을 조회하는 메서드 (상세보기 조건부 GET용)
+     * @param id 게시글 ID
+     * @return 게시글 버전, 없으면 null
+     */
+    @ReplicaRead
+    public RowVersion version(int id) {
+        return bbsDao.version(id);
+    }
+
+    /**
+     * 게시글 목록 버전을 조회하는 메서드 (목록 조건부 GET용)
+     * - 등록/수정/삭제할 때마다 DB의 목록 버전(LIST_VERSION)을 올리므로 어느 서버에서 바뀌었든 반영됨
+     * @return 목록 버전, 버전 행이 없으면 null
+     */
+    @ReplicaRead
+    public RowVersion listVersion() {
+        return bbsDao.listVersion();
+    }
+
     /**
      * 게시글을 수정하는 메서드
      * - 비밀번호 검증 후 수정 처리
+     * - 비밀번호를 확인할 때 읽은 VERSION이 그대로일 때만 수정 (그 사이 다른 요청이 수정/삭제했으면 실패)
      * @param bbs 수정할 게시글 정보 (ID, 비밀번호 포함)
      * @return 수정 성공 여부 (true: 성공, false: 실패)
      */
     public boolean update(BbsDto bbs) {
-        if (!verifyPassword(bbs)) {
+        BbsDto originalBbs = verifyPassword(bbs);
+        if (originalBbs == null) {
             return false;
         }
 
+        bbs.setVersion(originalBbs.getVersion());
+        bbs.setExcerpt(Excerpt.of(bbs.getContent()));
         int result = bbsDao.update(bbs);
+        if (result > 0) {
+            bbsDao.bumpListVersion();
+        }
         return result > 0;
     }
 
     /**
      * 게시글을 삭제하는 메서드
      * - 비밀번호 검증 후 삭제 처리
+     * - 비밀번호를 확인할 때 읽은 VERSION이 그대로일 때만 삭제 (그 사이 수정되었으면 실패)
      * @param bbs 삭제할 게시글 정보 (ID, 비밀번호 포함)
      * @return 삭제 성공 여부 (true: 성공, false: 실패)
      */
     public boolean delete(BbsDto bbs) {
-        if (!verifyPassword(bbs)) {
+        BbsDto originalBbs = verifyPassword(bbs);
+        if (originalBbs == null) {
             return false;
         }
 
-        int result = bbsDao.delete(bbs.getId());
+        int result = bbsDao.delete(bbs.getId(), originalBbs.getVersion());
+        if (result > 0) {
+            bbsDao.bumpListVersion();
+        }
         return result > 0;
     }
 }
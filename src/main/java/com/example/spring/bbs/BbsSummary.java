@@ -0,0 +1,21 @@
+package com.example.spring.bbs;
+
+import java.util.Date;
+
+import lombok.Data;
+
+/**
+ * 게시글 목록 화면용 요약 정보
+ * - 목록에서는 내용(CONTENT)과 비밀번호(PASSWORD)가 필요 없으므로 조회하지 않음
+ * - 긴 게시글이어도 한 행에 전송되는 데이터 크기가 일정함
+ */
+@Data
+public class BbsSummary {
+
+    private int id;             // 게시글 ID (Primary Key)
+    private String title;       // 게시글 제목
+    private String username;    // 게시글 작성자 이름
+    private String excerpt;     // 게시글 내용 미리보기 (등록/수정 시 미리 계산된 값)
+    private Date createdAt;     // 게시글 작성 시간
+    private Date updatedAt;     // 게시글 마지막 수정 시간
+}
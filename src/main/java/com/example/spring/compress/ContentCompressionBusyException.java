@@ -0,0 +1,18 @@
+package com.example.spring.compress;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 게시글 내용 압축 변환이 이미 실행 중일 때 발생하는 예외
+ * - 같은 행을 두 변환이 함께 처리하지 않도록 한 번에 하나만 실행하고 나머지는 409로 거절
+ */
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "압축 변환이 이미 실행 중입니다.")
+public class ContentCompressionBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ContentCompressionBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.spring.compress;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * 기존 게시글 내용 압축 변환 요청을 처리하는 컨트롤러
+ * - 테이블 전체를 다시 쓰는 운영 작업이므로 기본적으로 꺼져 있음 (content.compress.migrateEnabled=true로 켬)
+ * - 켜져 있어도 서버 자신(loopback)에서 보낸 요청만 처리
+ */
+@Controller
+public class ContentCompressionController {
+
+    @Autowired
+    ContentCompressionMigrator contentCompressionMigrator;
+
+    @Value("${content.compress.migrateEnabled:false}")
+    private boolean enabled;            // 압축 변환 요청 처리 여부
+
+    /**
+     * 기존 게시글 내용 압축 변환 (POST 방식)
+     * - 끝날 때까지 묶음별 진행 상황을 NDJSON으로 바로 출력
+     * 예: curl -X POST "http://127.0.0.1:8080/admin/content-compression?table=post" (서버에서 실행)
+     *
+     * @param table 변환할 테이블 ("post" 또는 "bbs")
+     * @param request 요청한 주소 확인용
+     * @param response 진행 상황을 직접 쓸 응답 객체
+     */
+    @PostMapping("/admin/content-compression")
+    public void compressPost(@RequestParam String table, HttpServletRequest request, HttpServletResponse response) throws IOException, InterruptedException {
+        if (!enabled) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!isLoopback(request.getRemoteAddr())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "서버에서 직접 요청해야 합니다.");
+            return;
+        }
+        if (!"post".equals(table) && !"bbs".equals(table)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원하지 않는 테이블입니다. (post, bbs)");
+            return;
+        }
+
+        response.setContentType("application/x-ndjson; charset=UTF-8");
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        contentCompressionMigrator.migrate(table, out);
+    }
+
+    private static boolean isLoopback(String address) {
+        try {
+            // 요청 주소는 IP 문자열이므로 이름 조회 없이 변환됨
+            return InetAddress.getByName(address).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
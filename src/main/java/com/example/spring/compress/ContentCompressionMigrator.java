@@ -0,0 +1,150 @@
+package com.example.spring.compress;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spring.bbs.BbsDao;
+import com.example.spring.libs.ContentCodec;
+import com.example.spring.libs.ContentRow;
+import com.example.spring.post.PostDao;
+
+/**
+ * 기존 게시글 내용 압축 변환기
+ *
+ * - 압축 기능(content.compress.thresholdBytes) 이전에 저장된 큰 게시글을 CONTENT_BLOB 형식으로 바꿈
+ * - PK 순서로 batchSize건씩 조회 → 압축 → 한 트랜잭션에서 JDBC 배치로 저장하므로 오래 잠그는 행이 없음
+ * - 묶음 사이에 pauseMillis만큼 쉬어 복제 지연과 버퍼 풀 부담을 줄임
+ * - 조회 이후 수정된 게시글은 저장 시 건너뛰고, 중간에 멈춰도 다시 실행하면 남은 게시글만 변환
+ * - 압축해도 충분히 작아지지 않는 게시글은 그대로 둠 (다시 실행하면 또 검사함)
+ */
+@Component
+public class ContentCompressionMigrator implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentCompressionMigrator.class);
+
+    @Autowired
+    PostDao postDao;
+
+    @Autowired
+    BbsDao bbsDao;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Value("${content.compress.migrateBatchSize:500}")
+    private int batchSize;              // 한 번에 조회/저장할 게시글 수
+
+    @Value("${content.compress.migratePauseMillis:100}")
+    private long pauseMillis;           // 묶음 사이 대기 시간
+
+    private final Semaphore running = new Semaphore(1);
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 테이블의 큰 게시글을 모두 압축 형식으로 변환하고 묶음별 진행 상황을 NDJSON으로 출력
+     *
+     * 출력 예:
+     * {"lastId":500,"scanned":500,"compressed":480,"bytesBefore":52428800,"bytesAfter":7340032}
+     * {"done":true,"scanned":1200,"compressed":1100,"bytesBefore":...,"bytesAfter":...}
+     *
+     * @param table "post" 또는 "bbs"
+     * @param out 진행 상황 출력 대상 (묶음마다 flush)
+     * @return 변환한 게시글 수
+     * @throws ContentCompressionBusyException 다른 변환이 실행 중인 경우 (출력 전에 발생)
+     */
+    public long migrate(String table, Writer out) throws IOException, InterruptedException {
+        if (!running.tryAcquire()) {
+            throw new ContentCompressionBusyException("압축 변환이 이미 실행 중입니다.");
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            int threshold = "post".equals(table) ? postDao.compressThresholdBytes() : bbsDao.compressThresholdBytes();
+            if (threshold <= 0) {
+                out.write("{\"error\":\"content.compress.thresholdBytes가 0이어서 압축하지 않습니다\"}\n");
+                out.flush();
+                return 0;
+            }
+
+            long scanned = 0;
+            long compressed = 0;
+            long bytesBefore = 0;
+            long bytesAfter = 0;
+            int afterId = 0;
+
+            while (true) {
+                List<ContentRow> rows = "post".equals(table)
+                    ? postDao.compressCandidates(afterId, batchSize)
+                    : bbsDao.compressCandidates(afterId, batchSize);
+                if (rows == null) {
+                    out.write("{\"error\":\"압축 대상 조회 실패\",\"lastId\":" + afterId + "}\n");
+                    break;
+                }
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<ContentRow> batch = new ArrayList<>(rows.size());
+                long batchBefore = 0;
+                long batchAfter = 0;
+                for (ContentRow row : rows) {
+                    byte[] blob = ContentCodec.compress(row.getContent(), threshold);
+                    if (blob != null) {
+                        row.setContentBlob(blob);
+                        batch.add(row);
+                        batchBefore += row.getContent().getBytes(StandardCharsets.UTF_8).length;
+                        batchAfter += blob.length;
+                    }
+                }
+                afterId = rows.get(rows.size() - 1).getId();
+                scanned += rows.size();
+
+                if (!batch.isEmpty()) {
+                    Integer stored = transactionTemplate.execute(status ->
+                        "post".equals(table) ? postDao.storeCompressed(batch) : bbsDao.storeCompressed(batch));
+                    compressed += stored;
+                    // 건너뛴 게시글이 있어도 크기는 근사값으로 묶음 전체를 셈
+                    bytesBefore += batchBefore;
+                    bytesAfter += batchAfter;
+                }
+
+                out.write("{\"lastId\":" + afterId + ",\"scanned\":" + scanned + ",\"compressed\":" + compressed
+                    + ",\"bytesBefore\":" + bytesBefore + ",\"bytesAfter\":" + bytesAfter + "}\n");
+                out.flush();
+
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+
+            out.write("{\"done\":true,\"scanned\":" + scanned + ",\"compressed\":" + compressed
+                + ",\"bytesBefore\":" + bytesBefore + ",\"bytesAfter\":" + bytesAfter + "}\n");
+            out.flush();
+
+            logger.info("게시글 내용 압축 변환 완료 ({}) : {}건 중 {}건, {} → {}바이트, {}ms",
+                table, scanned, compressed, bytesBefore, bytesAfter, System.currentTimeMillis() - start);
+            return compressed;
+        } finally {
+            running.release();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.spring.db;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.example.spring.metrics.MetricsRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * DB 조회 전용 실행기 (bulkhead)
+ *
+ * - 화면 조회의 DB 작업을 Tomcat 요청 스레드가 아닌 커넥션 풀 크기만큼의 전용 작업 스레드에서 실행 (비동기 요청, DeferredResult)
+ *   → DB가 느려져도 커넥션을 기다리며 멈추는 것은 작업 스레드뿐이고, 요청 스레드는 정적 파일/캐시 응답 등을 계속 처리
+ * - 요청 스레드의 DB 라우팅 상태(원본 고정 등, ReplicaRouting)와 로그 MDC(요청 ID, 샘플링 여부)를 작업 스레드로 전달
+ * - 화면(endpoint)별 동시 실행 수(대기 포함)를 제한하여 느린 화면 하나가 작업 스레드를 모두 차지하지 못하도록 함
+ * - 제한을 넘거나 대기열이 가득 차거나 대기열에서 queueTimeoutMillis 이상 기다린 작업은 바로 503(DbBusyException)
+ * - 지표: db_bulkhead_active, db_bulkhead_queue_depth, db_bulkhead_rejected_total{endpoint,reason} (/metrics)
+ */
+@Component
+public class DbBulkhead implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbBulkhead.class);
+
+    @Autowired(required = false)
+    List<HikariDataSource> pools = Collections.emptyList();
+
+    @Value("${db.bulkhead.threads:0}")
+    private int threads;                // 작업 스레드 수 (0이면 가장 큰 커넥션 풀의 최대 크기)
+
+    @Value("${db.bulkhead.queueCapacity:50}")
+    private int queueCapacity;          // 대기열 크기 (가득 차면 즉시 거절)
+
+    @Value("${db.bulkhead.queueTimeoutMillis:1000}")
+    private long queueTimeoutMillis;    // 대기열에서 이 시간보다 오래 기다린 작업은 실행하지 않고 거절
+
+    @Value("${db.bulkhead.timeoutMillis:10000}")
+    private long timeoutMillis;         // 요청 하나의 최대 처리 시간 (초과 시 503)
+
+    @Value("${db.bulkhead.endpointLimit:6}")
+    private int endpointLimit;          // 화면별 기본 동시 실행 수 (대기 포함)
+
+    @Value("${db.bulkhead.endpointLimits:}")
+    private String endpointLimitOverrides;  // 화면별 동시 실행 수 (예: "posts.list=4,posts.read=8")
+
+    private ThreadPoolExecutor executor;
+    private final Map<String, Integer> endpointLimits = new HashMap<>();
+    private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 스레드 풀 생성 (스레드 수는 커넥션 풀 크기에 맞춤)
+     */
+    @Override
+    public void afterPropertiesSet() {
+        int size = threads > 0 ? threads : poolSize();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+            size, size, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "db-bulkhead-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        for (String entry : endpointLimitOverrides.split(",")) {
+            String[] pair = entry.split("=");
+            if (pair.length == 2) {
+                endpointLimits.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            }
+        }
+
+        MetricsRegistry registry = MetricsRegistry.get();
+        registry.gauge("db_bulkhead_active", "실행 중인 DB 조회 작업 수", "", executor::getActiveCount);
+        registry.gauge("db_bulkhead_queue_depth", "대기열에 쌓인 DB 조회 작업 수", "", () -> executor.getQueue().size());
+
+        logger.info("DB 조회 실행기 시작 : 작업 스레드 {}개, 대기열 {}, 화면별 동시 실행 {}개", size, queueCapacity, endpointLimit);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 커넥션 풀 최대 크기 (원본/복제본 풀 중 큰 값, HikariCP가 없으면 10)
+     */
+    private int poolSize() {
+        int size = 0;
+        for (HikariDataSource pool : pools) {
+            size = Math.max(size, pool.getMaximumPoolSize());
+        }
+        return size > 0 ? size : 10;
+    }
+
+    /**
+     * DB 작업을 작업 스레드에서 실행하고 결과를 비동기로 돌려줌
+     * - 컨트롤러는 반환된 DeferredResult를 그대로 반환 (요청 스레드는 바로 반환되고, 결과가 나오면 이어서 뷰를 렌더링)
+     * - 작업에서 발생한 예외는 컨트롤러에서 발생한 것처럼 처리됨
+     *
+     * @param endpoint 화면 이름 (동시 실행 수 제한과 지표 구분용, 예: "posts.list")
+     * @param task 실행할 DB 작업
+     * @return 작업 결과
+     * @throws DbBusyException 화면별 동시 실행 수를 넘었거나 대기열이 가득 찬 경우 (요청 스레드에서 바로 발생)
+     */
+    public <T> DeferredResult<T> submit(String endpoint, Callable<T> task) {
+        Endpoint limit = endpoints.computeIfAbsent(endpoint, Endpoint::new);
+        if (!limit.permits.tryAcquire()) {
+            limit.rejectedBusy.increment();
+            throw new DbBusyException("동시에 처리 중인 요청이 너무 많습니다 : " + endpoint);
+        }
+
+        DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+        result.onTimeout(() -> {
+            limit.rejectedTimeout.increment();
+            result.setErrorResult(new DbBusyException("요청 처리 시간이 초과되었습니다 : " + endpoint));
+        });
+
+        ReplicaRouting.State routing = ReplicaRouting.capture();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                ReplicaRouting.State previous = ReplicaRouting.apply(routing);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    if (result.isSetOrExpired()) {
+                        return;
+                    }
+                    if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedAt) > queueTimeoutMillis) {
+                        limit.rejectedQueueTimeout.increment();
+                        result.setErrorResult(new DbBusyException("대기 시간이 초과되었습니다 : " + endpoint));
+                        return;
+                    }
+                    result.setResult(task.call());
+                } catch (Exception e) {
+                    result.setErrorResult(e);
+                } finally {
+                    ReplicaRouting.restore(previous);
+                    MDC.clear();
+                    limit.permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            limit.permits.release();
+            limit.rejectedQueueFull.increment();
+            throw new DbBusyException("DB 조회 대기열이 가득 찼습니다 : " + endpoint, e);
+        }
+        return result;
+    }
+
+    /**
+     * 화면 하나의 동시 실행 제한과 거절 지표
+     */
+    private final class Endpoint {
+        private final Semaphore permits;
+        private final LongAdder rejectedBusy;
+        private final LongAdder rejectedQueueFull;
+        private final LongAdder rejectedQueueTimeout;
+        private final LongAdder rejectedTimeout;
+
+        private Endpoint(String name) {
+            permits = new Semaphore(endpointLimits.getOrDefault(name, endpointLimit));
+
+            MetricsRegistry registry = MetricsRegistry.get();
+            String help = "DB 조회 실행기가 거절한 요청 수";
+            rejectedBusy = registry.counter("db_bulkhead_rejected_total", help, MetricsRegistry.label("endpoint", name, "reason", "endpoint_limit"));
+            rejectedQueueFull = registry.counter("db_bulkhead_rejected_total", help, MetricsRegistry.label("endpoint", name, "reason", "queue_full"));
+            rejectedQueueTimeout = registry.counter("db_bulkhead_rejected_total", help, MetricsRegistry.label("endpoint", name, "reason", "queue_timeout"));
+            rejectedTimeout = registry.counter("db_bulkhead_rejected_total", help, MetricsRegistry.label("endpoint", name, "reason", "timeout"));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.spring.db;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * DB 조회 작업을 받을 수 없을 때 발생하는 예외 (화면별 동시 실행 수 초과, 대기열 초과, 대기 시간 초과)
+ * - 요청 스레드가 커넥션을 기다리며 쌓이지 않도록 503 응답으로 바로 돌려보냄
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "잠시 후 다시 시도해주세요.")
+public class DbBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DbBusyException(String message) {
+        super(message);
+    }
+
+    public DbBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.spring.db;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 글을 쓴 사용자의 다음 요청을 잠시 원본 DB로 보내는 인터셉터 (servlet-context.xml 에 등록)
+ *
+ * - POST 요청(등록/수정/삭제 등)은 원본 DB를 사용하고, windowMillis 동안 유효한 쿠키를 응답에 추가
+ * - 쿠키가 유효한 동안의 요청은 원본 DB로 고정 → 복제 지연 때문에 방금 쓴 글이 목록/상세에 안 보이는 일이 없음
+ * - 쿠키에는 만료 시각만 들어 있으므로 조작되어도 원본 DB를 조금 더 쓰게 될 뿐임
+ *   (발급할 수 있는 값(지금 + windowMillis)보다 먼 미래 값은 조작된 것으로 보고 무시하므로 원본 DB에 계속 고정되지 않음)
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String COOKIE_NAME = "db-primary-until";
+
+    private static final long MAX_CLOCK_SKEW_MILLIS = 1000;    // 다른 서버가 발급한 쿠키를 위해 허용하는 서버 간 시각 차이
+
+    private long windowMillis = 5000;   // 쓰기 후 원본 DB를 사용할 시간
+
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+
+        if ("POST".equals(request.getMethod())) {
+            ReplicaRouting.pinPrimary();
+
+            long until = now + windowMillis;
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+            cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+            cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1000));
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+            return true;
+        }
+
+        long until = pinnedUntil(request);
+        if (until > now && until <= now + windowMillis + MAX_CLOCK_SKEW_MILLIS) {
+            ReplicaRouting.pinPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리 시작: 요청 스레드를 돌려주기 전에 상태 제거 (작업 스레드에는 DbBulkhead가 전달)
+        ReplicaRouting.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRouting.clear();
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.spring.db;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * 복제본 DB 상태 확인 (db-context.xml 에 등록)
+ *
+ * - intervalMillis마다 복제본 커넥션으로 SHOW REPLICA STATUS를 조회
+ * - 접속할 수 없거나, 복제가 멈췄거나, 복제 지연(Seconds_Behind_Master)이 maxLagSeconds를 넘으면 비정상
+ * - 복제 설정이 없는 독립 인스턴스(SHOW REPLICA STATUS 결과 없음)는 원본의 변경을 받지 않으므로 비정상
+ *   (db.replica.url을 잘못 지정한 경우 등, 로컬 테스트용으로 독립 DB를 복제본으로 쓰려면 allowStandalone=true)
+ * - 비정상인 동안 ReplicaRoutingDataSource는 모든 조회를 원본 DB로 보냄
+ */
+public class ReplicaHealthCheck implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthCheck.class);
+
+    private static final int ER_SPECIFIC_ACCESS_DENIED = 1227;   // 권한 부족 (MariaDB 오류 코드)
+
+    private DataSource replicaDataSource;
+    private long intervalMillis = 2000;     // 확인 주기
+    private long maxLagSeconds = 5;         // 허용하는 최대 복제 지연
+    private boolean allowStandalone;        // 복제 설정이 없는 독립 인스턴스도 정상으로 볼지 여부
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean healthy;       // 첫 확인 전에는 원본 사용
+
+    public DataSource getReplicaDataSource() {
+        return replicaDataSource;
+    }
+
+    public void setReplicaDataSource(DataSource replicaDataSource) {
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    public void setMaxLagSeconds(long maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public void setAllowStandalone(boolean allowStandalone) {
+        this.allowStandalone = allowStandalone;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 정상으로 판단한 복제본이 원본보다 늦을 수 있는 최대 시간
+     * - 허용 지연(초 단위로 버림된 값이므로 1초를 더함) + 확인 주기 (다음 확인 전까지는 지연이 늘어도 알 수 없음)
+     * - 캐시를 무효화한 뒤 이 시간 동안은 복제본에서 읽은 값으로 캐시를 다시 채우면 안 됨
+     * @return 밀리초
+     */
+    public long maxStalenessMillis() {
+        return (maxLagSeconds + 1) * 1000 + intervalMillis;
+    }
+
+    /**
+     * 커넥션을 얻지 못한 경우 호출 (다음 확인까지 비정상으로 처리)
+     */
+    public void markUnhealthy(String reason) {
+        update(false, reason);
+    }
+
+    private void check() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            checkReplication(statement);
+        } catch (SQLException e) {
+            update(false, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("복제본 상태 확인 오류 : {}", e.getMessage(), e);
+        }
+    }
+
+    private void checkReplication(Statement statement) throws SQLException {
+        ResultSet rs;
+        try {
+            rs = statement.executeQuery("SHOW REPLICA STATUS");
+        } catch (SQLException e) {
+            if (e.getErrorCode() != ER_SPECIFIC_ACCESS_DENIED) {
+                throw e;
+            }
+            // REPLICA MONITOR 권한이 없는 계정: 접속 여부만 확인
+            update(true, "복제 상태 조회 권한 없음");
+            return;
+        }
+
+        try (ResultSet status = rs) {
+            if (!status.next()) {
+                // 복제 설정이 없는 인스턴스: 원본의 변경을 받지 않으므로 명시적으로 허용한 경우에만 사용
+                update(allowStandalone, allowStandalone ? "복제 설정 없음 (독립 인스턴스 허용)" : "복제 설정 없음");
+                return;
+            }
+
+            boolean running = "Yes".equalsIgnoreCase(status.getString("Slave_IO_Running"))
+                && "Yes".equalsIgnoreCase(status.getString("Slave_SQL_Running"));
+            long lag = status.getLong("Seconds_Behind_Master");
+            boolean lagKnown = !status.wasNull();
+
+            if (!running || !lagKnown) {
+                update(false, "복제 중지 (IO/SQL 스레드)");
+            } else if (lag > maxLagSeconds) {
+                update(false, "복제 지연 " + lag + "초");
+            } else {
+                update(true, "복제 지연 " + lag + "초");
+            }
+        }
+    }
+
+    private void update(boolean nowHealthy, String reason) {
+        if (healthy != nowHealthy) {
+            if (nowHealthy) {
+                logger.info("복제본 DB 정상 : {} → 조회를 복제본으로 보냄", reason);
+            } else {
+                logger.warn("복제본 DB 비정상 : {} → 조회를 원본 DB로 보냄", reason);
+            }
+        }
+        healthy = nowHealthy;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.spring.db;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 복제본(replica) DB로 보내도 되는 조회 메서드 표시
+ *
+ * - 메서드 실행 중에 얻는 커넥션은 복제본에서 가져옴 (복제본이 비정상이거나 원본 고정 요청이면 원본)
+ * - 복제 지연만큼 최신 변경이 늦게 보일 수 있으므로 비밀번호 확인이나 쓰기 전 조회에는 사용하지 않음
+ * - 서비스 빈(Spring 프록시)을 통해 호출될 때만 적용됨 (같은 클래스 안에서의 호출은 적용되지 않음)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+}
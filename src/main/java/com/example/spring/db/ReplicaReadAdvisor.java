@@ -0,0 +1,39 @@
+package com.example.spring.db;
+
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ReplicaRead 메서드를 복제본 조회 구간으로 감싸는 AOP 어드바이저
+ * (servlet-context.xml 의 DefaultAdvisorAutoProxyCreator가 서비스 빈에 프록시를 적용)
+ */
+@Component
+public class ReplicaReadAdvisor extends AbstractPointcutAdvisor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Pointcut pointcut = AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class);
+
+    private final MethodInterceptor interceptor = invocation -> {
+        ReplicaRouting.State previous = ReplicaRouting.beginReplicaRead();
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaRouting.restore(previous);
+        }
+    };
+
+    @Override
+    public Pointcut getPointcut() {
+        return pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+        return interceptor;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.spring.db;
+
+/**
+ * 현재 스레드의 DB 라우팅 상태 (ReplicaRoutingDataSource가 커넥션을 고를 때 사용)
+ *
+ * - replicaRead  : @ReplicaRead 메서드 실행 중 (복제본으로 보내도 되는 조회)
+ * - primaryPinned: 방금 글을 쓴 사용자의 요청 (복제 지연으로 자기 글이 안 보이지 않도록 원본 DB 사용)
+ *
+ * 원본 고정이 복제본 조회보다 우선함
+ * 다른 스레드에서 DB 작업을 실행할 때는 capture()한 상태를 그 스레드에서 apply() 해야 함 (DbBulkhead)
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<State> CURRENT = ThreadLocal.withInitial(() -> State.DEFAULT);
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * 복제본 조회 구간 시작
+     * @return 이전 상태 (구간이 끝나면 restore()에 전달)
+     */
+    public static State beginReplicaRead() {
+        State previous = CURRENT.get();
+        CURRENT.set(new State(true, previous.primaryPinned));
+        return previous;
+    }
+
+    /**
+     * 원본 DB 조회 구간 시작 (복제본 조회 구간 안에서도 원본 DB 사용)
+     * - 방금 무효화한 캐시를 다시 채우는 조회처럼 복제 지연된 값을 읽으면 안 되는 경우
+     * @return 이전 상태 (구간이 끝나면 restore()에 전달)
+     */
+    public static State beginPrimaryRead() {
+        State previous = CURRENT.get();
+        CURRENT.set(new State(previous.replicaRead, true));
+        return previous;
+    }
+
+    /**
+     * 현재 요청을 원본 DB로 고정
+     */
+    public static void pinPrimary() {
+        CURRENT.set(new State(CURRENT.get().replicaRead, true));
+    }
+
+    public static boolean isReplicaRead() {
+        return CURRENT.get().replicaRead;
+    }
+
+    public static boolean isPrimaryPinned() {
+        return CURRENT.get().primaryPinned;
+    }
+
+    /**
+     * 다른 스레드로 넘겨줄 현재 상태
+     */
+    public static State capture() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 넘겨받은 상태 적용
+     * @return 이전 상태 (작업이 끝나면 restore()에 전달)
+     */
+    public static State apply(State state) {
+        State previous = CURRENT.get();
+        CURRENT.set(state);
+        return previous;
+    }
+
+    public static void restore(State previous) {
+        if (previous == State.DEFAULT) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * 요청이 끝날 때 상태 제거 (스레드 재사용 대비)
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 라우팅 상태 (불변)
+     */
+    public static final class State {
+        private static final State DEFAULT = new State(false, false);
+
+        private final boolean replicaRead;
+        private final boolean primaryPinned;
+
+        private State(boolean replicaRead, boolean primaryPinned) {
+            this.replicaRead = replicaRead;
+            this.primaryPinned = primaryPinned;
+        }
+    }
+}
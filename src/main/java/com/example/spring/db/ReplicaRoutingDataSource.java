@@ -0,0 +1,79 @@
+package com.example.spring.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.spring.metrics.MetricsRegistry;
+
+/**
+ * 원본(primary)/복제본(replica) DB 라우팅 데이터소스 (db-context.xml 에 등록)
+ *
+ * 커넥션을 얻을 때마다 아래 순서로 대상을 고름
+ * 1) 원본 고정 요청 (방금 글을 쓴 사용자, ReadYourWritesInterceptor) → 원본
+ * 2) @ReplicaRead 메서드 실행 중이거나 읽기 전용 트랜잭션 → 복제본 (ReplicaHealthCheck가 비정상이면 원본)
+ * 3) 그 외 (쓰기, 비밀번호 확인 등) → 원본
+ *
+ * 복제본 커넥션을 얻지 못하면 복제본을 비정상으로 표시하고 원본 커넥션을 돌려줌
+ * 읽기 전용 트랜잭션 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private ReplicaHealthCheck healthCheck;
+
+    private final LongAdder primaryRoutes;
+    private final LongAdder replicaRoutes;
+    private final LongAdder fallbacks;
+
+    public ReplicaRoutingDataSource() {
+        MetricsRegistry registry = MetricsRegistry.get();
+        String help = "DB 커넥션 라우팅 횟수";
+        primaryRoutes = registry.counter("db_route_total", help, MetricsRegistry.label("target", PRIMARY));
+        replicaRoutes = registry.counter("db_route_total", help, MetricsRegistry.label("target", REPLICA));
+        fallbacks = registry.counter("db_replica_fallback_total", "복제본 커넥션 실패로 원본을 사용한 횟수", "");
+    }
+
+    public void setHealthCheck(ReplicaHealthCheck healthCheck) {
+        this.healthCheck = healthCheck;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReplicaRouting.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        boolean readOnly = ReplicaRouting.isReplicaRead() || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (readOnly && healthCheck != null && healthCheck.isHealthy()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (REPLICA.equals(key)) {
+            try {
+                Connection connection = getResolvedDataSources().get(REPLICA).getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                fallbacks.increment();
+                healthCheck.markUnhealthy(e.getMessage());
+            }
+        }
+        primaryRoutes.increment();
+        return getResolvedDataSources().get(PRIMARY).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTargetDataSource().getConnection(username, password);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.spring.flash;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.support.AbstractFlashMapManager;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * 플래시 속성(RedirectAttributes.addFlashAttribute)을 세션 대신 서명된 쿠키에 저장하는 FlashMapManager
+ * (DispatcherServlet이 "flashMapManager" 이름의 빈을 찾아 사용)
+ *
+ * - 기본 SessionFlashMapManager는 글을 쓸 때마다 HttpSession을 만들어 서버마다 세션이 쌓이고,
+ *   리다이렉트된 요청이 같은 서버로 가야 해서(sticky session) 부하 분산이 묶임
+ * - 쿠키 값은 HMAC으로 서명(FlashCookieCodec)하므로 사용자가 메시지를 바꿀 수 없고, 같은 secret을 쓰는 어느 서버에서든 읽을 수 있음
+ * - 쿠키 크기가 maxBytes를 넘으면 오래된 FlashMap부터 버림 (브라우저 쿠키 한도 4KB)
+ * - 한 요청 안에서 꺼내고 저장한 내용은 요청 속성에 보관 (같은 요청에서 다시 읽을 때 이미 지운 쿠키를 다시 읽지 않도록)
+ *
+ * JSP는 page 지시자에 session="false"를 지정하여 세션을 만들지 않음 (지정하지 않으면 JSP가 요청마다 세션을 만듦)
+ */
+@Component("flashMapManager")
+public class CookieFlashMapManager extends AbstractFlashMapManager implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(CookieFlashMapManager.class);
+
+    private static final String FLASH_MAPS_ATTRIBUTE = CookieFlashMapManager.class.getName() + ".FLASH_MAPS";
+
+    @Value("${flash.cookie.name:FLASH}")
+    private String cookieName;          // 쿠키 이름
+
+    @Value("${flash.cookie.secret:}")
+    private String secret;              // 서명 키 (여러 서버에서 실행할 때는 모든 서버에 같은 값 지정, 비우면 시작할 때마다 임의 생성)
+
+    @Value("${flash.cookie.maxBytes:2048}")
+    private int maxBytes;               // 쿠키 값 최대 크기
+
+    private FlashCookieCodec codec;
+
+    @Override
+    public void afterPropertiesSet() {
+        byte[] key;
+        if (secret.isEmpty()) {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            logger.warn("flash.cookie.secret이 없어 임의 키를 사용합니다. 여러 서버에서 실행하거나 재시작하면 다른 서버/이전 실행에서 발급한 메시지는 표시되지 않습니다.");
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        codec = new FlashCookieCodec(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<FlashMap> retrieveFlashMaps(HttpServletRequest request) {
+        Object retrieved = request.getAttribute(FLASH_MAPS_ATTRIBUTE);
+        if (retrieved != null) {
+            return new ArrayList<>((List<FlashMap>) retrieved);
+        }
+
+        Cookie cookie = WebUtils.getCookie(request, cookieName);
+        if (cookie == null || cookie.getValue() == null || cookie.getValue().isEmpty()) {
+            return null;
+        }
+        List<FlashMap> flashMaps = codec.decode(cookie.getValue());
+        if (flashMaps == null) {
+            // 서명이 맞지 않는 쿠키 (변조, 다른 키로 발급) 는 이미 만료된 FlashMap 하나로 처리
+            // → AbstractFlashMapManager가 만료된 항목을 지우며 updateFlashMaps를 호출하므로 이 응답에서 쿠키가 삭제됨
+            //   (빈 목록을 반환하면 updateFlashMaps가 호출되지 않아 만료될 때까지 요청마다 서명을 다시 확인함)
+            logger.debug("플래시 쿠키를 읽을 수 없습니다 : {}", cookie.getValue());
+            FlashMap unreadable = new FlashMap();
+            unreadable.setExpirationTime(0);
+            flashMaps = Collections.singletonList(unreadable);
+        }
+        request.setAttribute(FLASH_MAPS_ATTRIBUTE, flashMaps);
+        return new ArrayList<>(flashMaps);
+    }
+
+    @Override
+    protected void updateFlashMaps(List<FlashMap> flashMaps, HttpServletRequest request, HttpServletResponse response) {
+        List<FlashMap> kept = new ArrayList<>(flashMaps);
+        kept.removeIf(FlashMap::isExpired);     // 읽을 수 없던 쿠키의 자리 표시 등 (새 FlashMap을 저장할 때 함께 쓰지 않음)
+        String value = kept.isEmpty() ? null : codec.encode(kept);
+        while (value != null && value.length() > maxBytes) {
+            // 오래된(먼저 만료되는) 것부터 버림
+            FlashMap oldest = Collections.min(kept, (a, b) -> Long.compare(a.getExpirationTime(), b.getExpirationTime()));
+            kept.remove(oldest);
+            logger.warn("플래시 쿠키 크기 초과({}바이트)로 플래시 속성을 버립니다 : {}", value.length(), oldest.keySet());
+            value = kept.isEmpty() ? null : codec.encode(kept);
+        }
+        request.setAttribute(FLASH_MAPS_ATTRIBUTE, kept);
+
+        Cookie cookie = new Cookie(cookieName, value != null ? value : "");
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge(value != null ? getFlashMapTimeout() : 0);
+        response.addCookie(cookie);
+    }
+}
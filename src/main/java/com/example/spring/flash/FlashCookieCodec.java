@@ -0,0 +1,198 @@
+package com.example.spring.flash;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.web.servlet.FlashMap;
+
+/**
+ * 플래시 속성(FlashMap 목록)을 서명된 쿠키 값으로 변환
+ *
+ * 쿠키 값 형식: base64url(내용) "." base64url(HMAC-SHA256(내용) 앞 16바이트)
+ *
+ * 내용 형식 (DataOutputStream)
+ * - byte    형식 버전 (현재 1)
+ * - byte    FlashMap 개수
+ * - FlashMap마다
+ *   - long  만료 시각 (epoch ms)
+ *   - UTF   대상 경로 (없으면 빈 문자열)
+ *   - short 대상 파라미터 수, 파라미터마다 UTF 이름 + UTF 값
+ *   - short 속성 수, 속성마다 이름 + 값
+ *     (이름/값은 byte 코드 하나: 0이면 UTF 문자열이 이어지고, 1 이상이면 KEYS/MESSAGES의 미리 정한 문자열)
+ *
+ * 등록/수정/삭제 후의 고정 메시지는 코드 1바이트로 저장되므로 쿠키 값이 100바이트 안팎으로 유지됨
+ * 문자열이 아닌 속성 값은 저장하지 않음 (세션과 달리 임의 객체를 직렬화하지 않음)
+ */
+final class FlashCookieCodec {
+
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 16;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    // 코드 → 문자열 (0번은 "직접 저장"으로 사용, 순서를 바꾸거나 중간에 삭제하면 배포 중 발급된 쿠키의 메시지가 바뀌므로 끝에만 추가)
+    private static final List<String> KEYS = Arrays.asList(
+        null,
+        "successMessage",
+        "errorMessage"
+    );
+    private static final List<String> MESSAGES = Arrays.asList(
+        null,
+        "게시글이 등록되었습니다.",
+        "게시글 등록에 실패했습니다.",
+        "게시글이 수정되었습니다.",
+        "게시글 수정에 실패했습니다. (비밀번호 확인)",
+        "게시글이 삭제되었습니다.",
+        "게시글 삭제에 실패했습니다. (비밀번호 확인)",
+        "전체 보기 요청이 많습니다. 잠시 후 다시 시도해주세요."
+    );
+
+    private final SecretKeySpec key;
+
+    /**
+     * @param secret 서명 키 (모든 서버가 같은 값을 사용해야 다른 서버에서 발급한 쿠키를 읽을 수 있음)
+     */
+    FlashCookieCodec(byte[] secret) {
+        this.key = new SecretKeySpec(secret, MAC_ALGORITHM);
+    }
+
+    /**
+     * FlashMap 목록을 쿠키 값으로 변환
+     * @param flashMaps 저장할 FlashMap 목록 (최대 255개)
+     * @return 쿠키 값 (쿠키에 쓸 수 있는 문자만 사용)
+     */
+    String encode(List<FlashMap> flashMaps) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(Math.min(flashMaps.size(), 255));
+            for (FlashMap flashMap : flashMaps.subList(0, Math.min(flashMaps.size(), 255))) {
+                out.writeLong(flashMap.getExpirationTime());
+                out.writeUTF(flashMap.getTargetRequestPath() != null ? flashMap.getTargetRequestPath() : "");
+
+                List<String[]> params = new ArrayList<>();
+                for (Map.Entry<String, List<String>> param : flashMap.getTargetRequestParams().entrySet()) {
+                    for (String value : param.getValue()) {
+                        params.add(new String[] {param.getKey(), value});
+                    }
+                }
+                out.writeShort(params.size());
+                for (String[] param : params) {
+                    out.writeUTF(param[0]);
+                    out.writeUTF(param[1]);
+                }
+
+                List<Map.Entry<String, Object>> attributes = new ArrayList<>();
+                for (Map.Entry<String, Object> attribute : flashMap.entrySet()) {
+                    if (attribute.getValue() instanceof String) {
+                        attributes.add(attribute);
+                    }
+                }
+                out.writeShort(attributes.size());
+                for (Map.Entry<String, Object> attribute : attributes) {
+                    writeCoded(out, KEYS, attribute.getKey());
+                    writeCoded(out, MESSAGES, (String) attribute.getValue());
+                }
+            }
+        } catch (IOException e) {
+            // ByteArrayOutputStream에 쓰므로 발생하지 않음 (writeUTF의 64KB 초과는 UTFDataFormatException)
+            throw new IllegalArgumentException("플래시 속성을 변환할 수 없습니다 : " + e.getMessage(), e);
+        }
+
+        byte[] payload = bytes.toByteArray();
+        Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+        return base64.encodeToString(payload) + "." + base64.encodeToString(sign(payload));
+    }
+
+    /**
+     * 쿠키 값을 FlashMap 목록으로 복원
+     * @param value 쿠키 값
+     * @return FlashMap 목록, 서명이 맞지 않거나 형식이 잘못되었으면 null
+     */
+    List<FlashMap> decode(String value) {
+        int dot = value.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+
+        byte[] payload;
+        byte[] mac;
+        try {
+            Base64.Decoder base64 = Base64.getUrlDecoder();
+            payload = base64.decode(value.substring(0, dot));
+            mac = base64.decode(value.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(mac, sign(payload))) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+            int count = in.readUnsignedByte();
+            List<FlashMap> flashMaps = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                FlashMap flashMap = new FlashMap();
+                flashMap.setExpirationTime(in.readLong());
+                String path = in.readUTF();
+                flashMap.setTargetRequestPath(path.isEmpty() ? null : path);
+
+                int params = in.readUnsignedShort();
+                for (int p = 0; p < params; p++) {
+                    flashMap.addTargetRequestParam(in.readUTF(), in.readUTF());
+                }
+
+                int attributes = in.readUnsignedShort();
+                for (int a = 0; a < attributes; a++) {
+                    String name = readCoded(in, KEYS);
+                    flashMap.put(name, readCoded(in, MESSAGES));
+                }
+                flashMaps.add(flashMap);
+            }
+            return flashMaps;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            // 서명은 맞지만 읽을 수 없는 형식 (다른 버전의 코드 표 등)
+            return null;
+        }
+    }
+
+    private static void writeCoded(DataOutputStream out, List<String> codes, String value) throws IOException {
+        int code = codes.indexOf(value);
+        if (code > 0 && code <= 255) {
+            out.writeByte(code);
+        } else {
+            out.writeByte(0);
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readCoded(DataInputStream in, List<String> codes) throws IOException {
+        int code = in.readUnsignedByte();
+        return code == 0 ? in.readUTF() : codes.get(code);
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(payload), MAC_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("플래시 쿠키 서명 오류 : " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.spring.libs;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.apache.ibatis.cursor.Cursor;
+
+/**
+ * 닫힐 때 추가 자원(SqlSession, 동시 실행 허가 등)도 함께 반환하는 MyBatis Cursor 래퍼
+ * - SqlSessionTemplate.selectCursor()는 호출이 끝나면 세션을 닫으므로, 뷰 렌더링 중에 읽을 커서는
+ *   직접 연 SqlSession과 함께 이 래퍼로 감싸서 반환
+ *
+ * @param <T> 결과 행 타입
+ */
+public class ClosingCursor<T> implements Cursor<T> {
+
+    private final Cursor<T> delegate;
+    private final AutoCloseable resource;
+    private boolean closed;
+
+    /**
+     * @param delegate 실제 커서
+     * @param resource 커서를 닫은 뒤 함께 닫을 자원
+     */
+    public ClosingCursor(Cursor<T> delegate, AutoCloseable resource) {
+        this.delegate = delegate;
+        this.resource = resource;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public boolean isConsumed() {
+        return delegate.isConsumed();
+    }
+
+    @Override
+    public int getCurrentIndex() {
+        return delegate.getCurrentIndex();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return delegate.iterator();
+    }
+
+    /**
+     * 커서와 자원을 닫음 (여러 번 호출해도 한 번만 닫음)
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            delegate.close();
+        } finally {
+            try {
+                resource.close();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
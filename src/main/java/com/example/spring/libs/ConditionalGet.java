@@ -0,0 +1,65 @@
+package com.example.spring.libs;
+
+import java.util.Date;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+/**
+ * 조건부 GET(ETag / Last-Modified → 304) 처리 유틸리티
+ *
+ * - ETag는 호출하는 쪽이 만든 버전 문자열(예: 게시글 ID + VERSION)에 배포 식별자를 붙인 강한 ETag
+ *   (재배포로 JSP가 바뀌면 이전 응답을 재사용하지 않도록 애플리케이션 시작 시각을 포함)
+ * - If-None-Match가 있으면 ETag로, 없으면 If-Modified-Since로 판단 (ServletWebRequest.checkNotModified)
+ * - Cache-Control: no-cache — 브라우저/리버스 프록시가 저장은 하되 매번 재검증하도록 함
+ * - 플래시 메시지(등록/수정 완료 등)가 있는 응답은 한 번만 보여야 하므로 저장하지 않도록 하고 304도 보내지 않음
+ */
+public final class ConditionalGet {
+
+    private static final String DEPLOYMENT = Long.toString(System.currentTimeMillis(), 36);
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 클라이언트가 가진 응답이 최신인지 확인하고 응답 헤더(ETag, Last-Modified, Cache-Control) 설정
+     *
+     * @param request 현재 요청
+     * @param version 응답 내용의 버전 문자열 (내용이 바뀌면 반드시 달라져야 함)
+     * @param lastModified 마지막 수정일시, 모르면 null
+     * @return 최신이면 true (304 상태가 설정되어 있으므로 컨트롤러는 null을 반환하여 렌더링을 생략)
+     */
+    public static boolean notModified(ServletWebRequest request, String version, Date lastModified) {
+        HttpServletResponse response = request.getResponse();
+
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request.getRequest());
+        if (flash != null && !flash.isEmpty()) {
+            if (response != null) {
+                response.setHeader("Cache-Control", "no-store");
+            }
+            return false;
+        }
+
+        if (response != null) {
+            response.setHeader("Cache-Control", "no-cache");
+        }
+        String etag = "\"" + version + "-" + DEPLOYMENT + "\"";
+        return request.checkNotModified(etag, lastModified != null ? lastModified.getTime() : -1);
+    }
+
+    /**
+     * 버전 정보를 ETag용 문자열로 변환
+     * @param prefix 구분용 접두어 (예: "post", "posts")
+     * @param version 버전 정보 (null이면 "empty")
+     * @return 예: post-15-3 (게시글 ID 15, VERSION 3), posts-1042 (목록 버전 1042)
+     */
+    public static String tag(String prefix, RowVersion version) {
+        if (version == null) {
+            return prefix + "-empty";
+        }
+        return prefix + (version.getId() != null ? "-" + version.getId() : "") + "-" + version.getVersion();
+    }
+}
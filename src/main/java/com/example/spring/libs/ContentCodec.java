@@ -0,0 +1,124 @@
+package com.example.spring.libs;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 내용(CONTENT) 압축 코덱
+ * - 기준 크기 이상인 내용만 DEFLATE로 압축하여 CONTENT_BLOB 컬럼에 저장 (CONTENT 컬럼은 NULL)
+ * - 압축해도 충분히 작아지지 않으면(MAX_RATIO 초과) 압축하지 않고 원문 그대로 저장
+ *
+ * 저장 형식 (헤더 7바이트 + 압축 데이터)
+ * [0]   'C' (0x43) 형식 표시
+ * [1]   형식 버전 (현재 1)
+ * [2]   압축 방식 (1: zlib DEFLATE, Adler-32 체크섬 포함)
+ * [3-6] 원문 UTF-8 바이트 수 (big-endian)
+ * [7-]  압축 데이터
+ */
+public final class ContentCodec {
+
+    private static final byte MAGIC = 'C';
+    private static final byte VERSION = 1;
+    private static final byte METHOD_DEFLATE = 1;
+    private static final int HEADER_LENGTH = 7;
+
+    private static final double MAX_RATIO = 0.9;    // 압축 결과가 원문의 90%를 넘으면 압축하지 않음
+
+    private ContentCodec() {
+    }
+
+    /**
+     * 내용 압축
+     *
+     * @param content 게시글 내용 (null 허용)
+     * @param thresholdBytes 압축할 최소 UTF-8 바이트 수 (0 이하면 압축하지 않음)
+     * @return 헤더를 포함한 압축 데이터, 압축 대상이 아니면 null (원문을 CONTENT에 그대로 저장)
+     */
+    public static byte[] compress(String content, int thresholdBytes) {
+        // UTF-8은 한 글자가 최대 3바이트(서로게이트 쌍은 2글자 4바이트)이므로 인코딩 전에 짧은 내용을 걸러냄
+        if (content == null || thresholdBytes <= 0 || content.length() * 3 < thresholdBytes) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return null;
+        }
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            int limit = (int) (raw.length * MAX_RATIO);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(limit, 64 * 1024) + HEADER_LENGTH);
+            out.write(MAGIC);
+            out.write(VERSION);
+            out.write(METHOD_DEFLATE);
+            out.write(raw.length >>> 24);
+            out.write(raw.length >>> 16);
+            out.write(raw.length >>> 8);
+            out.write(raw.length);
+
+            byte[] buffer = new byte[8 * 1024];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+                if (out.size() - HEADER_LENGTH > limit) {
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 압축 데이터를 원문으로 복원
+     *
+     * @param stored compress()로 만든 데이터 (null 허용)
+     * @return 게시글 내용, stored가 null이면 null
+     * @throws IllegalStateException 형식이 잘못되었거나 지원하지 않는 버전/압축 방식인 경우
+     */
+    public static String decompress(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (stored.length < HEADER_LENGTH || stored[0] != MAGIC) {
+            throw new IllegalStateException("압축된 게시글 내용 형식이 아닙니다.");
+        }
+        if (stored[1] != VERSION || stored[2] != METHOD_DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 압축 형식입니다. (버전 " + stored[1] + ", 방식 " + stored[2] + ")");
+        }
+
+        int length = (stored[3] & 0xff) << 24 | (stored[4] & 0xff) << 16 | (stored[5] & 0xff) << 8 | (stored[6] & 0xff);
+        if (length < 0) {
+            throw new IllegalStateException("압축된 게시글 내용이 손상되었습니다. (원문 길이 " + length + ")");
+        }
+        byte[] raw = new byte[length];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, HEADER_LENGTH, stored.length - HEADER_LENGTH);
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalStateException("압축된 게시글 내용이 손상되었습니다. (" + read + "/" + length + "바이트)");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 게시글 내용이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.spring.libs;
+
+import lombok.Data;
+
+/**
+ * 게시글 내용 압축 변환(ContentCompressionMigrator)용 행 정보
+ * - postMapper / bbsMapper 의 compressCandidates 조회 결과, storeCompressed 파라미터로 함께 사용
+ */
+@Data
+public class ContentRow {
+    private int id;             // 게시글 ID
+    private String content;     // 압축 전 게시글 내용 (저장 시 그 사이 수정되지 않았는지 확인용)
+    private byte[] contentBlob; // 압축된 게시글 내용 (ContentCodec 형식)
+}
@@ -0,0 +1,38 @@
+package com.example.spring.libs;
+
+/**
+ * 게시글 내용 미리보기(excerpt) 생성 유틸리티
+ * - 목록 화면에서 내용 전체를 조회하지 않도록 등록/수정 시점에 미리 계산하여 EXCERPT 컬럼에 저장
+ * - HTML 태그(에디터 입력)를 제거하고 연속된 공백을 하나로 줄인 뒤 최대 길이만큼 자름
+ */
+public final class Excerpt {
+
+    public static final int MAX_LENGTH = 100; // 미리보기 최대 글자 수 (EXCERPT 컬럼 크기 이하)
+
+    private Excerpt() {
+    }
+
+    /**
+     * 게시글 내용으로 미리보기 문자열 생성
+     *
+     * @param content 게시글 내용 (null 허용)
+     * @return 미리보기 문자열 (최대 MAX_LENGTH 글자), 내용이 없으면 null
+     */
+    public static String of(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        String text = content.replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
+        if (text.length() <= MAX_LENGTH) {
+            return text;
+        }
+
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 자름
+        int end = MAX_LENGTH;
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + "…";
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.spring.libs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * 스트리밍 JSON 출력기
+ *
+ * - 값을 받는 즉시 Writer에 쓰므로 응답 전체를 Map이나 문자열로 만들지 않음
+ * - 쉼표/콜론은 중첩 단계별 상태로 자동 처리 (호출 순서가 잘못되면 IllegalStateException)
+ * - 문자열은 JSON 규칙으로 이스케이프하며, 제어 문자와 U+2028/2029는 유니코드 이스케이프로 출력 (NDJSON 한 줄 유지)
+ */
+public final class JsonWriter implements Closeable {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final int MAX_DEPTH = 32;
+
+    private final Writer out;
+    private final boolean[] hasValue = new boolean[MAX_DEPTH];  // 단계별로 이미 값을 쓴 적이 있는지 (쉼표 출력용)
+    private final boolean[] inObject = new boolean[MAX_DEPTH];  // 단계별 객체/배열 여부
+    private int depth;
+    private boolean afterName;                                  // 객체 안에서 이름을 쓰고 값을 기다리는 중
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{', true);
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}', true);
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[', false);
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']', false);
+    }
+
+    /**
+     * 객체 안의 이름 출력 (다음에 값을 출력해야 함)
+     */
+    public JsonWriter name(String name) throws IOException {
+        if (depth == 0 || !inObject[depth - 1] || afterName) {
+            throw new IllegalStateException("객체 안에서만 이름을 쓸 수 있습니다 : " + name);
+        }
+        if (hasValue[depth - 1]) {
+            out.write(',');
+        }
+        hasValue[depth - 1] = true;
+        writeString(out, name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        beforeValue();
+        writeString(out, value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * 숫자 또는 null 출력
+     */
+    public JsonWriter value(Integer value) throws IOException {
+        beforeValue();
+        out.write(value == null ? "null" : value.toString());
+        return this;
+    }
+
+    /**
+     * 날짜를 ISO-8601 문자열(예: 2024-05-01T12:30:00+09:00)로 출력, null이면 null
+     */
+    public JsonWriter value(Date value) throws IOException {
+        beforeValue();
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(out, Instant.ofEpochMilli(value.getTime()).atZone(ZoneId.systemDefault()).format(DATE_FORMAT));
+        }
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        out.write("null");
+        return this;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private JsonWriter open(char bracket, boolean object) throws IOException {
+        beforeValue();
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("JSON 중첩이 너무 깊습니다.");
+        }
+        out.write(bracket);
+        hasValue[depth] = false;
+        inObject[depth] = object;
+        depth++;
+        return this;
+    }
+
+    private JsonWriter close(char bracket, boolean object) throws IOException {
+        if (depth == 0 || inObject[depth - 1] != object || afterName) {
+            throw new IllegalStateException("열지 않은 " + bracket + " 입니다.");
+        }
+        depth--;
+        out.write(bracket);
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (inObject[depth - 1]) {
+                throw new IllegalStateException("객체 안에서는 이름을 먼저 써야 합니다.");
+            }
+            if (hasValue[depth - 1]) {
+                out.write(',');
+            }
+            hasValue[depth - 1] = true;
+        }
+    }
+
+    /**
+     * JSON 문자열 출력 (null이면 null)
+     */
+    public static void writeString(Writer out, String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped;
+            switch (c) {
+                case '"':  escaped = "\\\""; break;
+                case '\\': escaped = "\\\\"; break;
+                case '\n': escaped = "\\n"; break;
+                case '\r': escaped = "\\r"; break;
+                case '\t': escaped = "\\t"; break;
+                default:
+                    // 제어 문자와 줄 구분 문자는 유니코드 이스케이프 (한 줄에 한 건 유지)
+                    escaped = c < 0x20 || c == '\u2028' || c == '\u2029' ? String.format("\\u%04x", (int) c) : null;
+            }
+            if (escaped != null) {
+                out.write(value, start, i - start);
+                out.write(escaped);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.spring.libs;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 목록 한 페이지 조회 결과 (게시글 목록 + 페이지네이션 정보)
+ * - 화면(JSP)은 서비스가 이 값을 Map으로 옮겨 담아 사용하고, JSON API는 그대로 스트리밍 출력
+ */
+@Data
+public class PageResult<T> {
+    private List<T> items;              // 현재 페이지의 항목
+    private Pagination pagination;      // 페이지네이션 정보
+
+    public PageResult(List<T> items, Pagination pagination) {
+        this.items = items;
+        this.pagination = pagination;
+    }
+}
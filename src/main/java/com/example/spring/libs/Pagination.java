@@ -5,10 +5,17 @@ import lombok.Data;
 /**
  * 게시판 페이징 처리를 위한 Pagination 클래스
  * - 전체 게시글 수를 기준으로 총 페이지 수, 시작/끝 페이지, offset 등을 계산
+ * - 깊은 페이지는 OFFSET 대신 커서(마지막으로 본 게시글 ID)로 이동 (keyset 페이징)
  */
 @Data
 public class Pagination {
 
+    /**
+     * 페이지 번호(OFFSET) 방식으로 이동할 수 있는 최대 블록 수
+     * 이 범위를 넘어가는 페이지는 커서 방식(after/before)으로 링크를 생성
+     */
+    public static final int MAX_OFFSET_BLOCKS = 10;
+
     private int currentPage;        // 현재 페이지 번호
     private int totalCount;         // 전체 게시글 수
     private int listCountPerPage;   // 한 페이지에 보여줄 게시글 수
@@ -16,6 +23,11 @@ public class Pagination {
     private int totalPages;         // 전체 페이지 수
     private int startPage;          // 현재 블록의 시작 페이지 번호
     private int endPage;            // 현재 블록의 끝 페이지 번호
+    private int maxOffsetPage;      // 페이지 번호로 이동 가능한 마지막 페이지 (이후는 커서 방식)
+    private boolean cursorMode;     // 커서 방식 페이징 여부
+    private boolean approximate;    // 전체 게시글 수를 현재 블록까지만 센 근사값인지 여부
+    private Integer nextCursor;     // 다음(더 오래된) 페이지 조회용 커서 (현재 페이지의 마지막 게시글 ID)
+    private Integer prevCursor;     // 이전(더 최신) 페이지 조회용 커서 (현재 페이지의 첫 게시글 ID)
 
     /**
      * 생성자에서 페이징 계산을 수행
@@ -39,6 +51,39 @@ public class Pagination {
 
         // 끝 페이지 번호 계산 (마지막 페이지 범위 초과 방지)
         this.endPage = Math.min(startPage + (pageCountPerPage - 1), totalPages);
+
+        // 페이지 번호로 이동 가능한 마지막 페이지 (예: 5 * 10 = 50페이지)
+        this.maxOffsetPage = pageCountPerPage * MAX_OFFSET_BLOCKS;
+    }
+
+    /**
+     * 커서 방식 페이징용 생성자
+     * - 전체 게시글 수를 세지 않고, 이전/다음 페이지 커서만 보관
+     *
+     * @param listCountPerPage 한 페이지당 게시글 수
+     * @param prevCursor 이전 페이지 커서 (없으면 null)
+     * @param nextCursor 다음 페이지 커서 (없으면 null)
+     */
+    public Pagination(int listCountPerPage, Integer prevCursor, Integer nextCursor) {
+        this.listCountPerPage = listCountPerPage;
+        this.prevCursor = prevCursor;
+        this.nextCursor = nextCursor;
+        this.cursorMode = true;
+    }
+
+    /**
+     * 근사 카운트 모드에서 셀 게시글 수의 상한
+     * - 현재 페이지가 속한 블록의 마지막 페이지까지 + 1건 (다음 블록 존재 여부 확인용)
+     * 예: 7페이지, 10개씩, 5페이지 블록 → 10페이지까지 100건 + 1 = 101
+     *
+     * @param currentPage 현재 페이지 번호
+     * @param listCountPerPage 한 페이지당 게시글 수
+     * @param pageCountPerPage 페이지 하단에 보여줄 페이지 개수
+     * @return 셀 게시글 수의 상한
+     */
+    public static int countCap(int currentPage, int listCountPerPage, int pageCountPerPage) {
+        int blockEndPage = ((currentPage - 1) / pageCountPerPage + 1) * pageCountPerPage;
+        return blockEndPage * listCountPerPage + 1;
     }
 
     /**
@@ -0,0 +1,17 @@
+package com.example.spring.libs;
+
+import java.util.Date;
+
+import lombok.Data;
+
+/**
+ * 게시글(또는 게시글 목록)의 변경 확인용 버전 정보 (조건부 GET에서 ETag/Last-Modified 계산에 사용)
+ * - 단건: 게시글 ID와 수정 횟수(VERSION), Last-Modified용 수정일시
+ * - 목록: 등록/수정/삭제할 때마다 1씩 오르는 목록 버전 (LIST_VERSION 테이블)
+ */
+@Data
+public class RowVersion {
+    private Integer id;         // 게시글 ID (목록은 null)
+    private long version;       // 단건: 게시글 VERSION, 목록: LIST_VERSION.VERSION
+    private Date updatedAt;     // 수정일시 (단건만, 초 단위이므로 ETag에는 쓰지 않음)
+}
@@ -0,0 +1,48 @@
+package com.example.spring.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.EventRoute;
+
+import com.example.spring.metrics.MetricsRegistry;
+
+/**
+ * 비동기 로그 링 버퍼가 가득 찼을 때의 처리 방식 (log4j2.component.properties 의 log4j2.asyncQueueFullPolicy)
+ *
+ * - 기본 정책은 빈 자리가 날 때까지 로그를 남기는 스레드(요청 스레드)를 멈추므로 출력(stdout)이 밀리면 응답 지연으로 이어짐
+ * - 이 정책은 레벨과 관계없이 로그를 버리고 log_events_dropped_total{level} 로 개수만 셈 (/metrics)
+ *   (버려진 로그가 있으면 그 시간대의 로그는 불완전하다는 뜻이므로 지표로 확인)
+ *
+ * Spring 빈이 아니라 Log4j가 직접 생성함 (인자 없는 생성자 필요)
+ */
+public class DroppingQueueFullPolicy implements AsyncQueueFullPolicy {
+
+    private static final Level[] LEVELS = {Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG, Level.TRACE};
+
+    private final LongAdder[] dropped = new LongAdder[LEVELS.length];
+
+    public DroppingQueueFullPolicy() {
+        MetricsRegistry registry = MetricsRegistry.get();
+        for (int i = 0; i < LEVELS.length; i++) {
+            dropped[i] = registry.counter("log_events_dropped_total", "비동기 로그 버퍼가 가득 차서 버린 로그 수",
+                MetricsRegistry.label("level", LEVELS[i].name()));
+        }
+    }
+
+    @Override
+    public EventRoute getRoute(long backgroundThreadId, Level level) {
+        dropped[index(level)].increment();
+        return EventRoute.DISCARD;
+    }
+
+    private static int index(Level level) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (level.isMoreSpecificThan(LEVELS[i])) {
+                return i;
+            }
+        }
+        return LEVELS.length - 1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.spring.logging;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 ID와 로그 샘플링 여부를 MDC에 넣는 필터 (web.xml 에서 가장 앞에 등록)
+ *
+ * - requestId : X-Request-Id 요청 헤더(앞단 프록시가 붙인 값)를 사용하고, 없거나 형식이 맞지 않으면 새로 만듦
+ *               (응답 헤더 X-Request-Id 로도 돌려주므로 사용자 문의 시 로그를 찾을 수 있음)
+ * - sampled   : 요청 ID로 정한 샘플링 대상 여부 ("true"/"false")
+ *               log4j2.xml 의 DynamicThresholdFilter가 sampled=true 인 요청만 DEBUG 로그를 남기고 나머지는 INFO 이상만 남김
+ *               (같은 요청 ID는 항상 같은 결과이므로 샘플링된 요청은 처음부터 끝까지 모든 로그가 남음)
+ *
+ * 비동기 요청(DeferredResult)이 다시 디스패치될 때도 같은 값을 다시 넣음 (작업 스레드로는 DbBulkhead가 전달)
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    /** MDC 키: 요청 ID */
+    public static final String REQUEST_ID = "requestId";
+
+    /** MDC 키: DEBUG 로그 샘플링 대상 여부 */
+    public static final String SAMPLED = "sampled";
+
+    private static final String HEADER = "X-Request-Id";
+    private static final String ATTRIBUTE = RequestIdFilter.class.getName() + ".REQUEST_ID";
+    private static final int MAX_LENGTH = 64;
+
+    private double sampleRate = 0.01;
+
+    /**
+     * DEBUG 로그를 남길 요청의 비율 (web.xml init-param, 0~1, 기본 0.01)
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String requestId = (String) request.getAttribute(ATTRIBUTE);
+        if (requestId == null) {
+            requestId = request.getHeader(HEADER);
+            if (!isValid(requestId)) {
+                requestId = newRequestId();
+            }
+            request.setAttribute(ATTRIBUTE, requestId);
+            response.setHeader(HEADER, requestId);
+        }
+
+        MDC.put(REQUEST_ID, requestId);
+        MDC.put(SAMPLED, isSampled(requestId, sampleRate) ? "true" : "false");
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(SAMPLED);
+        }
+    }
+
+    /**
+     * 요청 ID의 샘플링 대상 여부 (요청 ID 해시값 기준, 같은 ID는 항상 같은 결과)
+     */
+    static boolean isSampled(String requestId, double sampleRate) {
+        return (requestId.hashCode() & Integer.MAX_VALUE) % 10000 < sampleRate * 10000;
+    }
+
+    /**
+     * 16자리 16진수 요청 ID (최상위 비트를 켜서 앞자리 0이 빠지지 않도록 함)
+     */
+    static String newRequestId() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+    }
+
+    /**
+     * 외부에서 받은 요청 ID는 로그에 그대로 남으므로 길이와 문자(영문, 숫자, '-', '_', '.')를 제한
+     */
+    private static boolean isValid(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char ch = requestId.charAt(i);
+            if (!(ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || ch >= '0' && ch <= '9' || ch == '-' || ch == '_' || ch == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
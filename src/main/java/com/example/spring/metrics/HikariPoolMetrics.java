@@ -0,0 +1,184 @@
+package com.example.spring.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.spring.db.ReplicaHealthCheck;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * HikariCP 커넥션 풀 지표
+ *
+ * - hikari_connections{state="active|idle|total|max"} : 커넥션 수 (/metrics 조회 시점)
+ * - hikari_pending_threads                            : 커넥션을 기다리는 스레드 수
+ * - hikari_connection_acquire_seconds                 : 커넥션 획득 대기 시간
+ * - hikari_connection_usage_seconds                   : 커넥션을 빌려 반납하기까지의 시간
+ * - hikari_connection_timeouts_total                  : connectionTimeout 안에 커넥션을 얻지 못한 횟수
+ * - hikari_connection_acquire_recent_seconds          : 최근 커넥션 획득 대기 시간 (지수 이동 평균, 요청 수 제한 AdmissionControlFilter 에서 사용)
+ *                                                       기록이 없는 동안은 RECENT_HALF_LIFE_MILLIS마다 절반으로 줄어듦
+ *
+ * db-context.xml 의 HikariDataSource(원본/복제본 풀)마다 시작 시 MetricsTrackerFactory를 등록 (풀마다 한 번만 가능)
+ */
+@Component
+public class HikariPoolMetrics implements InitializingBean, MetricsTrackerFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariPoolMetrics.class);
+
+    @Autowired(required = false)
+    List<HikariDataSource> pools = Collections.emptyList();
+
+    @Autowired(required = false)
+    ReplicaHealthCheck replicaHealthCheck;
+
+    // 최근 획득 대기 시간에 새 기록을 반영하는 비율 (클수록 최근 기록에 민감)
+    private static final double RECENT_WEIGHT = 0.2;
+
+    // 새 기록이 없을 때 최근 획득 대기 시간이 절반으로 줄어드는 시간 (지난 급증이 제한을 계속 낮추지 않도록)
+    private static final long RECENT_HALF_LIFE_MILLIS = 1000;
+
+    // 풀 이름 → 최근 커넥션 획득 대기 시간(ns, 지수 이동 평균)
+    private final Map<String, RecentWait> recentWaits = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        if (pools.isEmpty()) {
+            logger.info("HikariCP 데이터소스가 없으므로 커넥션 풀 지표를 수집하지 않습니다.");
+            return;
+        }
+
+        for (HikariDataSource hikari : pools) {
+            try {
+                hikari.setMetricsTrackerFactory(this);
+            } catch (IllegalStateException e) {
+                logger.warn("HikariCP 지표 수집기가 이미 등록되어 있습니다 : {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 풀이 시작될 때(또는 등록 시점에 이미 시작된 풀에) HikariCP가 호출
+     */
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MetricsRegistry registry = MetricsRegistry.get();
+        String pool = MetricsRegistry.label("pool", poolName);
+
+        registry.gauge("hikari_connections", "커넥션 수", MetricsRegistry.label("pool", poolName, "state", "active"), poolStats::getActiveConnections);
+        registry.gauge("hikari_connections", "커넥션 수", MetricsRegistry.label("pool", poolName, "state", "idle"), poolStats::getIdleConnections);
+        registry.gauge("hikari_connections", "커넥션 수", MetricsRegistry.label("pool", poolName, "state", "total"), poolStats::getTotalConnections);
+        registry.gauge("hikari_connections", "커넥션 수", MetricsRegistry.label("pool", poolName, "state", "max"), poolStats::getMaxConnections);
+        registry.gauge("hikari_pending_threads", "커넥션을 기다리는 스레드 수", pool, poolStats::getPendingThreads);
+
+        LatencyHistogram acquire = registry.histogram("hikari_connection_acquire_seconds", "커넥션 획득 대기 시간", pool);
+        LatencyHistogram usage = registry.histogram("hikari_connection_usage_seconds", "커넥션 사용 시간", pool);
+        LongAdder timeouts = registry.counter("hikari_connection_timeouts_total", "커넥션 획득 시간 초과 횟수", pool);
+
+        // 시간 초과는 connectionTimeout만큼 기다린 것으로 기록
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(connectionTimeout(poolName));
+        RecentWait recent = new RecentWait(pool(poolName));
+        recentWaits.put(poolName, recent);
+        registry.gauge("hikari_connection_acquire_recent_seconds", "최근 커넥션 획득 대기 시간 (지수 이동 평균)", pool, () -> recent.nanos() / 1e9);
+
+        logger.info("HikariCP 커넥션 풀 지표 수집 시작 : {}", poolName);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.record(elapsedAcquiredNanos);
+                recent.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(elapsedBorrowedMillis * 1_000_000);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+                recent.record(timeoutNanos);
+            }
+        };
+    }
+
+    /**
+     * 최근 커넥션 획득 대기 시간 (요청을 처리하는 풀 중 가장 긴 값)
+     * - 커넥션을 얻을 때마다 갱신하는 지수 이동 평균이므로 풀이 막히기 시작하면 몇 번의 획득 안에 올라감
+     * - 복제본이 비정상인 동안은 조회를 원본 DB로 보내므로 복제본 풀은 제외
+     *   (복제본이 없으면 상태 확인이 매번 connectionTimeout까지 기다려 평균이 시간 초과 값에 머묾)
+     * @return 대기 시간(ms), 기록이 없으면 0
+     */
+    public double recentAcquireMillis() {
+        double nanos = 0;
+        for (RecentWait recent : recentWaits.values()) {
+            if (recent.dataSource != null && !servesRequests(recent.dataSource)) {
+                continue;
+            }
+            nanos = Math.max(nanos, recent.nanos());
+        }
+        return nanos / 1_000_000.0;
+    }
+
+    private boolean servesRequests(HikariDataSource dataSource) {
+        return replicaHealthCheck == null
+            || dataSource != replicaHealthCheck.getReplicaDataSource()
+            || replicaHealthCheck.isHealthy();
+    }
+
+    private HikariDataSource pool(String poolName) {
+        for (HikariDataSource hikari : pools) {
+            if (poolName.equals(hikari.getPoolName())) {
+                return hikari;
+            }
+        }
+        return null;
+    }
+
+    private long connectionTimeout(String poolName) {
+        HikariDataSource hikari = pool(poolName);
+        return hikari != null ? hikari.getConnectionTimeout() : 30000;
+    }
+
+    /**
+     * 풀 하나의 최근 획득 대기 시간
+     * - 동시에 기록하면 한쪽 기록이 빠질 수 있지만 추세를 보는 용도이므로 잠금을 사용하지 않음
+     */
+    private static final class RecentWait {
+        private final HikariDataSource dataSource;
+        private volatile double nanos;
+        private volatile long recordedAt = System.currentTimeMillis();
+
+        private RecentWait(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void record(long sampleNanos) {
+            long now = System.currentTimeMillis();
+            double current = decayed(now);
+            nanos = current + (sampleNanos - current) * RECENT_WEIGHT;
+            recordedAt = now;
+        }
+
+        private double nanos() {
+            return decayed(System.currentTimeMillis());
+        }
+
+        private double decayed(long now) {
+            long idleMillis = Math.max(0, now - recordedAt);
+            return nanos * Math.pow(0.5, (double) idleMillis / RECENT_HALF_LIFE_MILLIS);
+        }
+    }
+}
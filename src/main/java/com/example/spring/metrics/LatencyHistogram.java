@@ -0,0 +1,129 @@
+package com.example.spring.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (lock-free, 기록 시 객체 생성 없음)
+ *
+ * - 마이크로초 단위 값을 2의 거듭제곱 구간마다 16개 하위 구간으로 나눈 고정 버킷에 기록 (상대 오차 약 6%)
+ * - 기록은 AtomicLongArray 증가 한 번과 LongAdder 두 번뿐이므로 모든 요청에 켜 두어도 부담이 적음
+ * - 분위수(p50/p99/p999)는 최근 1~2분(이전 창 + 현재 창) 기록으로 계산하고, 개수/합계는 시작 이후 누적값
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;     // 2의 거듭제곱 구간 하나를 나누는 하위 구간 수
+    private static final int MAX_EXPONENT = 40;             // 2^40 마이크로초(약 12일) 이상은 마지막 버킷에 기록
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BITS + 2) * SUB_COUNT;
+
+    private static final long WINDOW_MILLIS = 60_000;       // 분위수 계산 창 길이
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKET_COUNT);
+    private AtomicLongArray previous = new AtomicLongArray(BUCKET_COUNT);
+    private long currentStartedAt = System.currentTimeMillis();
+
+    /**
+     * 소요 시간 기록
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        count.increment();
+        sumNanos.add(nanos);
+        current.incrementAndGet(bucketOf(nanos / 1000));
+    }
+
+    /**
+     * @return 시작 이후 기록 횟수
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return 시작 이후 기록한 시간의 합 (초)
+     */
+    public double sumSeconds() {
+        return sumNanos.sum() / 1e9;
+    }
+
+    /**
+     * 최근 기록의 분위수 계산 (조회 시 창이 지났으면 현재 창을 이전 창으로 넘김)
+     *
+     * @param quantiles 계산할 분위수 (예: 0.5, 0.99, 0.999)
+     * @return 분위수별 값 (초), 최근 기록이 없으면 NaN
+     */
+    public synchronized double[] quantileSeconds(double... quantiles) {
+        long now = System.currentTimeMillis();
+        if (now - currentStartedAt >= WINDOW_MILLIS) {
+            previous = current;
+            current = new AtomicLongArray(BUCKET_COUNT);
+            currentStartedAt = now;
+        }
+
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0;
+        AtomicLongArray recent = current;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            merged[i] = previous.get(i) + recent.get(i);
+            total += merged[i];
+        }
+
+        double[] values = new double[quantiles.length];
+        for (int q = 0; q < quantiles.length; q++) {
+            if (total == 0) {
+                values[q] = Double.NaN;
+                continue;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(quantiles[q] * total));
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulative += merged[i];
+                if (cumulative >= rank) {
+                    values[q] = midpointMicros(i) / 1e6;
+                    break;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 마이크로초 값이 들어갈 버킷 번호
+     */
+    static int bucketOf(long micros) {
+        if (micros < SUB_COUNT) {
+            return (int) micros;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+
+        int shift = exponent - SUB_BITS;
+        int sub = (int) (micros >>> shift) & (SUB_COUNT - 1);
+        return (shift + 1) * SUB_COUNT + sub;
+    }
+
+    /**
+     * 버킷이 나타내는 구간의 중간값 (마이크로초)
+     */
+    static double midpointMicros(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_COUNT - 1;
+        int sub = bucket % SUB_COUNT;
+        long lower = (long) (SUB_COUNT + sub) << shift;
+        return lower + (1L << shift) / 2.0;
+    }
+}
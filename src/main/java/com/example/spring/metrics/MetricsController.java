@@ -0,0 +1,33 @@
+package com.example.spring.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+
+/**
+ * 지표 조회 요청을 처리하는 컨트롤러 (Prometheus 수집 대상)
+ */
+@Controller
+public class MetricsController {
+
+    /**
+     * 모든 지표를 Prometheus 텍스트 형식으로 응답
+     * @param response 응답 객체 (지표를 직접 씀)
+     */
+    @GetMapping("/metrics")
+    public void metricsGet(HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain; version=0.0.4; charset=UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        MetricsRegistry.get().writePrometheus(out);
+        out.flush();
+    }
+}
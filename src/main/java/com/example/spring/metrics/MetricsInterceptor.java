@@ -0,0 +1,114 @@
+package com.example.spring.metrics;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 컨트롤러 처리 시간과 뷰(JSP) 렌더링 시간을 나눠 기록하는 인터셉터 (servlet-context.xml 에 등록)
+ *
+ * - http_handler_duration_seconds : 컨트롤러 메서드 실행 시간 (preHandle ~ postHandle, 예외 시 afterCompletion까지)
+ * - http_render_duration_seconds  : 뷰 렌더링 시간 (postHandle ~ afterCompletion, 뷰가 있는 경우만)
+ * - http_requests_total           : 처리한 요청 수 (응답 상태 2xx/3xx/4xx/5xx 별)
+ *
+ * 비동기 요청(DeferredResult)은 결과를 받아 다시 디스패치될 때까지를 컨트롤러 처리 시간으로 기록 (작업 대기/실행 시간 포함)
+ *
+ * 지표 객체는 컨트롤러 메서드별로 한 번만 만들어 두므로 요청마다 기록 비용은 시각 측정 몇 번과 카운터 증가뿐임
+ */
+public class MetricsInterceptor implements HandlerInterceptor {
+
+    private static final String TIMING_ATTRIBUTE = MetricsInterceptor.class.getName() + ".TIMING";
+
+    private final ConcurrentHashMap<Method, HandlerMetrics> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(TIMING_ATTRIBUTE) != null) {
+            // 비동기 결과로 다시 디스패치된 경우: 처음 요청의 측정 시작 시각을 그대로 사용
+            return true;
+        }
+        if (handler instanceof HandlerMethod) {
+            HandlerMetrics metrics = handlers.computeIfAbsent(((HandlerMethod) handler).getMethod(),
+                method -> new HandlerMetrics(((HandlerMethod) handler).getBeanType().getSimpleName() + "." + method.getName()));
+            request.setAttribute(TIMING_ATTRIBUTE, new Timing(metrics, System.nanoTime()));
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        Timing timing = (Timing) request.getAttribute(TIMING_ATTRIBUTE);
+        if (timing != null) {
+            timing.handledAt = System.nanoTime();
+            timing.rendering = modelAndView != null;
+            timing.metrics.handler.record(timing.handledAt - timing.startedAt);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Timing timing = (Timing) request.getAttribute(TIMING_ATTRIBUTE);
+        if (timing == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (timing.handledAt == 0) {
+            // 컨트롤러에서 예외가 발생하여 postHandle이 호출되지 않은 경우
+            timing.metrics.handler.record(now - timing.startedAt);
+        } else if (timing.rendering) {
+            timing.metrics.render.record(now - timing.handledAt);
+        }
+        timing.metrics.requests(response.getStatus()).increment();
+    }
+
+    /**
+     * 요청 하나의 측정 상태 (요청 속성으로 보관)
+     */
+    private static final class Timing {
+        private final HandlerMetrics metrics;
+        private final long startedAt;
+        private long handledAt;
+        private boolean rendering;
+
+        private Timing(HandlerMetrics metrics, long startedAt) {
+            this.metrics = metrics;
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * 컨트롤러 메서드 하나의 지표 묶음
+     */
+    private static final class HandlerMetrics {
+        private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+        private final LatencyHistogram handler;
+        private final LatencyHistogram render;
+        private final LongAdder[] requests = new LongAdder[STATUS_CLASSES.length];
+
+        private HandlerMetrics(String name) {
+            MetricsRegistry registry = MetricsRegistry.get();
+            String labels = MetricsRegistry.label("handler", name);
+            handler = registry.histogram("http_handler_duration_seconds", "컨트롤러 메서드 실행 시간", labels);
+            render = registry.histogram("http_render_duration_seconds", "뷰 렌더링 시간", labels);
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                requests[i] = registry.counter("http_requests_total", "처리한 요청 수",
+                    MetricsRegistry.label("handler", name, "status", STATUS_CLASSES[i]));
+            }
+        }
+
+        private LongAdder requests(int status) {
+            int index = status / 100 - 1;
+            return requests[Math.max(0, Math.min(requests.length - 1, index))];
+        }
+    }
+}
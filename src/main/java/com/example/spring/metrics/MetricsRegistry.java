@@ -0,0 +1,159 @@
+package com.example.spring.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 애플리케이션 지표 저장소
+ *
+ * - 지표 종류: 지연 시간(summary, LatencyHistogram), 누적 횟수(counter, LongAdder), 현재 값(gauge, 조회 시 계산)
+ * - 지표는 이름 + 라벨 문자열(예: handler="PostController.listGet")로 구분하며, 처음 요청할 때 한 번만 생성
+ *   (호출하는 쪽에서 반환된 객체를 보관해 두면 이후 기록에는 조회 비용이 없음)
+ * - MyBatis 플러그인처럼 Spring 빈이 아닌 곳에서도 기록할 수 있도록 애플리케이션 전체에서 하나의 인스턴스를 사용
+ * - /metrics 요청 시 Prometheus 텍스트 형식(version 0.0.4)으로 출력
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.99", "0.999"};
+
+    private final ConcurrentHashMap<String, Family> families = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    public static MetricsRegistry get() {
+        return INSTANCE;
+    }
+
+    /**
+     * 지연 시간 지표 (Prometheus summary: p50/p99/p999, _sum, _count)
+     * @param name 지표 이름 (단위 접미사 포함, 예: http_handler_duration_seconds)
+     * @param help 설명
+     * @param labels 라벨 문자열 (label() 로 생성, 없으면 빈 문자열)
+     */
+    public LatencyHistogram histogram(String name, String help, String labels) {
+        return (LatencyHistogram) family(name, help, "summary").children.computeIfAbsent(labels, key -> new LatencyHistogram());
+    }
+
+    /**
+     * 누적 횟수 지표 (Prometheus counter, 이름은 _total로 끝나야 함)
+     */
+    public LongAdder counter(String name, String help, String labels) {
+        return (LongAdder) family(name, help, "counter").children.computeIfAbsent(labels, key -> new LongAdder());
+    }
+
+    /**
+     * 현재 값 지표 (Prometheus gauge, 출력할 때마다 supplier 호출)
+     * - 같은 이름/라벨로 다시 등록하면 새 supplier로 교체
+     */
+    public void gauge(String name, String help, String labels, DoubleSupplier supplier) {
+        family(name, help, "gauge").children.put(labels, supplier);
+    }
+
+    private Family family(String name, String help, String type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException("지표 " + name + "는 이미 " + family.type + " 형식으로 등록되어 있습니다.");
+        }
+        return family;
+    }
+
+    /**
+     * 라벨 문자열 생성 (값의 역슬래시, 큰따옴표, 줄바꿈은 이스케이프)
+     * @param nameValues 라벨 이름, 값, 이름, 값 ... 순서
+     * @return 예: handler="PostController.listGet",status="2xx"
+     */
+    public static String label(String... nameValues) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i + 1 < nameValues.length; i += 2) {
+            if (labels.length() > 0) {
+                labels.append(',');
+            }
+            labels.append(nameValues[i]).append("=\"");
+            String value = nameValues[i + 1];
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                if (ch == '\\' || ch == '"') {
+                    labels.append('\\').append(ch);
+                } else if (ch == '\n') {
+                    labels.append("\\n");
+                } else {
+                    labels.append(ch);
+                }
+            }
+            labels.append('"');
+        }
+        return labels.toString();
+    }
+
+    /**
+     * 모든 지표를 Prometheus 텍스트 형식으로 출력 (이름, 라벨 순 정렬)
+     */
+    public void writePrometheus(Writer out) throws IOException {
+        for (Map.Entry<String, Family> entry : new TreeMap<>(families).entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+
+            out.write("# HELP " + name + " " + family.help.replace("\\", "\\\\").replace("\n", "\\n") + "\n");
+            out.write("# TYPE " + name + " " + family.type + "\n");
+
+            for (Map.Entry<String, Object> child : new TreeMap<>(family.children).entrySet()) {
+                String labels = child.getKey();
+                Object metric = child.getValue();
+
+                if (metric instanceof LatencyHistogram) {
+                    LatencyHistogram histogram = (LatencyHistogram) metric;
+                    double[] values = histogram.quantileSeconds(QUANTILES);
+                    String prefix = labels.isEmpty() ? "" : labels + ",";
+                    for (int i = 0; i < QUANTILES.length; i++) {
+                        writeSample(out, name, prefix + "quantile=\"" + QUANTILE_LABELS[i] + "\"", values[i]);
+                    }
+                    writeSample(out, name + "_sum", labels, histogram.sumSeconds());
+                    writeSample(out, name + "_count", labels, histogram.count());
+                } else if (metric instanceof LongAdder) {
+                    writeSample(out, name, labels, ((LongAdder) metric).sum());
+                } else {
+                    writeSample(out, name, labels, ((DoubleSupplier) metric).getAsDouble());
+                }
+            }
+        }
+    }
+
+    private static void writeSample(Writer out, String name, String labels, double value) throws IOException {
+        out.write(name);
+        if (!labels.isEmpty()) {
+            out.write("{" + labels + "}");
+        }
+        out.write(' ');
+        if (Double.isNaN(value)) {
+            out.write("NaN");
+        } else if (value == (long) value) {
+            out.write(Long.toString((long) value));
+        } else {
+            out.write(Double.toString(value));
+        }
+        out.write('\n');
+    }
+
+    /**
+     * 이름이 같은 지표 묶음 (라벨 문자열 → LatencyHistogram / LongAdder / DoubleSupplier)
+     */
+    private static final class Family {
+        private final String help;
+        private final String type;
+        private final ConcurrentHashMap<String, Object> children = new ConcurrentHashMap<>();
+
+        private Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+}
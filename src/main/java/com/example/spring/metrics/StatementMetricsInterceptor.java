@@ -0,0 +1,112 @@
+package com.example.spring.metrics;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 매퍼 SQL 문장별 실행 시간과 처리 행 수를 기록하는 MyBatis 플러그인 (mybatis-config.xml 에 등록)
+ *
+ * - mybatis_statement_duration_seconds : 문장 실행 시간 (커서 조회는 커서를 여는 데까지)
+ * - mybatis_statement_rows_total       : 조회한 행 수(List 결과) 또는 변경된 행 수
+ * - mybatis_statement_errors_total     : 예외로 끝난 실행 수
+ *
+ * namespaces 속성(쉼표 구분, 기본 postMapper,bbsMapper)에 속한 문장만 기록
+ * ResultHandler로 처리하는 조회와 JDBC 배치 INSERT는 행 수를 알 수 없어 실행 시간만 기록
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private static final StatementMetrics UNTRACKED = new StatementMetrics(null);
+
+    private final ConcurrentHashMap<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+    private String[] namespaces = {"postMapper.", "bbsMapper."};
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        StatementMetrics metrics = statements.computeIfAbsent(statement.getId(),
+            id -> isTracked(id) ? new StatementMetrics(id) : UNTRACKED);
+        if (metrics == UNTRACKED) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            if (result instanceof List) {
+                metrics.rows.add(((List<?>) result).size());
+            } else if (result instanceof Integer && (Integer) result > 0) {
+                metrics.rows.add((Integer) result); // 배치 실행 시 반환되는 음수 값은 제외
+            }
+            return result;
+        } catch (Throwable e) {
+            metrics.errors.increment();
+            throw e;
+        } finally {
+            metrics.duration.record(System.nanoTime() - start);
+        }
+    }
+
+    private boolean isTracked(String id) {
+        for (String namespace : namespaces) {
+            if (id.startsWith(namespace)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        String value = properties.getProperty("namespaces");
+        if (value != null) {
+            String[] names = value.split(",");
+            for (int i = 0; i < names.length; i++) {
+                names[i] = names[i].trim() + ".";
+            }
+            namespaces = names;
+        }
+    }
+
+    /**
+     * 문장 하나의 지표 묶음
+     */
+    private static final class StatementMetrics {
+        private final LatencyHistogram duration;
+        private final LongAdder rows;
+        private final LongAdder errors;
+
+        private StatementMetrics(String id) {
+            if (id == null) {
+                duration = null;
+                rows = null;
+                errors = null;
+                return;
+            }
+
+            MetricsRegistry registry = MetricsRegistry.get();
+            String labels = MetricsRegistry.label("statement", id);
+            duration = registry.histogram("mybatis_statement_duration_seconds", "매퍼 SQL 문장 실행 시간", labels);
+            rows = registry.counter("mybatis_statement_rows_total", "매퍼 SQL 문장이 조회하거나 변경한 행 수", labels);
+            errors = registry.counter("mybatis_statement_errors_total", "예외로 끝난 매퍼 SQL 문장 실행 수", labels);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.spring.password;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 비밀번호 해시 작업을 받을 수 없을 때 발생하는 예외 (대기열 초과, 시간 초과)
+ * - 요청 스레드를 붙잡아 두지 않고 503 응답으로 바로 돌려보냄
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "잠시 후 다시 시도해주세요.")
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.spring.password;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 처리 엔진
+ *
+ * - BCrypt 연산을 Tomcat 요청 스레드가 아닌 CPU 코어 수만큼의 전용 작업 스레드에서 실행
+ * - 대기열이 가득 차면 기다리지 않고 바로 거절(PasswordHashingBusyException)하여
+ *   등록/수정/삭제 요청이 몰려도 목록/상세 조회 요청이 CPU를 빼앗기지 않도록 함
+ * - 시작 시 목표 시간(hash.targetMillis)에 맞는 BCrypt cost를 측정하여 사용 (배포 환경별 자동 보정)
+ * - 저장된 해시의 cost가 현재 목표 cost와 다르면 needsRehash()로 재해시 필요 여부를 알려줌
+ * - 대기열 길이, 해시 시간 등 지표를 JMX(com.example.spring:type=PasswordHashing)로 노출
+ * - 대량 등록(encodeAll)은 작업 스레드 수만큼만 동시에 제출하여 일반 요청이 대기열에서 오래 기다리지 않도록 함
+ */
+@Component
+@ManagedResource(objectName = "com.example.spring:type=PasswordHashing")
+public class PasswordHashingEngine implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingEngine.class);
+
+    @Value("${hash.workers:0}")
+    private int workers;                // 작업 스레드 수 (0이면 CPU 코어 수)
+
+    @Value("${hash.queueCapacity:64}")
+    private int queueCapacity;          // 대기열 크기 (가득 차면 즉시 거절)
+
+    @Value("${hash.timeoutMillis:5000}")
+    private long timeoutMillis;         // 해시 결과를 기다리는 최대 시간
+
+    @Value("${hash.targetMillis:100}")
+    private long targetMillis;          // cost 보정 시 목표로 하는 해시 1회 시간
+
+    @Value("${hash.minCost:10}")
+    private int minCost;                // 보정 결과와 관계없이 사용할 최소 cost
+
+    @Value("${hash.maxCost:14}")
+    private int maxCost;                // 보정 시 시도할 최대 cost
+
+    @Value("${hash.cost:0}")
+    private int fixedCost;              // 0보다 크면 보정 없이 이 cost를 사용
+
+    private ThreadPoolExecutor executor;
+    private Semaphore bulkPermits;      // 대량 해시 작업의 동시 제출 수 제한 (작업 스레드 수)
+    private volatile BCryptPasswordEncoder encoder;
+    private volatile int cost;
+
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * 작업 스레드 풀 생성 및 BCrypt cost 보정
+     */
+    @Override
+    public void afterPropertiesSet() {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        bulkPermits = new Semaphore(threads);
+
+        cost = fixedCost > 0 ? fixedCost : calibrate();
+        encoder = new BCryptPasswordEncoder(cost);
+        logger.info("비밀번호 해시 엔진 시작 : 작업 스레드 {}개, 대기열 {}, BCrypt cost {}", threads, queueCapacity, cost);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 목표 시간 안에 끝나는 가장 높은 BCrypt cost 측정 (최소 minCost)
+     * @return 사용할 cost
+     */
+    private int calibrate() {
+        int selected = minCost;
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            BCryptPasswordEncoder candidateEncoder = new BCryptPasswordEncoder(candidate);
+            candidateEncoder.encode("calibration"); // 첫 실행(JIT 준비) 제외
+
+            long start = System.nanoTime();
+            candidateEncoder.encode("calibration");
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            selected = candidate;
+        }
+        return selected;
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * 여러 비밀번호의 해시를 모든 작업 스레드에서 나눠 생성 (대량 등록용)
+     * - 동시에 제출하는 작업을 작업 스레드 수로 제한하므로, 일반 요청의 해시 작업은 대기열에서
+     *   최대 해시 1회 시간 정도만 기다림
+     * - 대기열이 가득 차 제출할 수 없으면 호출한 스레드에서 직접 해시 (대량 등록 요청 스레드 1개만 사용)
+     *
+     * @param rawPasswords 평문 비밀번호 목록 (null 항목은 결과도 null)
+     * @return 같은 순서의 BCrypt 해시 목록
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+
+        try {
+            for (String rawPassword : rawPasswords) {
+                if (rawPassword == null) {
+                    futures.add(null);
+                    continue;
+                }
+
+                bulkPermits.acquire();
+                try {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return timed(() -> encoder.encode(rawPassword));
+                        } finally {
+                            bulkPermits.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    bulkPermits.release();
+                    long start = System.nanoTime();
+                    String hash = encoder.encode(rawPassword);
+                    record(System.nanoTime() - start);
+                    futures.add(CompletableFuture.completedFuture(hash));
+                }
+            }
+
+            for (Future<String> future : futures) {
+                encoded.add(future == null ? null : future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(futures);
+            throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return encoded;
+    }
+
+    private static void cancelAll(List<Future<String>> futures) {
+        for (Future<String> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 일치하면 true
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return execute(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시를 현재 목표 cost로 다시 만들어야 하는지 여부
+     * - 예: $2a$10$... 해시인데 현재 cost가 12이면 true
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 재해시가 필요하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) != cost;
+    }
+
+    private static int costOf(String encodedPassword) {
+        // BCrypt 해시 형식: $2a$10$<salt+hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new PasswordHashingBusyException("비밀번호 처리 대기열이 가득 찼습니다.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException("비밀번호 처리 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> task) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    private void record(long elapsedNanos) {
+        hashCount.increment();
+        hashNanos.add(elapsedNanos);
+        maxHashNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    @ManagedAttribute(description = "현재 BCrypt cost")
+    public int getCost() {
+        return cost;
+    }
+
+    @ManagedAttribute(description = "대기열에 쌓인 해시 작업 수")
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @ManagedAttribute(description = "실행 중인 해시 작업 수")
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @ManagedAttribute(description = "완료된 해시 작업 수")
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    @ManagedAttribute(description = "대기열이 가득 차 거절된 작업 수")
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @ManagedAttribute(description = "해시 1회 평균 시간(ms)")
+    public double getAverageHashMillis() {
+        long count = hashCount.sum();
+        return count == 0 ? 0 : hashNanos.sum() / (double) count / 1_000_000;
+    }
+
+    @ManagedAttribute(description = "해시 1회 최대 시간(ms)")
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / 1_000_000.0;
+    }
+}
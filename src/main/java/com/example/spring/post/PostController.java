@@ -1,7 +1,15 @@
 package com.example.spring.post;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -10,8 +18,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.example.spring.api.JsonResponse;
+import com.example.spring.db.DbBulkhead;
+import com.example.spring.db.ReplicaRouting;
+import com.example.spring.libs.ConditionalGet;
+import com.example.spring.libs.JsonWriter;
+import com.example.spring.libs.RowVersion;
+import com.example.spring.search.PostSuggestion;
+
 /**
  * 게시글 관련 요청을 처리하는 웹 컨트롤러 클래스
  * 사용자 요청을 받아 서비스 계층과 연결하고 뷰로 데이터를 전달함
@@ -23,43 +42,215 @@ public class PostController {
     @Autowired // PostService 객체를 자동으로 주입
     PostService postService;
 
+    @Autowired // 게시글 목록 화면 HTML 캐시
+    PostListPageCache postListPageCache;
+
+    @Autowired // DB 조회 전용 실행기 (요청 스레드 대신 DB 작업 실행)
+    DbBulkhead dbBulkhead;
+
+    @Autowired // 게시글 조회수 집계기 (메모리에 모아 주기적으로 DB에 반영)
+    PostViewCounter postViewCounter;
+
     /**
      * 게시글 목록 화면 요청 처리 (GET 방식)
      *
      * - 사용자가 검색 조건(searchType, searchKeyword)을 입력하면 해당 조건에 따라 게시글을 필터링
      * - 검색 조건이 없으면 전체 게시글을 조회
      * - 페이지 번호(page) 파라미터를 통해 해당 페이지의 게시글만 조회 (기본값은 1)
+     * - after/before 커서가 주어지면 OFFSET 대신 게시글 ID 기준으로 조회 (깊은 페이지용 keyset 페이징)
      * - 게시글 목록, 검색 조건, 페이지네이션 정보를 모델에 담아 뷰로 전달
+     * - 목록 버전(DB의 LIST_VERSION, 등록/수정/삭제마다 증가)이 클라이언트의 ETag와 같으면 목록 조회와 렌더링 없이 304 응답
+     *   (삭제는 MAX 값을 바꾸지 않으므로 목록에는 Last-Modified를 보내지 않음)
+     * - 앞쪽 페이지(페이지 번호 방식)는 렌더링된 HTML을 캐시하여 게시판이 바뀌기 전까지 DB 조회와 JSP 렌더링 없이 응답
+     *   (게시판이 바뀐 직후에는 복제 지연 동안 캐시를 채우는 조회를 원본 DB에서 실행)
+     * - 캐시에 없으면 DB 조회는 DbBulkhead 작업 스레드에서 실행 (비동기 요청, 혼잡하면 503)
      *
      * @param searchType 검색 기준 ("title", "content", "username", "all" 등), null 허용
      * @param searchKeyword 검색어, null 또는 빈 문자열 허용
      * @param currentPage 현재 페이지 번호 (기본값: 1)
-     * @param model 뷰에 전달할 데이터를 담는 객체
-     * @return 게시글 목록을 출력할 뷰 이름 ("post/list.jsp")
+     * @param after 이 ID보다 오래된 게시글부터 조회 (다음 페이지 커서), null 허용
+     * @param before 이 ID보다 최신 게시글부터 조회 (이전 페이지 커서), null 허용
+     * @param sort 정렬 기준 ("views"이면 조회수 많은 순, 그 외에는 최신순, 커서 방식에서는 무시)
+     * @param webRequest 조건부 요청 헤더 확인 및 응답 헤더 설정용
+     * @return 게시글 목록 뷰 ("post/list.jsp", 캐시 대상이면 HTML을 저장하는 뷰, 변경이 없으면 null)를 돌려줄 비동기 결과,
+     *         캐시에서 응답했으면 null
      */
     @GetMapping("")
-    public String listGet(
+    public DeferredResult<ModelAndView> listGet(
         @RequestParam(required = false) String searchType,
         @RequestParam(required = false) String searchKeyword,
         @RequestParam(value = "page", defaultValue = "1") int currentPage,
-        Model model
+        @RequestParam(required = false) Integer after,
+        @RequestParam(required = false) Integer before,
+        @RequestParam(required = false) String sort,
+        ServletWebRequest webRequest
+    ) throws ServletException, IOException {
+        // 조회순은 ID 커서가 없으므로 페이지 번호 방식에서만 사용
+        String listSort = PostService.SORT_VIEWS.equals(sort) && after == null && before == null ? PostService.SORT_VIEWS : null;
+
+        // 캐시된 HTML이 있으면 DB 조회 없이 조건부 GET 확인 후 그대로 응답
+        // (방금 글을 쓴 사용자는 복제본에서 만든 페이지가 아닌 원본 DB의 목록을 보도록 캐시를 사용하지 않음)
+        boolean cacheable = after == null && before == null && !ReplicaRouting.isPrimaryPinned();
+        String cacheKey = cacheable ? postListPageCache.key(currentPage, searchType, searchKeyword, listSort) : null;
+        // 조회순 목록은 조회수가 DB에 반영될 때마다 순서가 바뀌므로 반영 횟수도 버전에 더함 (두 값 모두 증가만 함)
+        long boardVersion = postService.boardVersion() + (listSort != null ? postViewCounter.generation() : 0);
+        PostListPageCache.Page cached = cacheKey != null ? postListPageCache.get(cacheKey, boardVersion) : null;
+        if (cached != null) {
+            if (!ConditionalGet.notModified(webRequest, cached.getEtag(), null)) {
+                postListPageCache.write(cached, webRequest.getRequest(), webRequest.getResponse());
+            }
+            return null;
+        }
+
+        // 게시판이 바뀐 직후에 캐시를 채우는 조회는 원본 DB에서 실행 (복제본의 변경 전 목록을 새 게시판 버전으로 캐시하지 않도록)
+        if (cacheKey != null && postService.boardRecentlyChanged()) {
+            ReplicaRouting.pinPrimary();
+        }
+
+        return dbBulkhead.submit("posts.list", () -> list(searchType, searchKeyword, currentPage, after, before, listSort, cacheKey, boardVersion, webRequest));
+    }
+
+    /**
+     * 게시글 목록 조회 (DbBulkhead 작업 스레드에서 실행)
+     * @return 게시글 목록 뷰, 변경이 없으면 null (304)
+     */
+    private ModelAndView list(
+        String searchType, String searchKeyword, int currentPage, Integer after, Integer before, String sort,
+        String cacheKey, long boardVersion, ServletWebRequest webRequest
     ) {
+        // 게시글이 하나도 바뀌지 않았으면 목록 조회와 렌더링 없이 304 응답 (조회순은 조회수 반영 횟수도 비교)
+        RowVersion version = postService.listVersion();
+        String etag = sort != null
+            ? ConditionalGet.tag("posts-" + sort, version) + "-" + postViewCounter.generation()
+            : ConditionalGet.tag("posts", version);
+        if (ConditionalGet.notModified(webRequest, etag, null)) {
+            return null;
+        }
+
         int listCountPerPage = 10;  // 한 페이지에서 불러올 게시글 수
         int pageCountPerPage = 5;   // 하단에 보여질 페이지 수 (예: [1][2][3][4][5])
 
         // 서비스 계층을 통해 게시글 목록 + 검색 조건 + 페이징 정보를 조회
-        Map<String, Object> result = postService.list(
-            currentPage, listCountPerPage, pageCountPerPage, searchType, searchKeyword
-        );
+        Map<String, Object> result;
+        if (after != null || before != null) {
+            // 커서 방식: 페이지 깊이와 관계없이 ID 범위 조회
+            result = postService.listByCursor(after, before, listCountPerPage, searchType, searchKeyword);
+        } else {
+            // 페이지 번호 방식: 앞쪽 블록 이동용
+            result = postService.list(currentPage, listCountPerPage, pageCountPerPage, searchType, searchKeyword, sort);
+        }
 
         // 모델에 조회된 데이터 전달 (뷰에서 활용)
-        model.addAttribute("posts", result.get("posts"));               // 게시글 목록
-        model.addAttribute("pagination", result.get("pagination"));     // 페이지네이션 정보
-        model.addAttribute("searchType", result.get("searchType"));     // 검색 기준
-        model.addAttribute("searchKeyword", result.get("searchKeyword")); // 검색어
+        ModelAndView mav = cacheKey != null
+            ? new ModelAndView(postListPageCache.view(cacheKey, boardVersion, etag)) // 렌더링 결과를 캐시에 저장
+            : new ModelAndView("post/list");
+        mav.addObject("posts", result.get("posts"));                    // 게시글 목록
+        mav.addObject("pagination", result.get("pagination"));          // 페이지네이션 정보
+        mav.addObject("searchType", result.get("searchType"));          // 검색 기준
+        mav.addObject("searchKeyword", result.get("searchKeyword"));    // 검색어
+        mav.addObject("sort", sort);                                    // 정렬 기준 (null이면 최신순)
 
         // post/list.jsp 뷰 렌더링
-        return "post/list";
+        return mav;
+    }
+
+    /**
+     * 게시글 내보내기 요청 처리 (GET 방식)
+     *
+     * - 검색 조건(searchType, searchKeyword)은 목록 화면과 동일하게 적용
+     * - format: "ndjson"(기본값, 한 줄에 게시글 하나) 또는 "csv"
+     * - 전체 결과를 메모리에 모으지 않고 DB에서 읽는 즉시 응답으로 전송 (비밀번호는 제외)
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all" 등), null 허용
+     * @param searchKeyword 검색어, null 허용
+     * @param format 출력 형식 ("ndjson" 또는 "csv")
+     * @param response 내보낸 데이터를 직접 쓸 응답 객체
+     */
+    @GetMapping("/export")
+    public void exportGet(
+        @RequestParam(required = false) String searchType,
+        @RequestParam(required = false) String searchKeyword,
+        @RequestParam(defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        PostExportFormat exportFormat = PostExportFormat.from(format);
+        if (exportFormat == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원하지 않는 형식입니다. (ndjson, csv)");
+            return;
+        }
+
+        postService.export(searchType, searchKeyword, exportFormat, response);
+    }
+
+    /**
+     * 제목/작성자 자동완성 요청 처리 (GET 방식, 목록 화면의 검색어 입력란에서 호출)
+     *
+     * - 메모리 접두어 색인만 조회하므로 DB 작업 스레드(DbBulkhead)를 거치지 않고 요청 스레드에서 바로 응답
+     * - 같은 입력이 짧은 시간에 반복되므로 브라우저가 5초간 재사용하도록 허용
+     * 응답 예: {"suggestions":[{"text":"스프링 입문","id":42,"count":3}]}
+     *
+     * @param type 대상 필드 ("title" 또는 "username")
+     * @param q 입력한 접두어 (대소문자 구분 없음)
+     * @param limit 최대 제안 수 (기본값: 10, 최대 20)
+     */
+    @GetMapping("/suggest")
+    public void suggestGet(
+        @RequestParam(defaultValue = "title") String type,
+        @RequestParam(defaultValue = "") String q,
+        @RequestParam(defaultValue = "10") int limit,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        List<PostSuggestion> suggestions;
+        try {
+            suggestions = postService.suggest(type, q, limit);
+        } catch (IllegalArgumentException e) {
+            JsonResponse.error(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        response.setHeader("Cache-Control", "private, max-age=5");
+        try (JsonWriter json = JsonResponse.open(request, response)) {
+            json.beginObject();
+            json.name("suggestions").beginArray();
+            for (PostSuggestion suggestion : suggestions) {
+                json.beginObject();
+                json.name("text").value(suggestion.getText());
+                json.name("id").value(suggestion.getId());
+                json.name("count").value(suggestion.getCount());
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+        }
+    }
+
+    /**
+     * 게시글 대량 가져오기 요청 처리 (POST 방식)
+     *
+     * - 요청 본문: format이 "ndjson"(기본값)이면 한 줄에 게시글 하나, "csv"이면 헤더 행 + 게시글 행
+     * - 필드: title, content, username, password(평문) 또는 passwordHash(BCrypt)
+     * - 응답: 행마다 {"line":N,"id":ID} 또는 {"line":N,"error":"..."}, 마지막 줄에 전체 결과
+     * - Content-Type은 application/x-ndjson 또는 text/csv로 보내야 함 (폼 형식이면 본문이 폼 파라미터로 해석됨)
+     * 예: curl -X POST --data-binary @posts.ndjson -H "Content-Type: application/x-ndjson" /posts/import
+     *
+     * @param format 입력 형식 ("ndjson" 또는 "csv")
+     * @param request 요청 본문을 읽을 요청 객체
+     * @param response 결과를 직접 쓸 응답 객체
+     */
+    @PostMapping("/import")
+    public void importPost(
+        @RequestParam(defaultValue = "ndjson") String format,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        PostImportReader reader = PostImportReader.of(format, new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        if (reader == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원하지 않는 형식입니다. (ndjson, csv)");
+            return;
+        }
+
+        postService.importPosts(reader, response);
     }
 
     /**
@@ -97,20 +288,37 @@ public class PostController {
 
     /**
      * 게시글 상세보기 요청 처리 (GET 방식)
+     * - 게시글 버전(ID, VERSION, 수정일시)이 클라이언트의 ETag/If-Modified-Since와 같으면 본문 조회와 렌더링 없이 304 응답
+     *   (조회수는 수정일시를 바꾸지 않으므로 304 응답을 받은 화면의 조회수는 이전 값일 수 있음)
+     * - 있는 게시글이면 조회수를 1 올림 (PostViewCounter에 모았다가 주기적으로 DB에 반영)
+     * - DB 조회는 DbBulkhead 작업 스레드에서 실행 (비동기 요청, 혼잡하면 503)
      * @param id 상세 조회할 게시글 ID
-     * @param model 뷰에 전달할 게시글 데이터를 담는 객체
-     * @return 상세보기 화면 뷰 이름 ("post/read.jsp")
+     * @param webRequest 조건부 요청 헤더 확인 및 응답 헤더 설정용
+     * @return 상세보기 화면 뷰 ("post/read.jsp", 변경이 없으면 null)를 돌려줄 비동기 결과
      */
     @GetMapping("/{id}")
-    public String readGet(@PathVariable("id") int id, Model model) {
-        // 서비스 계층을 통해 게시글 ID에 해당하는 게시글 데이터 조회
-        PostDto post = postService.read(id);
+    public DeferredResult<ModelAndView> readGet(@PathVariable("id") int id, ServletWebRequest webRequest) {
+        return dbBulkhead.submit("posts.read", () -> {
+            // 게시글이 바뀌지 않았으면 본문 조회와 렌더링 없이 304 응답
+            RowVersion version = postService.version(id);
+            if (version != null) {
+                postViewCounter.increment(id);
+            }
+            if (version != null && ConditionalGet.notModified(webRequest, ConditionalGet.tag("post", version), version.getUpdatedAt())) {
+                return null;
+            }
 
-        // 조회한 게시글 데이터를 모델에 담아 뷰로 전달
-        model.addAttribute("post", post);
+            // 서비스 계층을 통해 게시글 ID에 해당하는 게시글 데이터 조회
+            PostDto post = postService.read(id);
 
-        // 게시글 상세보기 화면 렌더링
-        return "post/read";
+            // 조회한 게시글 데이터를 모델에 담아 게시글 상세보기 화면 렌더링
+            // (post는 여러 요청이 공유하는 객체이므로 수정하지 않고, 반영 전 조회수를 더한 값을 따로 전달)
+            ModelAndView mav = new ModelAndView("post/read", "post", post);
+            if (post != null) {
+                mav.addObject("views", post.getViews() + postViewCounter.pending(id));
+            }
+            return mav;
+        });
     }
 
     /**
@@ -0,0 +1,179 @@
+package com.example.spring.post;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 수(totalCount) 캐시
+ *
+ * - 전체 게시글 수: 처음 한 번만 COUNT(*)를 실행하고 이후에는 등록/삭제 시 +1/-1로 정확하게 유지
+ *   (혹시 모를 오차를 바로잡기 위해 resyncMillis 마다 DB 값으로 다시 맞춤)
+ * - COUNT(*)는 락 밖에서 한 요청만 실행하고(single-flight) 락은 결과를 바꿔 넣을 때만 잡음
+ *   (재동기화 중에도 다른 요청과 등록/삭제는 기다리지 않고 기존 값을 사용)
+ * - 검색 조건별 게시글 수: (searchType, searchKeyword) 키로 TTL 동안 보관하며, 최대 개수를 넘으면
+ *   가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 근사 카운트(cap) 요청은 상한까지만 센 값을 별도 키로 보관
+ */
+@Component
+public class PostCountCache {
+
+    @Autowired
+    PostDao postDao;
+
+    @Value("${post.count.filteredTtlMillis:30000}")
+    private long filteredTtlMillis;     // 검색 조건별 게시글 수 보관 시간
+
+    @Value("${post.count.filteredMaxEntries:1000}")
+    private int filteredMaxEntries;     // 검색 조건별 게시글 수 최대 보관 개수
+
+    @Value("${post.count.resyncMillis:600000}")
+    private long resyncMillis;          // 전체 게시글 수를 DB와 다시 맞추는 주기
+
+    private final Object totalLock = new Object();   // total 변경과 totalLoad 교체용 (DB 조회 중에는 잡지 않음)
+    private volatile int total = -1;    // 전체 게시글 수 (-1: 아직 조회 전)
+    private volatile long totalLoadedAt;
+    private CompletableFuture<Integer> totalLoad;   // 진행 중인 전체 게시글 수 조회 (totalLock으로 보호)
+
+    private final Map<String, Entry> filtered = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > filteredMaxEntries;
+        }
+    };
+
+    /**
+     * 검색 조건에 맞는 게시글 수 조회
+     *
+     * @param searchType 검색 기준 (null이면 전체)
+     * @param searchKeyword 검색어 (null이면 전체)
+     * @param cap 0보다 크면 cap까지만 센 근사값, 0 이하면 정확한 값
+     * @return 게시글 수
+     */
+    public int count(String searchType, String searchKeyword, int cap) {
+        // postMapper의 검색 조건과 동일하게 둘 중 하나라도 없으면 전체 게시글 수
+        if (searchType == null || searchKeyword == null) {
+            int count = total();
+            return cap > 0 ? Math.min(count, cap) : count;
+        }
+
+        String key = searchType + '\u0000' + searchKeyword + '\u0000' + cap;
+        long now = System.currentTimeMillis();
+
+        synchronized (filtered) {
+            Entry entry = filtered.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.count;
+            }
+        }
+
+        int count = cap > 0
+            ? postDao.totalCountCapped(searchType, searchKeyword, cap)
+            : postDao.totalCount(searchType, searchKeyword);
+
+        synchronized (filtered) {
+            filtered.put(key, new Entry(count, now + filteredTtlMillis));
+        }
+        return count;
+    }
+
+    /**
+     * 전체 게시글 수 (캐시에 없거나 재동기화 주기가 지나면 DB에서 조회)
+     * @return 전체 게시글 수
+     */
+    public int total() {
+        int current = total;
+        if (current >= 0 && System.currentTimeMillis() - totalLoadedAt <= resyncMillis) {
+            return current;
+        }
+
+        CompletableFuture<Integer> mine;
+        synchronized (totalLock) {
+            CompletableFuture<Integer> existing = totalLoad;
+            if (existing != null) {
+                // 다른 요청이 조회 중이면 기존 값을 그대로 사용하고, 아직 값이 없으면 그 결과를 기다림
+                return current >= 0 ? current : await(existing);
+            }
+            mine = new CompletableFuture<>();
+            totalLoad = mine;
+        }
+
+        try {
+            // 조회 중 등록/삭제로 바뀐 값은 DB 값으로 덮어씀 (DB가 기준)
+            int count = postDao.totalCount(null, null);
+            synchronized (totalLock) {
+                total = count;
+                totalLoadedAt = System.currentTimeMillis();
+                totalLoad = null;
+            }
+            mine.complete(count);
+            return count;
+        } catch (RuntimeException e) {
+            synchronized (totalLock) {
+                totalLoad = null;
+            }
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 게시글 등록 시 전체 게시글 수 +1
+     */
+    public void created() {
+        synchronized (totalLock) {
+            if (total >= 0) {
+                total++;
+            }
+        }
+    }
+
+    /**
+     * 게시글 대량 등록 시 전체 게시글 수 +count
+     * @param count 등록된 게시글 수
+     */
+    public void created(int count) {
+        synchronized (totalLock) {
+            if (total >= 0) {
+                total += count;
+            }
+        }
+    }
+
+    /**
+     * 게시글 삭제 시 전체 게시글 수 -1
+     */
+    public void deleted() {
+        synchronized (totalLock) {
+            if (total > 0) {
+                total--;
+            }
+        }
+    }
+
+    private static int await(CompletableFuture<Integer> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final int count;
+        private final long expiresAt;
+
+        private Entry(int count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,48 +1,83 @@
 package com.example.spring.post;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.ResultHandler;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import com.example.spring.libs.ContentCodec;
+import com.example.spring.libs.ContentRow;
+import com.example.spring.libs.RowVersion;
+import com.example.spring.search.PostSearchIndex;
+
 @Component
 public class PostDao {
 
     private static final Logger logger = LoggerFactory.getLogger(PostDao.class);
 
+    /** 내용 검색 후보를 한 번에 조회할 최소 건수 (searchCandidates) */
+    private static final int SEARCH_CHUNK_SIZE = 100;
+
     @Autowired
     JdbcTemplate jdbcTemplate;
 
     @Autowired
     private SqlSessionTemplate sqlSessionTemplate;
+
+    @Value("${content.compress.thresholdBytes:8192}")
+    private int compressThresholdBytes;     // 이 크기(UTF-8 바이트) 이상인 내용은 압축하여 CONTENT_BLOB에 저장 (0이면 압축하지 않음)
+
+    private volatile SqlSessionTemplate batchSqlSessionTemplate; // 대량 등록용 (ExecutorType.BATCH)
  /**
      * 게시글 목록을 조회하는 메서드 (페이징 및 검색 기능 포함)
      * - 검색 조건이 주어지면 해당 조건(title, content, username 등)에 따라 필터링된 결과를 조회
      * - 검색 조건이 없으면 전체 게시글을 조회
      * - 페이징 처리를 위해 offset과 limit(페이지당 게시글 수)도 함께 전달
+     * - 내용 검색(content, all)은 압축 저장된 게시글도 찾도록 후보를 확인하며 조회 (listMatching)
      *
      * @param offset 조회 시작 위치 (예: 0부터 시작, LIMIT offset, count 에서 사용)
      * @param listCountPerPage 한 페이지에 표시할 게시글 수
      * @param searchType 검색 기준 ("title", "content", "username", "all" 중 하나)
      * @param searchKeyword 검색어 (null 또는 빈 문자열이면 전체 조회)
-     * @return 게시글 리스트 (List<PostDto>), 실패 시 null 또는 빈 리스트 반환
+     * @return 게시글 요약 리스트 (List<PostSummary>, CONTENT/PASSWORD 제외), 실패 시 null 또는 빈 리스트 반환
+     */
+    public List<PostSummary> list(int offset, int listCountPerPage, String searchType, String searchKeyword) {
+        return list(offset, listCountPerPage, searchType, searchKeyword, null);
+    }
+
+    /**
+     * 정렬 기준을 지정하여 게시글 목록을 조회하는 메서드
+     * @param sort 정렬 기준 ("views"이면 조회수 많은 순, 그 외에는 최신순)
+     * @see #list(int, int, String, String)
      */
-    public List<PostDto> list(int offset, int listCountPerPage, String searchType, String searchKeyword) {
+    public List<PostSummary> list(int offset, int listCountPerPage, String searchType, String searchKeyword, String sort) {
         // 쿼리에 전달할 파라미터 구성
         Map<String, Object> params = new HashMap<>();
         params.put("offset", offset);
         params.put("listCountPerPage", listCountPerPage);
         params.put("searchType", searchType);
         params.put("searchKeyword", searchKeyword);
+        params.put("sort", sort);
 
-        List<PostDto> posts = null;
+        if (searchesContent(searchType, searchKeyword)) {
+            return listMatching(params, searchType, searchKeyword, offset, listCountPerPage);
+        }
+
+        List<PostSummary> posts = null;
 
         try {
             // MyBatis 매퍼(postMapper.xml)의 list 쿼리 실행
@@ -55,6 +90,214 @@ public class PostDao {
         return posts;
     }
 
+    /**
+     * 커서(게시글 ID)를 기준으로 게시글 목록을 조회하는 메서드 (keyset 페이징)
+     * - OFFSET 없이 WHERE ID &lt; after / ID &gt; before 조건으로 조회하므로 페이지 깊이와 관계없이 일정한 비용
+     * - before가 주어지면 오래된 순(ASC)으로 반환되므로 호출하는 쪽에서 역순 정렬 필요
+     * - 내용 검색(content, all)은 압축 저장된 게시글도 찾도록 후보를 확인하며 조회 (listMatching)
+     *
+     * @param after 이 ID보다 작은 게시글을 조회 (다음 페이지), null 허용
+     * @param before 이 ID보다 큰 게시글을 조회 (이전 페이지), null 허용
+     * @param limit 조회할 최대 게시글 수
+     * @param searchType 검색 기준 ("title", "content", "username", "all" 중 하나)
+     * @param searchKeyword 검색어 (null 또는 빈 문자열이면 전체 조회)
+     * @return 게시글 요약 리스트 (List<PostSummary>), 실패 시 null 반환
+     */
+    public List<PostSummary> listByCursor(Integer after, Integer before, int limit, String searchType, String searchKeyword) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("after", after);
+        params.put("before", before);
+        params.put("limit", limit);
+        params.put("searchType", searchType);
+        params.put("searchKeyword", searchKeyword);
+
+        if (searchesContent(searchType, searchKeyword)) {
+            return listMatching(params, searchType, searchKeyword, 0, limit);
+        }
+
+        List<PostSummary> posts = null;
+
+        try {
+            // MyBatis 매퍼(postMapper.xml)의 listByCursor 쿼리 실행
+            posts = sqlSessionTemplate.selectList("postMapper.listByCursor", params);
+        } catch (DataAccessException e) {
+            logger.error("게시글 목록 오류 : {}", e.getMessage(), e);
+        }
+
+        return posts;
+    }
+
+    /**
+     * 내용 검색(content, all) 여부
+     * - 압축 저장된 게시글은 SQL로 내용을 검색할 수 없으므로 목록/개수를 따로 처리해야 함
+     */
+    private static boolean searchesContent(String searchType, String searchKeyword) {
+        return searchKeyword != null && ("content".equals(searchType) || "all".equals(searchType));
+    }
+
+    /**
+     * 내용 검색 결과 한 페이지를 조회하는 메서드 (압축 저장된 게시글 포함)
+     * - 압축된 게시글은 후보로 함께 조회(searchCandidates)하여 복원한 내용으로 확인
+     * - 후보를 목록 순서대로 이어서 읽으며 skip건을 건너뛰고 limit건을 찾으면 멈춤 (보통 한 번의 조회로 끝남)
+     * - 찾은 ID의 요약 정보는 listByIds로 조회하여 후보 순서대로 정렬
+     *
+     * @param params list/listByCursor와 같은 검색/정렬/커서 조건 (후보 조회 중 커서를 바꿈)
+     * @return 게시글 요약 리스트, 실패 시 null 반환
+     */
+    private List<PostSummary> listMatching(Map<String, Object> params, String searchType, String searchKeyword, int skip, int limit) {
+        boolean byViews = "views".equals(params.get("sort"));
+        boolean ascending = !byViews && params.get("before") != null;
+        int chunkSize = Math.max(limit, SEARCH_CHUNK_SIZE);
+        params.put("includeCompressed", true);
+        params.put("limit", chunkSize);
+
+        List<Integer> ids = new ArrayList<>(limit);
+        try {
+            while (ids.size() < limit) {
+                List<PostDto> candidates = sqlSessionTemplate.selectList("postMapper.searchCandidates", params);
+                for (PostDto candidate : candidates) {
+                    if (candidate.getContentBlob() != null && !PostSearchIndex.matches(candidate, searchType, searchKeyword)) {
+                        continue;
+                    }
+                    if (skip > 0) {
+                        skip--;
+                    } else if (ids.size() < limit) {
+                        ids.add(candidate.getId());
+                    }
+                }
+                if (candidates.size() < chunkSize) {
+                    break;
+                }
+
+                // 마지막 후보 다음부터 이어서 조회 (keyset)
+                PostDto last = candidates.get(candidates.size() - 1);
+                params.put(ascending ? "before" : "after", last.getId());
+                params.put("afterViews", last.getViews());
+            }
+        } catch (DataAccessException e) {
+            logger.error("게시글 목록 오류 : {}", e.getMessage(), e);
+            return null;
+        }
+
+        List<PostSummary> posts = listByIds(ids);
+        if (posts != null) {
+            posts.sort(Comparator.comparingInt(post -> ids.indexOf(post.getId())));
+        }
+        return posts;
+    }
+
+    /**
+     * 게시글 ID 목록으로 게시글을 조회하는 메서드 (검색 색인 결과 조회용)
+     *
+     * @param ids 조회할 게시글 ID 목록 (한 페이지 분량)
+     * @return 게시글 요약 리스트 (ID 내림차순), 실패 시 null 반환
+     */
+    public List<PostSummary> listByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("ids", ids);
+
+        List<PostSummary> posts = null;
+
+        try {
+            posts = sqlSessionTemplate.selectList("postMapper.listByIds", params);
+        } catch (DataAccessException e) {
+            logger.error("게시글 목록 오류 : {}", e.getMessage(), e);
+        }
+
+        return posts;
+    }
+
+    /**
+     * 게시글 ID 목록으로 검색 대상 필드(제목, 작성자, 내용)를 조회하는 메서드 (검색 색인 후보 확인용)
+     *
+     * @param ids 조회할 게시글 ID 목록
+     * @param withContent 내용(CONTENT, CONTENT_BLOB)도 조회할지 여부
+     * @return 게시글 리스트 (순서 보장 없음, PASSWORD 제외), 실패 시 null 반환
+     */
+    public List<PostDto> listSearchText(List<Integer> ids, boolean withContent) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("ids", ids);
+        params.put("withContent", withContent);
+
+        List<PostDto> posts = null;
+
+        try {
+            posts = sqlSessionTemplate.selectList("postMapper.searchText", params);
+        } catch (DataAccessException e) {
+            logger.error("게시글 검색 후보 조회 오류 : {}", e.getMessage(), e);
+        }
+
+        return posts;
+    }
+
+    /**
+     * 검색어를 LIKE 부분 일치 패턴으로 변환 (매퍼의 searchCondition에서 호출)
+     * - 검색어의 %, _ 와 이스케이프 문자 '!'를 '!'로 이스케이프하므로 와일드카드가 아닌 글자 그대로 찾음
+     *   (LIKE ... ESCAPE '!' 와 함께 사용, 검색 색인의 부분 문자열 일치와 같은 결과)
+     *
+     * @param keyword 검색어
+     * @return '%' + 이스케이프한 검색어 + '%'
+     */
+    public static String likePattern(String keyword) {
+        StringBuilder pattern = new StringBuilder(keyword.length() + 8);
+        pattern.append('%');
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '%' || c == '_' || c == '!') {
+                pattern.append('!');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * 검색 색인 구축을 위해 전체 게시글을 스트리밍으로 조회하는 메서드
+     * - 결과를 List로 모으지 않고 ResultHandler에 한 건씩 전달
+     *
+     * @param handler 게시글 한 건마다 호출되는 핸들러
+     */
+    public void streamSearchSource(ResultHandler<PostDto> handler) {
+        sqlSessionTemplate.select("postMapper.searchSource", handler);
+    }
+
+    /**
+     * 자동완성 색인 구축을 위해 전체 게시글의 제목과 작성자를 스트리밍으로 조회하는 메서드
+     * - 오래된 글부터(ID ASC) 전달되므로 나중에 전달된 게시글이 더 최신임
+     *
+     * @param handler 게시글 한 건마다 호출되는 핸들러 (ID, 제목, 작성자만 채워짐)
+     */
+    public void streamSuggestSource(ResultHandler<PostSummary> handler) {
+        sqlSessionTemplate.select("postMapper.suggestSource", handler);
+    }
+
+    /**
+     * 게시글 내보내기(export)를 위해 검색 조건에 맞는 게시글을 스트리밍으로 조회하는 메서드
+     * - 결과를 List로 모으지 않고 ResultHandler에 한 건씩 전달하므로 게시글 수와 관계없이 메모리 사용량이 일정함
+     * - DB 커넥션은 이 메서드가 실행되는 동안(조회 시작 ~ 마지막 행 처리)만 사용하고 바로 반환됨
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all" 중 하나)
+     * @param searchKeyword 검색어 (null이면 전체 게시글)
+     * @param handler 게시글 한 건마다 호출되는 핸들러 (PASSWORD는 채워지지 않음,
+     *                압축 저장된 게시글은 내용 검색 조건과 관계없이 전달되므로 PostSearchIndex.matches로 확인해야 함)
+     */
+    public void streamExport(String searchType, String searchKeyword, ResultHandler<PostDto> handler) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("searchType", searchType);
+        params.put("searchKeyword", searchKeyword);
+        params.put("includeCompressed", true);  // 압축 게시글은 내용을 SQL로 검색할 수 없으므로 handler에서 확인
+
+        sqlSessionTemplate.select("postMapper.exportSource", params, handler);
+    }
+
     /**
      * 게시글을 데이터베이스에 저장하는 메서드 (MyBatis 기반)
      * @param post 사용자가 작성한 게시글 데이터
@@ -65,6 +308,7 @@ int result = -1;
         try {
             // MyBatis 매퍼의 postMapper.create 구문 실행
             // useGeneratedKeys="true"와 keyProperty="id"가 설정되어 있어 post.id에 자동으로 삽입된 ID가 주입됨
+            post.setContentBlob(ContentCodec.compress(post.getContent(), compressThresholdBytes));
             result = sqlSessionTemplate.insert("postMapper.create", post);
 
         } catch (DataAccessException e) {
@@ -75,6 +319,60 @@ int result = -1;
 
 
 
+    /**
+     * 여러 게시글을 JDBC 배치로 한 번에 저장하는 메서드 (대량 등록용)
+     * - ExecutorType.BATCH 세션으로 INSERT를 모아 한 번에 전송하므로 게시글마다 DB 왕복이 발생하지 않음
+     * - 반드시 트랜잭션 안에서 호출해야 하며, 커밋/롤백은 호출하는 쪽의 트랜잭션을 따름
+     * - 실패 시 DataAccessException을 그대로 던짐 (호출하는 쪽에서 트랜잭션 롤백 후 처리)
+     *
+     * @param posts 저장할 게시글 목록 (성공 시 각 post.getId()에 생성된 ID가 주입됨)
+     * @return 저장된 게시글 수
+     */
+    public int createAll(List<PostDto> posts) {
+        SqlSessionTemplate batch = batchSqlSessionTemplate();
+        for (PostDto post : posts) {
+            post.setContentBlob(ContentCodec.compress(post.getContent(), compressThresholdBytes));
+            batch.insert("postMapper.create", post);
+        }
+
+        // 모아둔 INSERT를 전송하고 생성된 ID를 각 PostDto에 주입
+        int created = 0;
+        for (BatchResult result : batch.flushStatements()) {
+            for (int count : result.getUpdateCounts()) {
+                // 드라이버가 건별 결과 대신 SUCCESS_NO_INFO(-2)를 줄 수 있으므로 EXECUTE_FAILED(-3)가 아니면 성공으로 셈
+                created += count == Statement.EXECUTE_FAILED ? 0 : 1;
+            }
+        }
+        return created;
+    }
+
+    private SqlSessionTemplate batchSqlSessionTemplate() {
+        if (batchSqlSessionTemplate == null) {
+            batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionTemplate.getSqlSessionFactory(), ExecutorType.BATCH);
+        }
+        return batchSqlSessionTemplate;
+    }
+
+    /**
+     * 여러 게시글의 조회수를 한 문장으로 더하는 메서드 (PostViewCounter의 일괄 반영용)
+     * - 수정일시(UPDATED_AT)는 바꾸지 않음
+     *
+     * @param deltas 게시글 ID → 더할 조회수 (비어 있으면 안 됨)
+     * @return 반영된 게시글 수 (그 사이 삭제된 게시글은 제외), 실패 시 -1 반환
+     */
+    public int addViews(Map<Integer, Long> deltas) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("deltas", deltas);
+
+        int result = -1;
+        try {
+            result = sqlSessionTemplate.update("postMapper.addViews", params);
+        } catch (DataAccessException e) {
+            logger.error("게시글 조회수 반영 오류 : {}", e.getMessage(), e);
+        }
+        return result;
+    }
+
     /**
      * 게시글 ID를 기준으로 단건 조회하는 메서드
      * MyBatis 매퍼(postMapper.read)를 호출하여 게시글 1건을 조회함
@@ -95,18 +393,109 @@ int result = -1;
 
         return post;
     }
+
+    /**
+     * 수정/삭제 전 비밀번호 확인용으로 게시글을 조회하는 메서드
+     * - 내용(CONTENT)을 읽지 않고 ID, 제목, 작성자, 비밀번호, VERSION만 조회 (postMapper.credential)
+     *
+     * @param id 조회할 게시글의 ID
+     * @return PostDto 객체 (내용은 채워지지 않음), 게시글이 없거나 실패 시 null 반환
+     */
+    public PostDto readCredential(int id) {
+        PostDto post = null;
+
+        try {
+            post = sqlSessionTemplate.selectOne("postMapper.credential", id);
+        } catch (DataAccessException e) {
+            logger.error("게시글 비밀번호 확인 오류 : {}", e.getMessage(), e);
+        }
+
+        return post;
+    }
+
+    /**
+     * 수정/삭제 전 게시글 내용만 조회하는 메서드 (검색 색인에서 이전 내용을 지울 때 사용)
+     *
+     * @param id 조회할 게시글의 ID
+     * @return PostDto 객체 (ID, 내용, VERSION만 채워짐), 게시글이 없거나 실패 시 null 반환
+     */
+    public PostDto readOriginalContent(int id) {
+        PostDto post = null;
+
+        try {
+            post = sqlSessionTemplate.selectOne("postMapper.originalContent", id);
+        } catch (DataAccessException e) {
+            logger.error("게시글 내용 조회 오류 : {}", e.getMessage(), e);
+        }
+
+        return post;
+    }
+
+    /**
+     * 게시글 버전(ID, VERSION, 수정일시)만 조회하는 메서드 (조건부 GET용)
+     *
+     * @param id 조회할 게시글의 ID
+     * @return 게시글 버전, 없거나 조회 실패 시 null 반환
+     */
+    public RowVersion version(int id) {
+        RowVersion version = null;
+
+        try {
+            version = sqlSessionTemplate.selectOne("postMapper.version", id);
+        } catch (DataAccessException e) {
+            logger.error("게시글 버전 조회 오류 : {}", e.getMessage(), e);
+        }
+
+        return version;
+    }
+
+    /**
+     * 게시글 목록 버전(LIST_VERSION)을 조회하는 메서드 (조건부 GET용)
+     *
+     * @return 목록 버전 (version만 채워짐), 버전 행이 없거나 조회 실패 시 null 반환
+     */
+    public RowVersion listVersion() {
+        RowVersion version = null;
+
+        try {
+            version = sqlSessionTemplate.selectOne("postMapper.listVersion");
+        } catch (DataAccessException e) {
+            logger.error("게시글 목록 버전 조회 오류 : {}", e.getMessage(), e);
+        }
+
+        return version;
+    }
+
+    /**
+     * 게시글 목록 버전(LIST_VERSION)을 1 올리는 메서드 (등록/수정/삭제 후 호출)
+     * - 모든 서버가 같은 값을 보므로 다른 서버의 목록 ETag도 바뀜
+     *
+     * @return 변경된 행 수, 실패 시 -1 반환
+     */
+    public int bumpListVersion() {
+        int result = -1;
+
+        try {
+            result = sqlSessionTemplate.update("postMapper.bumpListVersion");
+        } catch (DataAccessException e) {
+            logger.error("게시글 목록 버전 증가 오류 : {}", e.getMessage(), e);
+        }
+
+        return result;
+    }
         /**
      * 게시글을 수정하는 메서드
      * MyBatis 매퍼(postMapper.update)를 호출하여 게시글 정보를 DB에 반영함
      *
-     * @param post 수정할 게시글 정보 (ID 포함)
-     * @return 수정된 행 수 (성공 시 1, 실패 또는 오류 시 -1)
+     * @param post 수정할 게시글 정보 (ID, 비밀번호 확인 시 읽은 VERSION 포함)
+     * @return 수정된 행 수 (성공 시 1, 그 사이 다른 요청이 수정/삭제했으면 0, 오류 시 -1)
      */
     public int update(PostDto post) {
         int result = -1;
 
         try {
             // postMapper.xml의 <update id="update"> 구문 실행
+            post.setContentBlob(ContentCodec.compress(post.getContent(), compressThresholdBytes));
             result = sqlSessionTemplate.update("postMapper.update", post);
         } catch (DataAccessException e) {
             // SQL 실행 중 오류 발생 시 로그 출력
@@ -120,14 +509,19 @@ int result = -1;
      * MyBatis 매퍼(postMapper.delete)를 호출하여 ID에 해당하는 게시글을 삭제함
      *
      * @param id 삭제할 게시글의 ID
-     * @return 삭제된 행 수 (성공 시 1, 실패 또는 예외 시 -1)
+     * @param version 비밀번호 확인 시 읽은 VERSION
+     * @return 삭제된 행 수 (성공 시 1, 그 사이 다른 요청이 수정/삭제했으면 0, 예외 시 -1)
      */
-    public int delete(int id) {
+    public int delete(int id, int version) {
         int result = -1;
 
         try {
+            Map<String, Object> params = new HashMap<>();
+            params.put("id", id);
+            params.put("version", version);
+
             // postMapper.xml의 <delete id="delete"> 구문 실행
-            result = sqlSessionTemplate.delete("postMapper.delete", id);
+            result = sqlSessionTemplate.delete("postMapper.delete", params);
         } catch (DataAccessException e) {
             // 예외 발생 시 로그 출력
             logger.error("게시글 삭제 오류 : {}", e.getMessage(), e);
@@ -140,6 +534,7 @@ int result = -1;
      * - 검색 조건이 주어진 경우 해당 조건(title, content, username 등)에 맞는 게시글 수를 반환
      * - 검색 조건이 없을 경우 전체 게시글 수를 반환
      * - 페이징 처리를 위한 totalCount 계산에 사용됨
+     * - 내용 검색(content, all)은 압축하지 않은 게시글 수(COUNT)와 압축된 게시글을 복원하여 센 수를 더함
      *
      * @param searchType 검색 기준 ("title", "content", "username", "all" 중 하나)
      * @param searchKeyword 검색어 (null 또는 빈 문자열이면 전체 게시글 수 조회)
@@ -151,8 +546,111 @@ int result = -1;
         params.put("searchType", searchType);
         params.put("searchKeyword", searchKeyword);
 
+        // 내용 검색이면 압축하지 않은 게시글은 SQL로, 압축된 게시글은 복원하여 셈
+        if (searchesContent(searchType, searchKeyword)) {
+            params.put("uncompressedOnly", true);
+            int uncompressed = sqlSessionTemplate.selectOne("postMapper.totalCount", params);
+            return uncompressed + countCompressedMatches(searchType, searchKeyword, Integer.MAX_VALUE);
+        }
+
         // MyBatis 매퍼(postMapper.totalCount) 실행 후 게시글 수 반환
         return sqlSessionTemplate.selectOne("postMapper.totalCount", params);
     }
 
+    /**
+     * 검색 조건에 맞는 게시글 수를 상한(cap)까지만 세는 메서드 (근사 카운트 모드)
+     * - 현재 보여줄 페이지 블록까지만 필요한 경우 전체를 세지 않고 cap에서 멈춤
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all" 중 하나)
+     * @param searchKeyword 검색어
+     * @param cap 셀 최대 게시글 수
+     * @return min(조건에 해당하는 게시글 수, cap)
+     */
+    public int totalCountCapped(String searchType, String searchKeyword, int cap) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("searchType", searchType);
+        params.put("searchKeyword", searchKeyword);
+        params.put("cap", cap);
+
+        if (searchesContent(searchType, searchKeyword)) {
+            params.put("uncompressedOnly", true);
+            int uncompressed = sqlSessionTemplate.selectOne("postMapper.totalCountCapped", params);
+            return uncompressed >= cap ? cap : uncompressed + countCompressedMatches(searchType, searchKeyword, cap - uncompressed);
+        }
+
+        return sqlSessionTemplate.selectOne("postMapper.totalCountCapped", params);
+    }
+
+    /**
+     * 압축 저장된 게시글 중 내용 검색 조건에 맞는 게시글 수를 세는 메서드
+     * - SQL로 내용을 검색할 수 없으므로 압축된 게시글을 스트리밍으로 읽어 한 건씩 복원하여 확인
+     *   (결과는 PostCountCache가 보관하므로 같은 검색어는 TTL 동안 다시 세지 않음)
+     *
+     * @param max 셀 최대 게시글 수 (도달하면 멈춤)
+     * @return min(조건에 맞는 압축된 게시글 수, max)
+     */
+    private int countCompressedMatches(String searchType, String searchKeyword, int max) {
+        int[] count = new int[1];
+        sqlSessionTemplate.select("postMapper.compressedSearchSource", (ResultHandler<PostDto>) context -> {
+            if (PostSearchIndex.matches(context.getResultObject(), searchType, searchKeyword) && ++count[0] >= max) {
+                context.stop();
+            }
+        });
+        return count[0];
+    }
+
+
+    /**
+     * 압축 변환 대상 게시글 조회 (기존 게시글 압축 변환용)
+     * - afterId보다 큰 ID 중 아직 압축하지 않았고 내용이 기준 크기 이상인 게시글을 ID 순으로 조회
+     *
+     * @param afterId 이 ID 다음부터 조회 (처음에는 0)
+     * @param limit 조회할 최대 게시글 수
+     * @return 게시글 ID와 내용 목록, 조회 실패 시 null 반환
+     */
+    public List<ContentRow> compressCandidates(int afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterId", afterId);
+        params.put("minLength", compressThresholdBytes);
+        params.put("limit", limit);
+
+        List<ContentRow> rows = null;
+        try {
+            rows = sqlSessionTemplate.selectList("postMapper.compressCandidates", params);
+        } catch (DataAccessException e) {
+            logger.error("게시글 압축 대상 조회 오류 : {}", e.getMessage(), e);
+        }
+        return rows;
+    }
+
+    /**
+     * 압축한 내용을 JDBC 배치로 한 번에 저장 (기존 게시글 압축 변환용)
+     * - 조회 이후 내용이 수정된 게시글은 건너뜀 (수정일시는 바꾸지 않음)
+     * - 반드시 트랜잭션 안에서 호출해야 하며, 실패 시 DataAccessException을 그대로 던짐
+     *
+     * @param rows contentBlob을 채운 게시글 목록
+     * @return 저장된 게시글 수
+     */
+    public int storeCompressed(List<ContentRow> rows) {
+        SqlSessionTemplate batch = batchSqlSessionTemplate();
+        for (ContentRow row : rows) {
+            batch.update("postMapper.storeCompressed", row);
+        }
+
+        int stored = 0;
+        for (BatchResult result : batch.flushStatements()) {
+            for (int count : result.getUpdateCounts()) {
+                // SUCCESS_NO_INFO(-2)는 건수를 알 수 없으므로 성공으로 셈
+                stored += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * 압축 기준 크기 (UTF-8 바이트, 0이면 압축하지 않음)
+     */
+    public int compressThresholdBytes() {
+        return compressThresholdBytes;
+    }
 }
@@ -2,6 +2,8 @@ package com.example.spring.post;
 
 import java.util.Date;
 
+import com.example.spring.libs.ContentCodec;
+
 import lombok.Data;
 
 @Data
@@ -9,9 +11,28 @@ public class PostDto {
 
     private int id;             // 게시글 ID (Primary Key)
     private String title;       // 게시글 제목
-    private String content;     // 게시글 내용
+    private String content;     // 게시글 내용 (압축 저장된 경우 getContent()를 처음 호출할 때 복원)
+    private byte[] contentBlob; // 압축된 게시글 내용 (ContentCodec 형식, 압축하지 않은 게시글은 null)
     private String username;    // 게시글 작성자 이름
     private String password;    // 게시글 수정/삭제를 위한 비밀번호
+    private String excerpt;     // 게시글 내용 미리보기 (등록/수정 시 Excerpt.of(content)로 계산, 목록 화면용)
+    private int views;          // 조회수 (DB에 반영된 값, 아직 반영되지 않은 조회수는 PostViewCounter에 있음)
+    private int version;        // 수정 횟수 (수정할 때마다 1 증가, 수정/삭제 문장의 낙관적 잠금 조건)
     private Date createdAt;     // 게시글 작성 시간
     private Date updatedAt;     // 게시글 마지막 수정 시간
+
+    /**
+     * 게시글 내용
+     * - 압축 저장된 게시글은 내용이 실제로 필요할 때(화면 출력, 검색 색인, 내보내기) 한 번만 복원
+     *   (비밀번호 확인처럼 내용을 쓰지 않는 조회는 압축을 풀지 않음)
+     * - 여러 스레드가 함께 읽는 객체여도 안전함 (동시에 호출되면 각자 복원한 같은 값을 저장)
+     */
+    public String getContent() {
+        String text = content;
+        if (text == null && contentBlob != null) {
+            text = ContentCodec.decompress(contentBlob);
+            content = text;
+        }
+        return text;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.spring.post;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 동시에 실행 중인 게시글 내보내기(export)가 너무 많을 때 발생하는 예외
+ * - 내보내기는 끝날 때까지 DB 커넥션을 사용하므로 커넥션 풀을 모두 차지하지 않도록 503으로 거절
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요.")
+public class PostExportBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PostExportBusyException(String message) {
+        super(message);
+    }
+}
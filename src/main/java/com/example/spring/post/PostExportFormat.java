@@ -0,0 +1,136 @@
+package com.example.spring.post;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+import com.example.spring.libs.JsonWriter;
+
+/**
+ * 게시글 내보내기(export) 출력 형식
+ * - NDJSON: 한 줄에 게시글 하나를 JSON 객체로 출력 (application/x-ndjson)
+ * - CSV: 헤더 행 + 게시글 한 건당 한 행 (RFC 4180 규칙으로 따옴표 처리)
+ *
+ * 두 형식 모두 게시글 한 건을 받아 바로 출력하므로 전체 결과를 메모리에 모을 필요가 없음
+ * 비밀번호(PASSWORD)는 내보내지 않음
+ */
+public enum PostExportFormat {
+
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson") {
+        @Override
+        void writeHeader(Writer out) {
+            // NDJSON은 헤더 없음
+        }
+
+        @Override
+        void writeRow(Writer out, PostDto post) throws IOException {
+            out.write("{\"id\":");
+            out.write(Integer.toString(post.getId()));
+            out.write(",\"title\":");
+            JsonWriter.writeString(out, post.getTitle());
+            out.write(",\"content\":");
+            JsonWriter.writeString(out, post.getContent());
+            out.write(",\"username\":");
+            JsonWriter.writeString(out, post.getUsername());
+            out.write(",\"createdAt\":");
+            JsonWriter.writeString(out, format(post.getCreatedAt()));
+            out.write(",\"updatedAt\":");
+            JsonWriter.writeString(out, format(post.getUpdatedAt()));
+            out.write("}\n");
+        }
+    },
+
+    CSV("text/csv; charset=UTF-8", "csv") {
+        @Override
+        void writeHeader(Writer out) throws IOException {
+            // UTF-8 BOM: 엑셀에서 한글이 깨지지 않도록 추가
+            out.write('\uFEFF');
+            out.write("id,title,content,username,createdAt,updatedAt\r\n");
+        }
+
+        @Override
+        void writeRow(Writer out, PostDto post) throws IOException {
+            out.write(Integer.toString(post.getId()));
+            out.write(',');
+            writeCsvField(out, post.getTitle());
+            out.write(',');
+            writeCsvField(out, post.getContent());
+            out.write(',');
+            writeCsvField(out, post.getUsername());
+            out.write(',');
+            writeCsvField(out, format(post.getCreatedAt()));
+            out.write(',');
+            writeCsvField(out, format(post.getUpdatedAt()));
+            out.write("\r\n");
+        }
+    };
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private final String contentType;
+    private final String extension;
+
+    PostExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * 출력 시작 시 한 번 호출 (CSV 헤더 행 등)
+     */
+    abstract void writeHeader(Writer out) throws IOException;
+
+    /**
+     * 게시글 한 건 출력
+     */
+    abstract void writeRow(Writer out, PostDto post) throws IOException;
+
+    /**
+     * 요청 파라미터로 출력 형식 조회 (대소문자 무시)
+     * @param name "ndjson" 또는 "csv"
+     * @return 출력 형식, 지원하지 않는 형식이면 null
+     */
+    public static PostExportFormat from(String name) {
+        for (PostExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private static String format(Date date) {
+        if (date == null) {
+            return null;
+        }
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).format(DATE_FORMAT);
+    }
+
+    private static void writeCsvField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
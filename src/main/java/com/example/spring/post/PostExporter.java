@@ -0,0 +1,127 @@
+package com.example.spring.post;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Semaphore;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.example.spring.search.PostSearchIndex;
+
+/**
+ * 게시글 내보내기(export) 처리기
+ *
+ * - DB에서 읽은 게시글을 한 건씩 바로 출력 스트림에 쓰므로 게시글 수와 관계없이 메모리 사용량이 일정함
+ * - flushRows 건마다 flush하여 클라이언트로 나눠 전송 (chunked)
+ * - 내보내는 동안 DB 커넥션 1개를 사용하므로 동시 실행 수(maxConcurrent)를 제한
+ * - 클라이언트가 연결을 끊으면 다음 쓰기에서 조회를 중단하고 커넥션을 바로 반환
+ * - 내용 검색이면 압축 저장된 게시글은 내용을 복원하여 검색어를 포함하는지 확인한 뒤 출력
+ * - 출력 중 DB 오류가 나면 예외를 그대로 던져 응답을 중단 (이미 전송을 시작했으면 서블릿 컨테이너가
+ *   마지막 chunk 없이 연결을 끊으므로, 클라이언트는 잘린 파일을 정상 완료로 받지 않음)
+ */
+@Component
+public class PostExporter implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostExporter.class);
+
+    private static final DateTimeFormatter FILENAME_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Autowired
+    PostDao postDao;
+
+    @Value("${post.export.maxConcurrent:2}")
+    private int maxConcurrent;          // 동시에 실행할 수 있는 내보내기 수
+
+    @Value("${post.export.flushRows:1000}")
+    private int flushRows;              // 이 건수마다 클라이언트로 flush
+
+    private Semaphore permits;
+
+    @Override
+    public void afterPropertiesSet() {
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 검색 조건에 맞는 게시글을 지정한 형식으로 응답에 출력
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all")
+     * @param searchKeyword 검색어 (null이면 전체 게시글)
+     * @param format 출력 형식
+     * @param response 응답 객체 (헤더 설정 후 출력 스트림에 직접 씀)
+     * @return 출력한 게시글 수, 클라이언트 연결 끊김으로 중단되면 -1
+     * @throws PostExportBusyException 동시 실행 수를 초과한 경우 (응답을 쓰기 전에 발생)
+     * @throws DataAccessException 출력 중 DB 오류가 난 경우 (응답을 정상 종료하지 않도록 그대로 전파)
+     */
+    public long export(String searchType, String searchKeyword, PostExportFormat format, HttpServletResponse response) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new PostExportBusyException("동시에 실행 중인 게시글 내보내기가 너무 많습니다.");
+        }
+
+        try {
+            String filename = "posts-" + LocalDateTime.now().format(FILENAME_TIME_FORMAT) + "." + format.extension();
+            response.setContentType(format.contentType());
+            response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+
+            return write(searchType, searchKeyword, format, response.getOutputStream());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long write(String searchType, String searchKeyword, PostExportFormat format, OutputStream output) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        long[] count = new long[1];
+        boolean[] disconnected = new boolean[1];   // 응답 쓰기 실패로 중단했는지 (DB 소켓 오류의 IOException과 구분)
+
+        // 압축 저장된 게시글은 SQL에서 내용을 검색할 수 없어 내용 검색이면 후보로 모두 조회되므로 복원한 내용으로 확인
+        boolean checkCompressed = searchKeyword != null && ("content".equals(searchType) || "all".equals(searchType));
+
+        format.writeHeader(out);
+        try {
+            postDao.streamExport(searchType, searchKeyword, context -> {
+                PostDto post = context.getResultObject();
+                if (checkCompressed && post.getContentBlob() != null && !PostSearchIndex.matches(post, searchType, searchKeyword)) {
+                    return;
+                }
+                try {
+                    format.writeRow(out, post);
+                    if (++count[0] % flushRows == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 끊김: 예외로 조회를 중단하여 커넥션을 바로 반환
+                    disconnected[0] = true;
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (DataAccessException e) {
+            if (disconnected[0]) {
+                logger.info("게시글 내보내기 중단 (클라이언트 연결 끊김) : {}건 출력", count[0]);
+                return -1;
+            }
+            // 남은 버퍼를 flush하지 않고 전파하여 잘린 결과가 완료된 파일처럼 끝나지 않게 함
+            logger.error("게시글 내보내기 오류 : {}건 출력 후 중단, {}", count[0], e.getMessage(), e);
+            throw e;
+        }
+
+        out.flush();
+        logger.info("게시글 내보내기 완료 : {} {}건", format, count[0]);
+        return count[0];
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.spring.post;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 동시에 실행 중인 게시글 가져오기(import)가 너무 많을 때 발생하는 예외
+ * - 가져오기는 CPU(비밀번호 해시)와 DB 커넥션을 오래 사용하므로 동시 실행 수를 넘는 요청은 503으로 거절
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "가져오기 요청이 많습니다. 잠시 후 다시 시도해주세요.")
+public class PostImportBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PostImportBusyException(String message) {
+        super(message);
+    }
+}
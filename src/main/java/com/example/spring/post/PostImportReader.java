@@ -0,0 +1,333 @@
+package com.example.spring.post;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 가져오기(import) 입력 파서
+ * - NDJSON: 한 줄에 게시글 하나 (문자열/숫자/null 값만 가진 JSON 객체)
+ * - CSV: 첫 행은 헤더, 이후 한 행에 게시글 하나 (RFC 4180 따옴표 규칙, 필드 안의 줄바꿈 허용)
+ *
+ * 한 번에 한 행씩 읽으므로 입력 크기와 관계없이 메모리 사용량이 일정함
+ * 형식이 잘못된 행은 예외 대신 오류 메시지를 담은 Row로 반환하여 다음 행부터 계속 읽을 수 있음
+ */
+public abstract class PostImportReader {
+
+    protected final BufferedReader in;
+    protected long lineNumber;          // 지금까지 읽은 줄 수
+
+    private PostImportReader(Reader in) {
+        this.in = new BufferedReader(in, 64 * 1024);
+    }
+
+    /**
+     * 입력 형식에 맞는 파서 생성
+     * @param format "ndjson" 또는 "csv" (대소문자 무시)
+     * @param in 입력 (UTF-8로 디코딩된 요청 본문)
+     * @return 파서, 지원하지 않는 형식이면 null
+     */
+    public static PostImportReader of(String format, Reader in) {
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return new Ndjson(in);
+        }
+        if ("csv".equalsIgnoreCase(format)) {
+            return new Csv(in);
+        }
+        return null;
+    }
+
+    /**
+     * 다음 행 읽기
+     * @return 다음 행, 입력이 끝나면 null
+     */
+    abstract Row next() throws IOException;
+
+    /**
+     * 입력 한 행 (필드 이름 → 값, 또는 형식 오류)
+     */
+    static final class Row {
+        final long line;                    // 행이 시작된 줄 번호 (1부터)
+        final Map<String, String> fields;   // 필드 값 (형식 오류이면 null)
+        final String error;                 // 형식 오류 메시지 (정상이면 null)
+
+        private Row(long line, Map<String, String> fields, String error) {
+            this.line = line;
+            this.fields = fields;
+            this.error = error;
+        }
+    }
+
+    /**
+     * NDJSON 파서 (중첩 객체/배열은 지원하지 않음)
+     */
+    private static final class Ndjson extends PostImportReader {
+
+        private Ndjson(Reader in) {
+            super(in);
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            do {
+                line = in.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.trim().isEmpty());
+
+            try {
+                return new Row(lineNumber, new ObjectParser(line).parse(), null);
+            } catch (IllegalArgumentException e) {
+                return new Row(lineNumber, null, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한 줄짜리 JSON 객체 파서 (값은 모두 문자열로 변환, null은 null)
+     */
+    private static final class ObjectParser {
+
+        private final String text;
+        private int pos;
+
+        private ObjectParser(String text) {
+            this.text = text;
+        }
+
+        private Map<String, String> parse() {
+            Map<String, String> fields = new HashMap<>();
+
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+            } else {
+                while (true) {
+                    skipWhitespace();
+                    String key = parseString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    fields.put(key, parseValue());
+                    skipWhitespace();
+
+                    char c = next();
+                    if (c == '}') {
+                        break;
+                    }
+                    if (c != ',') {
+                        throw error("',' 또는 '}'가 필요합니다");
+                    }
+                }
+            }
+
+            skipWhitespace();
+            if (pos < text.length()) {
+                throw error("객체 뒤에 불필요한 내용이 있습니다");
+            }
+            return fields;
+        }
+
+        private String parseValue() {
+            char c = peek();
+            if (c == '"') {
+                return parseString();
+            }
+            if (c == '{' || c == '[') {
+                throw error("중첩된 객체/배열은 지원하지 않습니다");
+            }
+
+            int start = pos;
+            while (pos < text.length() && ",} \t".indexOf(text.charAt(pos)) < 0) {
+                pos++;
+            }
+            String literal = text.substring(start, pos);
+            if (literal.equals("null")) {
+                return null;
+            }
+            if (literal.equals("true") || literal.equals("false") || literal.matches("-?\\d+(\\.\\d+)?([eE][-+]?\\d+)?")) {
+                return literal;
+            }
+            throw error("잘못된 값입니다");
+        }
+
+        private String parseString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+
+                char escaped = next();
+                switch (escaped) {
+                    case '"':  value.append('"'); break;
+                    case '\\': value.append('\\'); break;
+                    case '/':  value.append('/'); break;
+                    case 'b':  value.append('\b'); break;
+                    case 'f':  value.append('\f'); break;
+                    case 'n':  value.append('\n'); break;
+                    case 'r':  value.append('\r'); break;
+                    case 't':  value.append('\t'); break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw error("잘못된 유니코드 이스케이프입니다");
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("잘못된 유니코드 이스케이프입니다");
+                        }
+                        pos += 4;
+                        break;
+                    default:
+                        throw error("잘못된 이스케이프 문자입니다");
+                }
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private char peek() {
+            if (pos >= text.length()) {
+                throw error("줄이 예상보다 일찍 끝났습니다");
+            }
+            return text.charAt(pos);
+        }
+
+        private char next() {
+            char c = peek();
+            pos++;
+            return c;
+        }
+
+        private void expect(char expected) {
+            if (next() != expected) {
+                throw error("'" + expected + "'가 필요합니다");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("JSON 형식 오류 (" + (pos + 1) + "번째 문자) : " + message);
+        }
+    }
+
+    /**
+     * CSV 파서 (첫 행은 헤더, 헤더의 UTF-8 BOM은 무시)
+     */
+    private static final class Csv extends PostImportReader {
+
+        private List<String> header;
+
+        private Csv(Reader in) {
+            super(in);
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) {
+                    names.set(0, names.get(0).substring(1));
+                }
+                header = names;
+            }
+
+            List<String> values;
+            long line;
+            do {
+                line = lineNumber + 1;
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isEmpty()); // 빈 줄
+
+            if (values.size() != header.size()) {
+                return new Row(line, null, "CSV 형식 오류 : 헤더는 " + header.size() + "개 열인데 " + values.size() + "개 열입니다");
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return new Row(line, fields, null);
+        }
+
+        /**
+         * 레코드 하나 읽기 (따옴표 안의 줄바꿈은 레코드에 포함)
+         * @return 필드 목록, 입력이 끝나면 null
+         */
+        private List<String> readRecord() throws IOException {
+            int c = in.read();
+            if (c < 0) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        // 따옴표가 닫히지 않은 채 입력이 끝남: 읽은 데이터까지만 사용
+                        break;
+                    }
+                    if (c == '"') {
+                        in.mark(1);
+                        int following = in.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            in.reset();
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c < 0 || c == '\n') {
+                    lineNumber++;
+                    break;
+                } else if (c == '\r') {
+                    // CRLF 줄바꿈의 CR은 무시
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = in.read();
+            }
+
+            values.add(field.toString());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.spring.post;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spring.libs.Excerpt;
+import com.example.spring.libs.JsonWriter;
+import com.example.spring.password.PasswordHashingEngine;
+import com.example.spring.search.PostSearchIndex;
+import com.example.spring.search.PostSuggestIndex;
+
+/**
+ * 게시글 대량 가져오기(import) 처리기
+ *
+ * - 입력(NDJSON/CSV)을 한 행씩 읽어 chunkSize 건씩 묶어 처리하므로 입력 크기와 관계없이 메모리 사용량이 일정함
+ * - 묶음의 비밀번호는 PasswordHashingEngine의 모든 작업 스레드에서 나눠 해시
+ *   (이미 BCrypt로 해시된 passwordHash가 주어지면 해시를 생략하여 그대로 저장)
+ * - 묶음마다 별도 트랜잭션에서 JDBC 배치(ExecutorType.BATCH)로 INSERT 후 커밋
+ * - 묶음 저장이 실패하면 롤백 후 한 건씩 다시 저장하여 실패한 행만 골라냄
+ * - 행마다 결과(생성된 ID 또는 오류)를 NDJSON으로 응답에 바로 출력
+ *
+ * 입력 필드: title, content, username, password(평문) 또는 passwordHash(BCrypt)
+ */
+@Component
+public class PostImporter implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostImporter.class);
+
+    @Autowired
+    PostDao postDao;
+
+    @Autowired
+    PasswordHashingEngine passwordHashingEngine;
+
+    @Autowired
+    PostSearchIndex postSearchIndex;
+
+    @Autowired
+    PostSuggestIndex postSuggestIndex;
+
+    @Autowired
+    PostCountCache postCountCache;
+
+    @Autowired
+    PostReadLoader postReadLoader;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Value("${post.import.chunkSize:1000}")
+    private int chunkSize;              // 한 트랜잭션(JDBC 배치)에 저장할 게시글 수
+
+    @Value("${post.import.maxConcurrent:1}")
+    private int maxConcurrent;          // 동시에 실행할 수 있는 가져오기 수
+
+    private TransactionTemplate transactionTemplate;
+    private Semaphore permits;
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 입력의 게시글을 모두 저장하고 행별 결과를 응답에 NDJSON으로 출력
+     *
+     * 출력 예:
+     * {"line":1,"id":101}
+     * {"line":2,"error":"title이 없습니다"}
+     * {"imported":1,"failed":1}
+     *
+     * @param reader 입력 파서
+     * @param response 응답 객체 (헤더 설정 후 결과를 직접 씀)
+     * @return 저장된 게시글 수
+     * @throws PostImportBusyException 동시 실행 수를 초과한 경우 (응답을 쓰기 전에 발생)
+     */
+    public long importPosts(PostImportReader reader, HttpServletResponse response) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new PostImportBusyException("동시에 실행 중인 게시글 가져오기가 너무 많습니다.");
+        }
+
+        try {
+            response.setContentType("application/x-ndjson; charset=UTF-8");
+            Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), 64 * 1024);
+
+            long start = System.currentTimeMillis();
+            long[] totals = new long[2]; // [저장 성공, 실패]
+            List<Pending> chunk = new ArrayList<>(chunkSize);
+
+            PostImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                String error = row.error != null ? row.error : validate(row.fields);
+                if (error != null) {
+                    writeFailure(out, row.line, error);
+                    totals[1]++;
+                    continue;
+                }
+
+                chunk.add(new Pending(row.line, row.fields));
+                if (chunk.size() >= chunkSize) {
+                    saveChunk(chunk, out, totals);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                saveChunk(chunk, out, totals);
+            }
+
+            out.write("{\"imported\":" + totals[0] + ",\"failed\":" + totals[1] + "}\n");
+            out.flush();
+
+            logger.info("게시글 가져오기 완료 : 성공 {}건, 실패 {}건, {}ms", totals[0], totals[1], System.currentTimeMillis() - start);
+            return totals[0];
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 필수 입력값 확인
+     * @return 오류 메시지, 정상이면 null
+     */
+    private static String validate(Map<String, String> fields) {
+        if (isBlank(fields.get("title"))) {
+            return "title이 없습니다";
+        }
+        if (isBlank(fields.get("username"))) {
+            return "username이 없습니다";
+        }
+
+        String passwordHash = fields.get("passwordHash");
+        if (passwordHash != null && !isBcryptHash(passwordHash)) {
+            return "passwordHash는 BCrypt 해시($2a$, $2b$, $2y$)여야 합니다";
+        }
+        if (passwordHash == null && isBlank(fields.get("password"))) {
+            return "password 또는 passwordHash가 없습니다";
+        }
+        return null;
+    }
+
+    /**
+     * 한 묶음 저장: 비밀번호 병렬 해시 → 배치 INSERT (한 트랜잭션) → 결과 출력
+     */
+    private void saveChunk(List<Pending> chunk, Writer out, long[] totals) throws IOException {
+        // 평문 비밀번호만 모아서 병렬 해시
+        List<String> rawPasswords = new ArrayList<>(chunk.size());
+        for (Pending pending : chunk) {
+            rawPasswords.add(pending.rawPassword);
+        }
+        List<String> hashes = passwordHashingEngine.encodeAll(rawPasswords);
+
+        List<PostDto> posts = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            PostDto post = chunk.get(i).post;
+            if (hashes.get(i) != null) {
+                post.setPassword(hashes.get(i));
+            }
+            posts.add(post);
+        }
+
+        List<PostDto> created = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.execute(status -> postDao.createAll(posts));
+            for (Pending pending : chunk) {
+                writeSuccess(out, pending.line, pending.post.getId());
+                created.add(pending.post);
+            }
+        } catch (DataAccessException e) {
+            // 묶음 전체가 롤백됨: 한 건씩 다시 저장하여 실패한 행만 골라냄
+            logger.warn("게시글 가져오기 묶음 저장 실패, 한 건씩 다시 시도 : {}", e.getMostSpecificCause().getMessage());
+            for (Pending pending : chunk) {
+                pending.post.setId(0);
+                try {
+                    transactionTemplate.execute(status -> postDao.createAll(Collections.singletonList(pending.post)));
+                    writeSuccess(out, pending.line, pending.post.getId());
+                    created.add(pending.post);
+                } catch (DataAccessException rowError) {
+                    writeFailure(out, pending.line, rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+
+        // 저장된 게시글을 검색/자동완성 색인과 캐시에 반영 (PostService.create와 같음)
+        for (PostDto post : created) {
+            postSearchIndex.add(post);
+            postSuggestIndex.add(post);
+            postReadLoader.invalidate(post.getId());
+        }
+        postCountCache.created(created.size());
+
+        totals[0] += created.size();
+        totals[1] += chunk.size() - created.size();
+        out.flush();
+    }
+
+    private static void writeSuccess(Writer out, long line, int id) throws IOException {
+        out.write("{\"line\":" + line + ",\"id\":" + id + "}\n");
+    }
+
+    private static void writeFailure(Writer out, long line, String error) throws IOException {
+        out.write("{\"line\":" + line + ",\"error\":");
+        JsonWriter.writeString(out, error);
+        out.write("}\n");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static boolean isBcryptHash(String value) {
+        return value.length() == 60
+            && (value.startsWith("$2a$") || value.startsWith("$2b$") || value.startsWith("$2y$"));
+    }
+
+    /**
+     * 저장 대기 중인 행 (입력 줄 번호 + 게시글 + 해시할 평문 비밀번호)
+     */
+    private static final class Pending {
+        private final long line;
+        private final PostDto post = new PostDto();
+        private final String rawPassword;   // 이미 해시된 경우 null
+
+        private Pending(long line, Map<String, String> fields) {
+            this.line = line;
+            post.setTitle(fields.get("title"));
+            post.setContent(fields.get("content"));
+            post.setUsername(fields.get("username"));
+            post.setExcerpt(Excerpt.of(fields.get("content")));
+
+            String passwordHash = fields.get("passwordHash");
+            post.setPassword(passwordHash);
+            this.rawPassword = passwordHash == null ? fields.get("password") : null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.spring.post;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 게시글 목록 화면(post/list.jsp)의 렌더링 결과 HTML 캐시
+ *
+ * - (페이지 번호, searchType, searchKeyword, 정렬 기준)별로 렌더링된 HTML을 보관하여 앞쪽 페이지 요청은 DB 조회와 JSP 렌더링 없이 응답
+ * - 캐시 대상은 페이지 번호 방식의 maxPage 이하 페이지만 (커서 방식의 깊은 페이지는 요청마다 달라 재사용이 적음)
+ * - 게시판 버전(PostService에서 등록/수정/삭제 시 증가)이 바뀌면 이전 HTML은 사용하지 않음
+ *   (다른 서버나 DB에서 직접 바뀐 내용을 위해 ttlMillis가 지나도 다시 렌더링)
+ * - 최대 maxEntries개를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 플래시 메시지(message.jsp)는 요청마다 다르므로 캐시된 HTML의 표시자 위치에 요청마다 따로 끼워 넣음
+ */
+@Component
+public class PostListPageCache {
+
+    static final String FRAGMENT_ATTRIBUTE = "postListFragment";    // list.jsp가 메시지 대신 표시자를 출력하도록 하는 요청 속성
+    private static final String MESSAGE_MARKER = "<!--#post-list-message-->";
+    private static final String MESSAGE_JSP = "/WEB-INF/views/base/message.jsp";
+    private static final String VIEW_NAME = "post/list";
+
+    @Autowired
+    ViewResolver viewResolver;
+
+    @Value("${post.listCache.maxEntries:200}")
+    private int maxEntries;             // 보관할 최대 페이지 수
+
+    @Value("${post.listCache.maxPage:5}")
+    private int maxPage;                // 캐시할 최대 페이지 번호
+
+    @Value("${post.listCache.maxKeywordLength:50}")
+    private int maxKeywordLength;       // 캐시할 검색어 최대 길이
+
+    @Value("${post.listCache.ttlMillis:60000}")
+    private long ttlMillis;             // 게시판 버전과 관계없이 다시 렌더링하는 주기
+
+    private final Map<String, Page> pages = new LinkedHashMap<String, Page>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Page> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * 캐시 키 생성
+     * @param sort 정렬 기준 (null이면 최신순)
+     * @return 캐시 키, 캐시 대상이 아니면 null
+     */
+    public String key(int currentPage, String searchType, String searchKeyword, String sort) {
+        if (currentPage < 1 || currentPage > maxPage) {
+            return null;
+        }
+        String page = sort != null ? currentPage + "\u0000" + sort : Integer.toString(currentPage);
+        // postMapper의 검색 조건과 동일하게 둘 중 하나라도 없으면 전체 목록
+        if (searchType == null || searchKeyword == null) {
+            return page;
+        }
+        if (searchKeyword.length() > maxKeywordLength) {
+            return null;
+        }
+        return page + "\u0000" + searchType + "\u0000" + searchKeyword;
+    }
+
+    /**
+     * 캐시된 페이지 조회
+     * @param key 캐시 키
+     * @param boardVersion 현재 게시판 버전
+     * @return 캐시된 페이지, 없거나 버전이 다르거나 만료되었으면 null
+     */
+    public Page get(String key, long boardVersion) {
+        Page page;
+        synchronized (pages) {
+            page = pages.get(key);
+        }
+        if (page == null || page.boardVersion != boardVersion || page.expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return page;
+    }
+
+    /**
+     * 목록 화면을 렌더링하면서 결과 HTML을 캐시에 저장하는 뷰
+     *
+     * @param key 캐시 키
+     * @param boardVersion 렌더링에 사용한 데이터의 게시판 버전 (데이터 조회 전에 읽은 값)
+     * @param etag 이 응답의 ETag 버전 문자열 (캐시에서 응답할 때 그대로 사용)
+     */
+    public View view(String key, long boardVersion, String etag) {
+        return new View() {
+            @Override
+            public String getContentType() {
+                return "text/html; charset=UTF-8";
+            }
+
+            @Override
+            public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+                View jsp = viewResolver.resolveViewName(VIEW_NAME, Locale.getDefault());
+
+                // 메시지 자리에 표시자를 넣어 렌더링한 결과를 응답 대신 버퍼에 받음
+                request.setAttribute(FRAGMENT_ATTRIBUTE, Boolean.TRUE);
+                ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+                jsp.render(model, request, buffer);
+                request.removeAttribute(FRAGMENT_ATTRIBUTE);
+
+                String html = new String(buffer.getContentAsByteArray(), StandardCharsets.UTF_8);
+                int marker = html.indexOf(MESSAGE_MARKER);
+                if (marker < 0) {
+                    buffer.copyBodyToResponse();
+                    return;
+                }
+
+                Page page = new Page(boardVersion, etag,
+                    html.substring(0, marker), html.substring(marker + MESSAGE_MARKER.length()),
+                    System.currentTimeMillis() + ttlMillis);
+                synchronized (pages) {
+                    pages.put(key, page);
+                }
+                write(page, request, response);
+            }
+        };
+    }
+
+    /**
+     * 캐시된 페이지를 응답으로 출력 (플래시 메시지가 있으면 표시자 위치에 message.jsp를 포함)
+     */
+    public void write(Page page, HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        response.setContentType("text/html; charset=UTF-8");
+        PrintWriter out = response.getWriter();
+        out.write(page.head);
+
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request);
+        if (flash != null && !flash.isEmpty()) {
+            flash.forEach(request::setAttribute);
+            request.getRequestDispatcher(MESSAGE_JSP).include(request, response);
+        }
+
+        out.write(page.tail);
+        out.flush();
+    }
+
+    /**
+     * 캐시된 목록 페이지 (메시지 표시자 앞/뒤 HTML)
+     */
+    public static final class Page {
+        private final long boardVersion;
+        private final String etag;
+        private final String head;
+        private final String tail;
+        private final long expiresAt;
+
+        private Page(long boardVersion, String etag, String head, String tail, long expiresAt) {
+            this.boardVersion = boardVersion;
+            this.etag = etag;
+            this.head = head;
+            this.tail = tail;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.spring.post;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.spring.db.ReplicaHealthCheck;
+import com.example.spring.db.ReplicaRouting;
+
+/**
+ * 게시글 단건 조회 요청 병합(single-flight) 로더
+ *
+ * - 같은 게시글 ID에 대한 동시 조회는 DB 조회 한 번을 함께 기다림 (인기 게시글에 요청이 몰려도 커넥션 1개만 사용)
+ * - 조회 결과는 짧은 시간(ttlMillis) 동안 캐시하며, 없는 게시글(null)도 negativeTtlMillis 동안 캐시
+ * - 게시글 등록/수정/삭제 시 invalidate()로 캐시를 비움
+ *   (복제본이 따라올 때까지는 다시 채우는 조회를 원본 DB에서 실행하여 변경 전 값이 다시 캐시되지 않게 함)
+ *
+ * 반환되는 PostDto는 여러 요청이 공유하는 객체이므로 호출하는 쪽에서 수정하면 안 됨
+ */
+@Component
+public class PostReadLoader {
+
+    @Autowired
+    PostDao postDao;
+
+    @Autowired
+    ReplicaHealthCheck replicaHealthCheck;
+
+    @Value("${post.read.ttlMillis:1000}")
+    private long ttlMillis;             // 조회 결과 캐시 시간
+
+    @Value("${post.read.negativeTtlMillis:1000}")
+    private long negativeTtlMillis;     // 없는 게시글(null) 캐시 시간
+
+    @Value("${post.read.maxEntries:10000}")
+    private int maxEntries;             // 캐시 최대 개수
+
+    private final ConcurrentHashMap<Integer, CompletableFuture<PostDto>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Entry> cache = new ConcurrentHashMap<>();
+
+    // 캐시 무효화 횟수 (조회 중에 무효화가 일어나면 이전 결과를 캐시하지 않기 위해 사용)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 게시글 조회 (캐시 → 진행 중인 조회 → DB 순서)
+     *
+     * @param id 조회할 게시글 ID
+     * @return 게시글 (공유 객체, 수정 금지), 없으면 null
+     */
+    public PostDto load(int id) {
+        // invalidate()는 항목을 먼저 바꾸고 횟수를 올리므로, 횟수를 먼저 읽으면 그 이전의 무효화 표시는 반드시 보임
+        long generation = invalidations.get();
+        Entry entry = cache.get(id);
+        long now = System.currentTimeMillis();
+        if (entry != null && entry.expiresAt > now) {
+            return entry.post;
+        }
+
+        CompletableFuture<PostDto> mine = new CompletableFuture<>();
+        CompletableFuture<PostDto> existing = inFlight.putIfAbsent(id, mine);
+        if (existing != null) {
+            // 다른 요청이 이미 조회 중이면 그 결과를 함께 사용
+            return await(existing);
+        }
+
+        // 무효화 직후에는 복제본이 아직 변경 전 값일 수 있으므로 원본 DB에서 조회
+        long primaryUntil = entry != null ? entry.primaryUntil : 0;
+        ReplicaRouting.State previous = primaryUntil > now ? ReplicaRouting.beginPrimaryRead() : null;
+        try {
+            PostDto post = postDao.read(id);
+
+            if (invalidations.get() == generation) {
+                long ttl = post != null ? ttlMillis : negativeTtlMillis;
+                put(id, new Entry(post, System.currentTimeMillis() + ttl, primaryUntil));
+            }
+
+            mine.complete(post);
+            return post;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (previous != null) {
+                ReplicaRouting.restore(previous);
+            }
+            inFlight.remove(id, mine);
+        }
+    }
+
+    /**
+     * 캐시에 있는 게시글만 조회 (DB를 조회하지 않음)
+     * @param id 게시글 ID
+     * @return 캐시된 게시글 (공유 객체, 수정 금지), 캐시에 없거나 만료되었으면 null
+     */
+    public PostDto peek(int id) {
+        Entry entry = cache.get(id);
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.post : null;
+    }
+
+    /**
+     * 게시글 캐시 무효화 (등록/수정/삭제 후 호출)
+     * - 진행 중인 조회도 목록에서 빼므로 이후 요청은 변경 전에 시작된 조회에 합류하지 않고 새로 조회함
+     * - 복제본이 따라올 수 있는 최대 시간 동안은 다시 채우는 조회를 원본 DB에서 실행하도록 만료된 항목으로 표시
+     * @param id 게시글 ID
+     */
+    public void invalidate(int id) {
+        put(id, new Entry(null, 0, System.currentTimeMillis() + replicaHealthCheck.maxStalenessMillis()));
+        invalidations.incrementAndGet();
+        inFlight.remove(id);
+    }
+
+    private void put(int id, Entry entry) {
+        if (cache.size() >= maxEntries) {
+            evictExpired();
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(id, entry);
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Map.Entry<Integer, Entry>> it = cache.entrySet().iterator(); it.hasNext(); ) {
+            Entry entry = it.next().getValue();
+            if (entry.expiresAt <= now && entry.primaryUntil <= now) {
+                it.remove();
+            }
+        }
+    }
+
+    private static PostDto await(CompletableFuture<PostDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final PostDto post;
+        private final long expiresAt;
+        private final long primaryUntil;    // 이 시각까지는 원본 DB에서 다시 채움 (무효화 직후)
+
+        private Entry(PostDto post, long expiresAt, long primaryUntil) {
+            this.post = post;
+            this.expiresAt = expiresAt;
+            this.primaryUntil = primaryUntil;
+        }
+    }
+}
@@ -1,45 +1,145 @@
 package com.example.spring.post;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.spring.db.ReplicaHealthCheck;
+import com.example.spring.db.ReplicaRead;
+import com.example.spring.libs.Excerpt;
+import com.example.spring.libs.PageResult;
 import com.example.spring.libs.Pagination;
+import com.example.spring.libs.RowVersion;
+import com.example.spring.password.PasswordHashingBusyException;
+import com.example.spring.password.PasswordHashingEngine;
+import com.example.spring.search.PostSearchIndex;
+import com.example.spring.search.PostSuggestIndex;
+import com.example.spring.search.PostSuggestion;
 
 /**
  * 게시글 관련 비즈니스 로직을 처리하는 서비스 클래스
  * 컨트롤러와 DAO 사이에서 중간 역할을 수행
+ * 조회 메서드(@ReplicaRead)는 복제본 DB, 쓰기와 비밀번호 확인은 원본 DB를 사용
  */
 @Service // Spring이 이 클래스를 서비스 컴포넌트로 인식하여 Bean으로 등록
 public class PostService {
 
     @Autowired // PostDao 객체를 자동으로 주입받음
     PostDao postDao;
-  @Autowired
-    PasswordEncoder passwordEncoder;
+  @Autowired // 비밀번호 해시 전용 엔진 (요청 스레드 대신 전용 작업 스레드에서 BCrypt 실행)
+    PasswordHashingEngine passwordHashingEngine;
+
+    @Autowired // 게시글 검색용 메모리 역색인
+    PostSearchIndex postSearchIndex;
+
+    @Autowired // 제목/작성자 자동완성용 메모리 접두어 색인
+    PostSuggestIndex postSuggestIndex;
+
+    @Autowired // 게시글 수(totalCount) 캐시
+    PostCountCache postCountCache;
+
+    @Autowired // 게시글 단건 조회 요청 병합(single-flight) 로더
+    PostReadLoader postReadLoader;
+
+    @Autowired // 게시글 내보내기(export) 처리기
+    PostExporter postExporter;
+
+    @Autowired // 게시글 대량 가져오기(import) 처리기
+    PostImporter postImporter;
+
+    @Autowired // 복제본 DB 상태 확인 (복제 지연 허용 시간)
+    ReplicaHealthCheck replicaHealthCheck;
+
+    /** 목록 정렬 기준: 조회수 많은 순 */
+    public static final String SORT_VIEWS = "views";
+
+    @Value("${post.count.approximate:false}")
+    private boolean approximateCount; // 검색 결과 수를 현재 페이지 블록까지만 셀지 여부
+
+    private final AtomicLong boardVersion = new AtomicLong(); // 게시판 버전 (등록/수정/삭제 시 증가, 목록 HTML 캐시 무효화용)
+
+    private volatile long boardChangedAt; // 마지막으로 게시판 버전을 올린 시각
 
     /**
      * 비밀번호 검증 메서드
+     * - 내용 없이 ID, 제목, 작성자, 비밀번호 해시, VERSION만 조회 (postMapper.credential)
      * @param post 사용자가 입력한 게시글 정보(ID, 비밀번호 포함)
-     * @return 비밀번호 일치 여부 (true: 일치, false: 불일치 또는 게시글 없음)
+     * @return 비밀번호가 일치하면 수정/삭제 전 원본 게시글(내용 제외), 불일치 또는 게시글 없음이면 null
      */
-    private boolean verifyPassword(PostDto post) {
-        PostDto originalPost = postDao.read(post.getId());
+    private PostDto verifyPassword(PostDto post) {
+        PostDto originalPost = postDao.readCredential(post.getId());
 
         // 게시글 없음
-        if (originalPost == null) return false;
+        if (originalPost == null) return null;
 
         // matches(사용자입력비밀번호, DB해시비밀번호)
-        return passwordEncoder.matches(post.getPassword(), originalPost.getPassword());
+        return passwordHashingEngine.matches(post.getPassword(), originalPost.getPassword()) ? originalPost : null;
+    }
+
+    /**
+     * 수정 문장에 저장할 비밀번호 해시를 정하는 메서드
+     * - 이전 cost로 만든 해시는 확인된 평문 비밀번호로 현재 cost 해시를 만들어 교체 (수정 문장의 VERSION 조건을 그대로 따름)
+     * - 해시 엔진이 바쁘면 이번에는 저장된 해시를 그대로 두고 다음 수정 때 다시 시도
+     * @param rawPassword verifyPassword()로 확인된 평문 비밀번호
+     * @param storedPassword 저장된 비밀번호 해시
+     * @return 저장할 비밀번호 해시
+     */
+    private String rehashIfNeeded(String rawPassword, String storedPassword) {
+        if (!passwordHashingEngine.needsRehash(storedPassword)) {
+            return storedPassword;
+        }
+        try {
+            return passwordHashingEngine.encode(rawPassword);
+        } catch (PasswordHashingBusyException e) {
+            return storedPassword;
+        }
+    }
+
+    /**
+     * 검색 색인에서 지울 수정/삭제 전 내용을 원본 게시글에 채우는 메서드
+     * - 내용을 색인하지 않으면 조회하지 않음
+     * - 최근 조회로 캐시된 게시글이 같은 VERSION이면 캐시의 내용을 사용하고, 아니면 내용만 조회
+     * @param originalPost verifyPassword()가 반환한 원본 게시글
+     * @return 내용을 채웠으면 true, 비밀번호 확인 후 다른 요청이 먼저 수정/삭제했으면 false
+     */
+    private boolean loadOriginalContent(PostDto originalPost) {
+        if (!postSearchIndex.indexesContent()) {
+            return true;
+        }
+
+        PostDto cached = postReadLoader.peek(originalPost.getId());
+        if (cached != null && cached.getVersion() == originalPost.getVersion()) {
+            originalPost.setContent(cached.getContent());
+            return true;
+        }
+
+        PostDto stored = postDao.readOriginalContent(originalPost.getId());
+        if (stored == null || stored.getVersion() != originalPost.getVersion()) {
+            return false;
+        }
+        originalPost.setContent(stored.getContent());
+        return true;
     }
      /**
      * 게시글 목록을 조회하고 검색 조건 및 페이징 정보를 함께 반환하는 메서드
      *
      * - 검색 조건이 주어지면 해당 조건(title, content, username 등)에 따라 게시글을 필터링
+     * - 검색은 메모리 역색인(PostSearchIndex)으로 ID를 찾고 한 페이지 분량만 DB에서 조회
+     *   (색인이 준비되지 않았거나, 한 글자 검색어이거나, 확인할 후보가 너무 많으면 기존 LIKE 쿼리로 처리,
+     *   LIKE 쿼리로 내용을 검색할 때는 PostDao가 압축 저장된 게시글도 복원하여 확인)
+     * - 전체 게시글 수(totalCount)는 PostCountCache에서 조회하므로 평상시에는 목록 조회 쿼리 한 번만 실행
+     * - 근사 카운트 모드(post.count.approximate=true)에서는 검색 결과 수를 현재 페이지 블록까지만 셈
      * - 전체 게시글 수(totalCount)를 기반으로 Pagination 객체를 생성
      * - 계산된 offset을 이용하여 해당 페이지의 게시글만 조회
      * - 검색 조건과 게시글 목록을 Map 형태로 반환하여 뷰에서 쉽게 사용 가능
@@ -50,31 +150,242 @@ public class PostService {
      * @param searchType 검색 기준 ("title", "content", "username", "all")
      * @param searchKeyword 검색어 (null 또는 빈 문자열이면 전체 조회)
      * @return Map<String, Object> 형태의 결과
-     *         - posts: 게시글 리스트 (List<PostDto>)
+     *         - posts: 게시글 요약 리스트 (List<PostSummary>)
      *         - searchType: 검색 기준 (뷰에서 유지)
      *         - searchKeyword: 검색어 (뷰에서 유지)
      *         - pagination: 페이지네이션 정보 (페이지 버튼 출력용)
      */
+    @ReplicaRead
     public Map<String, Object> list(int currentPage, int listCountPerPage, int pageCountPerPage, String searchType, String searchKeyword) {
-        // 검색 조건에 따른 전체 게시글 수 조회
-        int totalCount = postDao.totalCount(searchType, searchKeyword);
+        return list(currentPage, listCountPerPage, pageCountPerPage, searchType, searchKeyword, null);
+    }
+
+    /**
+     * 정렬 기준을 지정하여 게시글 목록을 조회하는 메서드
+     * @param sort 정렬 기준 ("views"이면 조회수 많은 순, null이면 최신순)
+     * @see #list(int, int, int, String, String)
+     */
+    @ReplicaRead
+    public Map<String, Object> list(int currentPage, int listCountPerPage, int pageCountPerPage, String searchType, String searchKeyword, String sort) {
+        return toModel(listPage(currentPage, listCountPerPage, pageCountPerPage, searchType, searchKeyword, sort), searchType, searchKeyword);
+    }
+
+    /**
+     * 페이지 번호 방식으로 게시글 목록 한 페이지를 조회하는 메서드 (list()와 동일, JSON API용)
+     * @return 게시글 요약 리스트와 페이지네이션 정보
+     */
+    @ReplicaRead
+    public PageResult<PostSummary> listPage(int currentPage, int listCountPerPage, int pageCountPerPage, String searchType, String searchKeyword) {
+        return listPage(currentPage, listCountPerPage, pageCountPerPage, searchType, searchKeyword, null);
+    }
+
+    /**
+     * 정렬 기준을 지정하여 게시글 목록 한 페이지를 조회하는 메서드
+     * - 조회순("views")은 검색 색인의 ID 순서(최신순)를 쓸 수 없으므로 목록은 항상 DB에서 정렬하여 조회
+     *   (검색 결과 수는 색인 결과를 그대로 사용)
+     * - 조회순에는 ID 커서가 없으므로 prevCursor/nextCursor를 설정하지 않음
+     * @param sort 정렬 기준 ("views"이면 조회수 많은 순, null이면 최신순)
+     */
+    @ReplicaRead
+    public PageResult<PostSummary> listPage(int currentPage, int listCountPerPage, int pageCountPerPage, String searchType, String searchKeyword, String sort) {
+        boolean byViews = SORT_VIEWS.equals(sort);
+
+        // 검색 색인으로 일치하는 게시글 ID 조회 (처리할 수 없으면 null)
+        int[] matchedIds = postSearchIndex.search(searchType, searchKeyword);
+
+        // 검색 조건에 따른 전체 게시글 수 조회 (색인 결과 또는 카운트 캐시)
+        int cap = approximateCount && matchedIds == null
+            ? Pagination.countCap(currentPage, listCountPerPage, pageCountPerPage)
+            : 0;
+        int totalCount = matchedIds != null ? matchedIds.length : postCountCache.count(searchType, searchKeyword, cap);
 
         // 페이지네이션 객체 생성 (총 게시글 수 기반으로 계산)
         Pagination pagination = new Pagination(currentPage, listCountPerPage, pageCountPerPage, totalCount);
+        pagination.setApproximate(cap > 0 && totalCount >= cap);
 
         // 페이징 정보에 따른 게시글 목록 조회 (LIMIT offset, count)
-        List<PostDto> posts = postDao.list(pagination.offset(), listCountPerPage, searchType, searchKeyword);
+        List<PostSummary> posts;
+        if (byViews) {
+            posts = postDao.list(pagination.offset(), listCountPerPage, searchType, searchKeyword, SORT_VIEWS);
+        } else if (matchedIds != null) {
+            posts = postDao.listByIds(idsForPage(matchedIds, pagination.offset(), listCountPerPage));
+        } else {
+            posts = postDao.list(pagination.offset(), listCountPerPage, searchType, searchKeyword);
+        }
+
+        // 페이지 번호 범위를 벗어나는 "다음" 링크는 커서 방식으로 생성하므로 현재 페이지의 첫/마지막 ID를 보관
+        if (!byViews && posts != null && !posts.isEmpty()) {
+            pagination.setPrevCursor(posts.get(0).getId());
+            pagination.setNextCursor(posts.get(posts.size() - 1).getId());
+        }
+
+        return new PageResult<>(posts, pagination);
+    }
 
-        // 결과 데이터 맵 구성
+    /**
+     * 목록 조회 결과를 화면(JSP)용 Map으로 구성
+     */
+    private static Map<String, Object> toModel(PageResult<PostSummary> page, String searchType, String searchKeyword) {
         Map<String, Object> result = new HashMap<>();
-        result.put("posts", posts);
+        result.put("posts", page.getItems());
         result.put("searchType", searchType);
         result.put("searchKeyword", searchKeyword);
-        result.put("pagination", pagination); // 뷰에서 페이지 번호 출력에 사용
+        result.put("pagination", page.getPagination()); // 뷰에서 페이지 번호 출력에 사용
 
         return result;
     }
 
+    /**
+     * 커서(게시글 ID) 기반으로 게시글 목록을 조회하는 메서드 (keyset 페이징)
+     *
+     * - OFFSET 대신 WHERE ID &lt; after / ID &gt; before 로 조회하므로 깊은 페이지도 조회 비용이 일정함
+     * - 전체 게시글 수(COUNT)를 조회하지 않고, 한 건을 더 읽어 다음/이전 페이지 존재 여부만 판단
+     *
+     * @param after 이 ID보다 오래된 게시글 조회 (다음 페이지), null 허용
+     * @param before 이 ID보다 최신 게시글 조회 (이전 페이지), null 허용
+     * @param listCountPerPage 한 페이지에 보여줄 게시글 수
+     * @param searchType 검색 기준 ("title", "content", "username", "all")
+     * @param searchKeyword 검색어 (null 또는 빈 문자열이면 전체 조회)
+     * @return list()와 동일한 구성의 Map (pagination은 커서 방식)
+     */
+    @ReplicaRead
+    public Map<String, Object> listByCursor(Integer after, Integer before, int listCountPerPage, String searchType, String searchKeyword) {
+        return toModel(cursorPage(after, before, listCountPerPage, searchType, searchKeyword), searchType, searchKeyword);
+    }
+
+    /**
+     * 커서(게시글 ID) 방식으로 게시글 목록 한 페이지를 조회하는 메서드 (listByCursor()와 동일, JSON API용)
+     * @return 게시글 요약 리스트와 페이지네이션 정보 (커서 방식)
+     */
+    @ReplicaRead
+    public PageResult<PostSummary> cursorPage(Integer after, Integer before, int listCountPerPage, String searchType, String searchKeyword) {
+        // 다음/이전 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PostSummary> posts;
+        int[] matchedIds = postSearchIndex.search(searchType, searchKeyword);
+        if (matchedIds != null) {
+            posts = postDao.listByIds(idsForCursor(matchedIds, after, before, listCountPerPage + 1));
+            // listByIds는 최신순이므로 before 조회는 DAO 커서 조회와 같이 오래된 순으로 맞춤
+            if (posts != null && before != null) {
+                Collections.reverse(posts);
+            }
+        } else {
+            posts = postDao.listByCursor(after, before, listCountPerPage + 1, searchType, searchKeyword);
+        }
+        if (posts == null) {
+            posts = new ArrayList<>();
+        }
+
+        boolean hasMore = posts.size() > listCountPerPage;
+        if (hasMore) {
+            posts.remove(posts.size() - 1);
+        }
+
+        // before 조회는 오래된 순으로 반환되므로 최신순으로 뒤집음
+        if (before != null) {
+            Collections.reverse(posts);
+        }
+
+        Integer prevCursor = null;
+        Integer nextCursor = null;
+        if (!posts.isEmpty()) {
+            // 이전 페이지: after로 넘어왔거나, before 조회에서 더 최신 글이 남아 있는 경우
+            if (after != null || (before != null && hasMore)) {
+                prevCursor = posts.get(0).getId();
+            }
+            // 다음 페이지: before로 돌아왔거나, after 조회에서 더 오래된 글이 남아 있는 경우
+            if ((before != null && before > 0) || (before == null && hasMore)) {
+                nextCursor = posts.get(posts.size() - 1).getId();
+            }
+        }
+
+        return new PageResult<>(posts, new Pagination(listCountPerPage, prevCursor, nextCursor));
+    }
+
+    /**
+     * 검색 색인 결과(오름차순 ID)에서 페이지 번호 방식의 한 페이지 분량 ID를 최신순으로 추출
+     */
+    private List<Integer> idsForPage(int[] ids, int offset, int limit) {
+        List<Integer> page = new ArrayList<>(limit);
+        for (int i = ids.length - 1 - offset; i >= 0 && page.size() < limit; i--) {
+            page.add(ids[i]);
+        }
+        return page;
+    }
+
+    /**
+     * 검색 색인 결과(오름차순 ID)에서 커서 기준 한 페이지 분량 ID를 추출
+     * - after: after보다 작은 ID를 최신순으로, before: before보다 큰 ID를 오래된 순으로
+     */
+    private List<Integer> idsForCursor(int[] ids, Integer after, Integer before, int limit) {
+        List<Integer> page = new ArrayList<>(limit);
+
+        if (before != null) {
+            int pos = Arrays.binarySearch(ids, before);
+            int start = pos >= 0 ? pos + 1 : -pos - 1;
+            for (int i = start; i < ids.length && page.size() < limit; i++) {
+                page.add(ids[i]);
+            }
+            return page;
+        }
+
+        int end = ids.length;
+        if (after != null) {
+            int pos = Arrays.binarySearch(ids, after);
+            end = pos >= 0 ? pos : -pos - 1;
+        }
+        for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+            page.add(ids[i]);
+        }
+        return page;
+    }
+
+
+    /**
+     * 검색 조건에 맞는 게시글을 NDJSON/CSV로 내보내는 메서드
+     * - DB에서 읽는 즉시 응답 스트림에 쓰므로 게시글 수와 관계없이 메모리 사용량이 일정함
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all")
+     * @param searchKeyword 검색어 (null이면 전체 게시글)
+     * @param format 출력 형식
+     * @param response 응답 객체
+     * @return 출력한 게시글 수, 클라이언트 연결 끊김으로 중단되면 -1 (DB 오류는 예외로 전파되어 응답이 중단됨)
+     */
+    @ReplicaRead
+    public long export(String searchType, String searchKeyword, PostExportFormat format, HttpServletResponse response) throws IOException {
+        return postExporter.export(searchType, searchKeyword, format, response);
+    }
+
+    /**
+     * NDJSON/CSV 입력의 게시글을 대량으로 등록하는 메서드
+     * - 묶음 단위로 비밀번호를 병렬 해시하고 JDBC 배치로 저장 (묶음마다 별도 트랜잭션)
+     * - 행마다 생성된 ID 또는 오류를 응답에 NDJSON으로 출력
+     * - 끝나면 게시판 버전을 올려 목록 HTML 캐시를 무효화 (진행 중에 저장된 묶음은 캐시 ttl 안에 반영)
+     *
+     * @param reader 입력 파서
+     * @param response 응답 객체
+     * @return 등록된 게시글 수
+     */
+    public long importPosts(PostImportReader reader, HttpServletResponse response) throws IOException {
+        try {
+            return postImporter.importPosts(reader, response);
+        } finally {
+            boardChanged();
+        }
+    }
+
+    /**
+     * 제목 또는 작성자 자동완성 제안을 조회하는 메서드
+     * - 메모리 색인만 사용하므로 DB를 조회하지 않음
+     *
+     * @param type 대상 필드 ("title" 또는 "username")
+     * @param prefix 입력한 접두어
+     * @param limit 최대 제안 수
+     * @return 최신 게시글 순의 제안 목록 (색인 구축 전이면 빈 목록)
+     * @throws IllegalArgumentException 지원하지 않는 type인 경우
+     */
+    public List<PostSuggestion> suggest(String type, String prefix, int limit) {
+        return postSuggestIndex.suggest(type, prefix, limit);
+    }
 
     /**
      * 게시글을 등록하는 메서드
@@ -83,50 +394,149 @@ public class PostService {
      */
     public int create(PostDto post) {
         // DAO를 호출하여 게시글을 DB에 저장하고 결과를 반환
-        String password = passwordEncoder.encode(post.getPassword());
+        String password = passwordHashingEngine.encode(post.getPassword());
         post.setPassword(password);
+        post.setExcerpt(Excerpt.of(post.getContent())); // 목록 화면용 미리보기
         int result = postDao.create(post);
+
+        // 등록된 게시글을 검색 색인과 게시글 수 캐시에 반영
+        if (result > 0) {
+            postSearchIndex.add(post);
+            postSuggestIndex.add(post);
+            postCountCache.created();
+            postReadLoader.invalidate(post.getId()); // "없는 게시글"로 캐시된 결과 제거
+            boardChanged();
+        }
         return result;
     }
 
     /**
      * 특정 게시글을 조회하는 메서드
+     * - 같은 게시글에 대한 동시 조회는 DB 조회 한 번으로 병합하고 결과를 잠시 캐시함
      * @param id 조회할 게시글의 ID
-     * @return 게시글(PostDto) 객체, 없으면 null
+     * @return 게시글(PostDto) 객체 (여러 요청이 공유하므로 수정 금지), 없으면 null
      */
+    @ReplicaRead
     public PostDto read(int id) {
-        // DAO를 통해 ID에 해당하는 게시글을 조회
-        return postDao.read(id);
+        // single-flight 로더를 통해 ID에 해당하는 게시글을 조회
+        return postReadLoader.load(id);
+    }
+
+    /**
+     * 게시글 버전(ID, VERSION, 수정일시)을 조회하는 메서드 (상세보기 조건부 GET용)
+     * - 단건 조회 캐시에 게시글이 있으면 DB를 조회하지 않음
+     * @param id 게시글 ID
+     * @return 게시글 버전, 없으면 null
+     */
+    @ReplicaRead
+    public RowVersion version(int id) {
+        PostDto cached = postReadLoader.peek(id);
+        if (cached == null) {
+            return postDao.version(id);
+        }
+
+        RowVersion version = new RowVersion();
+        version.setId(cached.getId());
+        version.setVersion(cached.getVersion());
+        version.setUpdatedAt(cached.getUpdatedAt());
+        return version;
+    }
+
+    /**
+     * 게시글 목록 버전을 조회하는 메서드 (목록 조건부 GET용)
+     * - 등록/수정/삭제할 때마다 DB의 목록 버전(LIST_VERSION)을 올리므로 어느 서버에서 바뀌었든 반영됨
+     * - 검색 조건과 관계없이 게시글이 하나라도 바뀌면 버전이 바뀜
+     * @return 목록 버전, 버전 행이 없으면 null
+     */
+    @ReplicaRead
+    public RowVersion listVersion() {
+        return postDao.listVersion();
+    }
+
+    /**
+     * 게시글 등록/수정/삭제 후 목록 버전을 올리는 메서드
+     * - 이 서버의 게시판 버전(목록 HTML 캐시)과 DB의 목록 버전(모든 서버의 목록 ETag)을 함께 올림
+     */
+    private void boardChanged() {
+        boardChangedAt = System.currentTimeMillis();
+        boardVersion.incrementAndGet();
+        postDao.bumpListVersion();
+    }
+
+    /**
+     * 복제본이 이 서버의 마지막 게시판 변경을 아직 반영하지 못했을 수 있는지 여부
+     * - 변경 후 복제본이 따라올 수 있는 최대 시간(ReplicaHealthCheck.maxStalenessMillis)이 지나지 않았으면 true
+     * - 목록 HTML 캐시를 채우는 조회를 원본 DB로 보낼지 판단 (복제본의 변경 전 목록이 새 게시판 버전으로 캐시되지 않도록)
+     * @return 복제본이 변경 전 값일 수 있으면 true
+     */
+    public boolean boardRecentlyChanged() {
+        return System.currentTimeMillis() - boardChangedAt < replicaHealthCheck.maxStalenessMillis();
+    }
+
+    /**
+     * 게시판 버전 조회 (목록 HTML 캐시용)
+     * - 이 서버에서 게시글이 등록/수정/삭제될 때마다 증가
+     * - 목록을 조회하기 전에 읽어 두어야 조회 중에 바뀐 내용이 이전 버전으로 캐시되지 않음
+     * @return 게시판 버전
+     */
+    public long boardVersion() {
+        return boardVersion.get();
     }
 
     /**
      * 게시글을 수정하는 메서드
      * - 비밀번호 검증 후 수정 처리
+     * - 입력한 비밀번호는 저장된 비밀번호와 같으므로 BCrypt를 다시 계산하지 않고 저장된 해시를 그대로 사용
+     *   (저장된 해시의 cost가 현재 목표 cost와 다르면 입력한 비밀번호로 다시 해시하여 같은 수정 문장으로 저장)
+     * - 수정 문장은 비밀번호를 확인할 때 읽은 VERSION이 그대로일 때만 실행되므로
+     *   확인과 수정 사이에 다른 요청이 먼저 수정/삭제했으면 덮어쓰지 않고 실패 처리
      * @param post 수정할 게시글 정보 (ID, 비밀번호 포함)
      * @return 수정 성공 여부 (true: 성공, false: 실패)
      */
     public boolean update(PostDto post) {
-        if (!verifyPassword(post)) {
+        PostDto originalPost = verifyPassword(post);
+        if (originalPost == null || !loadOriginalContent(originalPost)) {
             return false;
         }
- String password = passwordEncoder.encode(post.getPassword());
-        post.setPassword(password);
+
+        post.setPassword(rehashIfNeeded(post.getPassword(), originalPost.getPassword()));
+        post.setVersion(originalPost.getVersion());
+        post.setExcerpt(Excerpt.of(post.getContent()));
         int result = postDao.update(post);
+
+        // 수정 전 내용의 토큰을 제거하고 수정 후 내용으로 다시 색인
+        if (result > 0) {
+            postSearchIndex.update(originalPost, post);
+            postSuggestIndex.update(originalPost, post);
+            postReadLoader.invalidate(post.getId());
+            boardChanged();
+        }
         return result > 0;
     }
 
     /**
      * 게시글을 삭제하는 메서드
      * - 비밀번호 검증 후 삭제 처리
+     * - 비밀번호를 확인할 때 읽은 VERSION이 그대로일 때만 삭제 (그 사이 수정되었으면 실패)
      * @param post 삭제할 게시글 정보 (ID, 비밀번호 포함)
      * @return 삭제 성공 여부 (true: 성공, false: 실패)
      */
     public boolean delete(PostDto post) {
-        if (!verifyPassword(post)) {
+        PostDto originalPost = verifyPassword(post);
+        if (originalPost == null || !loadOriginalContent(originalPost)) {
             return false;
         }
 
-        int result = postDao.delete(post.getId());
+        int result = postDao.delete(post.getId(), originalPost.getVersion());
+
+        // 삭제된 게시글을 검색 색인과 게시글 수 캐시에 반영
+        if (result > 0) {
+            postSearchIndex.remove(originalPost);
+            postSuggestIndex.remove(originalPost);
+            postCountCache.deleted();
+            boardChanged();
+            postReadLoader.invalidate(post.getId());
+        }
         return result > 0;
     }
 }
@@ -0,0 +1,210 @@
+package com.example.spring.post;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.spring.metrics.MetricsRegistry;
+
+/**
+ * 게시글 조회수 집계기 (메모리 집계 + 일괄 반영 write-behind)
+ *
+ * - 조회할 때마다 UPDATE를 실행하지 않고 게시글 ID별 LongAdder(스레드별로 나눠 더하는 카운터)에 더함
+ *   (인기 게시글에 조회가 몰려도 락이나 행 잠금 경합이 없음)
+ * - flushMillis마다 모인 조회수를 batchSize개 게시글씩 한 문장(postMapper.addViews)으로 DB에 더함
+ * - 반영에 실패하면 조회수를 다시 집계에 넣어 다음 주기에 재시도
+ * - 애플리케이션 종료 시(destroy) 남은 조회수를 마지막으로 반영
+ * - 화면에는 DB 값 + pending()(아직 반영되지 않은 조회수)을 더해 보여줌
+ *
+ * 반영 중에 더해진 조회수 한두 건은 다음 주기로 넘어가지 못하고 빠질 수 있음 (정확한 집계보다 처리량 우선)
+ * 프로세스가 비정상 종료되면 마지막 반영 이후의 조회수는 사라짐
+ */
+@Component
+public class PostViewCounter implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostViewCounter.class);
+
+    @Autowired
+    PostDao postDao;
+
+    @Autowired
+    PostReadLoader postReadLoader;
+
+    @Value("${post.views.flushMillis:5000}")
+    private long flushMillis;           // DB 반영 주기
+
+    @Value("${post.views.batchSize:500}")
+    private int batchSize;              // 한 문장으로 반영할 최대 게시글 수
+
+    @Value("${post.views.maxPending:100000}")
+    private int maxPending;             // 반영 대기 게시글 최대 개수 (넘으면 새 게시글의 조회수는 버림)
+
+    private final ConcurrentHashMap<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 반영 중인 조회수 (DB에 반영되어 캐시가 비워질 때까지 pending()에 포함)
+    private final ConcurrentHashMap<Integer, Long> flushing = new ConcurrentHashMap<>();
+
+    // 반영 완료 횟수 (조회순 목록의 ETag에 포함)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Object flushLock = new Object();
+    private ScheduledExecutorService scheduler;
+
+    private LongAdder flushedCounter;
+    private LongAdder droppedCounter;
+    private LongAdder errorCounter;
+
+    @Override
+    public void afterPropertiesSet() {
+        MetricsRegistry registry = MetricsRegistry.get();
+        registry.gauge("post_views_pending", "DB 반영을 기다리는 조회수 게시글 수", "", pending::size);
+        flushedCounter = registry.counter("post_views_flushed_total", "DB에 반영한 조회수", "");
+        droppedCounter = registry.counter("post_views_dropped_total", "반영 대기 게시글 수 초과로 버린 조회수", "");
+        errorCounter = registry.counter("post_views_flush_errors_total", "조회수 반영 실패 횟수", "");
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-views-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주기 반영을 멈추고 남은 조회수를 반영
+     * (DispatcherServlet 컨텍스트가 DB 설정이 있는 루트 컨텍스트보다 먼저 닫히므로 DB를 사용할 수 있음)
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushMillis, TimeUnit.MILLISECONDS);
+        int flushed = flush();
+        if (!pending.isEmpty()) {
+            logger.warn("종료 시 게시글 조회수 반영 실패 : 게시글 {}개", pending.size());
+        }
+        logger.info("종료 시 게시글 조회수 반영 : 게시글 {}개", flushed);
+    }
+
+    /**
+     * 조회수 1 증가
+     * @param id 조회한 게시글 ID
+     */
+    public void increment(int id) {
+        LongAdder counter = pending.get(id);
+        if (counter == null) {
+            if (pending.size() >= maxPending) {
+                droppedCounter.increment();
+                return;
+            }
+            counter = pending.computeIfAbsent(id, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     * @param id 게시글 ID
+     * @return 반영 대기 + 반영 중인 조회수
+     */
+    public long pending(int id) {
+        LongAdder counter = pending.get(id);
+        Long inFlight = flushing.get(id);
+        return (counter != null ? counter.sum() : 0) + (inFlight != null ? inFlight : 0);
+    }
+
+    /**
+     * DB 반영 완료 횟수 (조회수가 DB에 더해질 때마다 증가)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("게시글 조회수 반영 오류 : {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모인 조회수를 batchSize개 게시글씩 DB에 반영
+     * @return 반영한 게시글 수
+     */
+    int flush() {
+        synchronized (flushLock) {
+            int flushed = 0;
+            Map<Integer, Long> batch = new LinkedHashMap<>();
+
+            Iterator<Map.Entry<Integer, LongAdder>> it = pending.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Integer, LongAdder> entry = it.next();
+                // 꺼낸 값만큼 빼고, 그 사이 더해진 조회수가 없으면 항목 제거
+                long delta = entry.getValue().sumThenReset();
+                if (delta == 0) {
+                    it.remove();
+                    continue;
+                }
+                flushing.put(entry.getKey(), delta);
+                batch.put(entry.getKey(), delta);
+
+                if (batch.size() >= batchSize) {
+                    flushed += write(batch);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushed += write(batch);
+            }
+            return flushed;
+        }
+    }
+
+    /**
+     * 한 묶음 반영, 실패하면 다시 집계에 넣음
+     * @return 반영한 게시글 수 (실패 시 0)
+     */
+    private int write(Map<Integer, Long> batch) {
+        int result = postDao.addViews(batch);
+
+        List<Integer> ids = new ArrayList<>(batch.keySet());
+        if (result < 0) {
+            errorCounter.increment();
+            for (Map.Entry<Integer, Long> entry : batch.entrySet()) {
+                pending.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(entry.getValue());
+            }
+        } else {
+            // 캐시된 게시글(이전 조회수)을 비운 뒤 반영 중 목록에서 제거해야 화면의 조회수가 줄어들지 않음
+            for (Integer id : ids) {
+                postReadLoader.invalidate(id);
+            }
+            generation.incrementAndGet();
+            long total = 0;
+            for (Long delta : batch.values()) {
+                total += delta;
+            }
+            flushedCounter.add(total);
+        }
+
+        for (Integer id : ids) {
+            flushing.remove(id);
+        }
+        return result < 0 ? 0 : batch.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.spring.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 문자 bigram 토크나이저
+ * - 띄어쓰기/형태소 분석 없이 인접한 두 글자를 하나의 토큰으로 사용하므로 한글 검색에도 그대로 동작
+ * - 예: "게시판" → [게시, 시판]
+ * - 토큰은 두 글자(char)를 하나의 int로 묶어 문자열 객체 생성 없이 사용
+ * - LIKE 검색(utf8mb4_general_ci)과 같이 대소문자를 구분하지 않도록 소문자로 변환
+ */
+final class BigramTokenizer {
+
+    private static final int[] EMPTY = new int[0];
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 중복 없는 bigram 토큰 배열로 변환
+     * @param text 원본 텍스트 (null 허용)
+     * @return 정렬된 bigram 토큰 배열 (두 글자 미만이면 빈 배열)
+     */
+    static int[] tokenize(String text) {
+        if (text == null || text.length() < 2) {
+            return EMPTY;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int[] tokens = new int[normalized.length() - 1];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+
+        // 정렬 후 중복 제거
+        Arrays.sort(tokens);
+        int distinct = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (i == 0 || tokens[i] != tokens[i - 1]) {
+                tokens[distinct++] = tokens[i];
+            }
+        }
+
+        return distinct == tokens.length ? tokens : Arrays.copyOf(tokens, distinct);
+    }
+}
@@ -0,0 +1,430 @@
+package com.example.spring.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.spring.post.PostDao;
+import com.example.spring.post.PostDto;
+
+/**
+ * 게시글 검색용 메모리 역색인 (inverted index)
+ *
+ * - 제목/내용/작성자 필드별로 bigram 토큰 → 게시글 ID 목록(PostingList)을 보관
+ * - 검색어의 모든 bigram을 포함하는 게시글 ID를 교집합으로 계산하므로 LIKE '%keyword%' 전체 스캔이 필요 없음
+ * - 애플리케이션 시작 시 POST 테이블을 스트리밍으로 읽어 백그라운드에서 색인을 만들고,
+ *   이후에는 PostService의 등록/수정/삭제 시점에 증분 반영
+ * - 색인이 준비되지 않았거나 검색어가 한 글자인 경우 null을 반환하여 기존 DB 검색으로 대체
+ *
+ * 참고: bigram 교집합은 "검색어의 모든 두 글자 조합이 같은 필드에 존재"를 의미할 뿐이므로
+ * (예: "abcab"는 "cabc"의 bigram을 모두 포함하지만 "cabc"를 포함하지 않음),
+ * 세 글자 이상 검색어는 교집합으로 찾은 후보의 실제 제목/작성자/내용을 DB에서 읽어 검색어 포함 여부를 확인한 뒤 반환
+ * (후보가 verifyMaxCandidates보다 많으면 확인 조회량이 LIKE 검색보다 커지므로 null을 반환하여 DB 검색으로 대체)
+ */
+@Component
+public class PostSearchIndex implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private static final int[] EMPTY = new int[0];
+
+    /** 색인 구축 시 한 번의 쓰기 락으로 반영할 게시글 수 */
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    /** 후보 확인 시 한 번에 조회할 게시글 수 */
+    private static final int VERIFY_BATCH_SIZE = 500;
+
+    @Autowired
+    PostDao postDao;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;            // 메모리 색인 사용 여부
+
+    @Value("${search.index.content:true}")
+    private boolean indexContent;       // 내용(CONTENT) 색인 여부 (false면 내용 검색은 DB로 처리)
+
+    @Value("${search.index.verifyMaxCandidates:2000}")
+    private int verifyMaxCandidates;    // 세 글자 이상 검색어에서 DB로 확인할 최대 후보 수 (넘으면 DB 검색으로 대체)
+
+    private final Map<Integer, PostingList> titleIndex = new HashMap<>();
+    private final Map<Integer, PostingList> contentIndex = new HashMap<>();
+    private final Map<Integer, PostingList> usernameIndex = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 색인 구축 중 변경된 게시글 ID (구축 스레드가 이전 스냅샷으로 덮어쓰지 않도록 건너뜀)
+    private final Set<Integer> touchedDuringBuild = new HashSet<>();
+
+    private volatile boolean ready;
+    private int documentCount;          // 초기 구축 시 색인한 게시글 수 (로그용)
+    private Thread buildThread;
+
+    /**
+     * 빈 초기화 후 백그라운드 스레드에서 색인 구축 시작
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            logger.info("게시글 검색 색인 비활성화 (search.index.enabled=false)");
+            return;
+        }
+
+        buildThread = new Thread(this::build, "post-search-index-build");
+        buildThread.setDaemon(true);
+        buildThread.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (buildThread != null) {
+            buildThread.interrupt();
+        }
+    }
+
+    /**
+     * POST 테이블 전체를 스트리밍으로 읽어 색인을 구축
+     */
+    private void build() {
+        long start = System.currentTimeMillis();
+        List<PostDto> batch = new ArrayList<>(BUILD_BATCH_SIZE);
+
+        try {
+            postDao.streamSearchSource(context -> {
+                if (Thread.currentThread().isInterrupted()) {
+                    context.stop();
+                    return;
+                }
+                batch.add(context.getResultObject());
+                if (batch.size() >= BUILD_BATCH_SIZE) {
+                    addBuildBatch(batch);
+                    batch.clear();
+                }
+            });
+            addBuildBatch(batch);
+        } catch (RuntimeException e) {
+            logger.error("게시글 검색 색인 구축 오류 : {}", e.getMessage(), e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("게시글 검색 색인 구축 완료 : {}건, {}ms", documentCount, System.currentTimeMillis() - start);
+    }
+
+    private void addBuildBatch(List<PostDto> batch) {
+        lock.writeLock().lock();
+        try {
+            for (PostDto post : batch) {
+                if (!touchedDuringBuild.contains(post.getId())) {
+                    index(post);
+                    documentCount++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건에 맞는 게시글 ID 조회
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all")
+     * @param searchKeyword 검색어
+     * @return 검색어를 포함하는 게시글 ID (오름차순), 색인으로 처리할 수 없거나 확인할 후보가 너무 많은 경우 null
+     */
+    public int[] search(String searchType, String searchKeyword) {
+        if (!ready || searchType == null || searchKeyword == null) {
+            return null;
+        }
+
+        int[] tokens = BigramTokenizer.tokenize(searchKeyword);
+        if (tokens.length == 0) {
+            return null; // 한 글자 이하 검색어는 DB 검색으로 처리
+        }
+
+        boolean needsContent = "content".equals(searchType) || "all".equals(searchType);
+        if (needsContent && !indexContent) {
+            return null;
+        }
+
+        int[] candidates;
+        lock.readLock().lock();
+        try {
+            switch (searchType) {
+                case "title":
+                    candidates = match(titleIndex, tokens);
+                    break;
+                case "content":
+                    candidates = match(contentIndex, tokens);
+                    break;
+                case "username":
+                    candidates = match(usernameIndex, tokens);
+                    break;
+                case "all":
+                    candidates = union(union(match(titleIndex, tokens), match(contentIndex, tokens)), match(usernameIndex, tokens));
+                    break;
+                default:
+                    return null;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 두 글자 검색어는 bigram 하나와 같으므로 교집합이 곧 결과, 세 글자 이상은 후보를 실제 값으로 확인
+        if (searchKeyword.length() <= 2 || candidates.length == 0) {
+            return candidates;
+        }
+        if (candidates.length > verifyMaxCandidates) {
+            // 흔한 bigram으로만 이루어진 검색어: 후보를 모두 읽는 것보다 한 페이지만 읽는 DB 검색이 저렴함
+            return null;
+        }
+        return verify(searchType, searchKeyword, candidates);
+    }
+
+    /**
+     * 후보 게시글의 실제 제목/작성자/내용을 조회하여 검색어를 포함하는 게시글만 남김
+     * - LIKE(utf8mb4_general_ci)와 같이 대소문자를 구분하지 않음, 압축 저장된 내용은 복원하여 확인
+     * - 조회 중 삭제된 게시글은 결과에서 빠짐
+     *
+     * @return 검색어를 포함하는 게시글 ID (오름차순), 조회 오류 시 null (DB 검색으로 대체)
+     */
+    private int[] verify(String searchType, String searchKeyword, int[] candidates) {
+        String keyword = searchKeyword.toLowerCase(Locale.ROOT);
+        boolean checkContent = "all".equals(searchType) || "content".equals(searchType);
+
+        int[] verified = new int[candidates.length];
+        int size = 0;
+        for (int from = 0; from < candidates.length; from += VERIFY_BATCH_SIZE) {
+            int to = Math.min(candidates.length, from + VERIFY_BATCH_SIZE);
+            List<Integer> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(candidates[i]);
+            }
+
+            List<PostDto> posts = postDao.listSearchText(ids, checkContent);
+            if (posts == null) {
+                return null;
+            }
+            for (PostDto post : posts) {
+                if (matchesLowerCase(post, searchType, keyword)) {
+                    verified[size++] = post.getId();
+                }
+            }
+        }
+
+        Arrays.sort(verified, 0, size);
+        return size == verified.length ? verified : Arrays.copyOf(verified, size);
+    }
+
+    /**
+     * 게시글이 검색 조건에 맞는지 확인 (LIKE 검색과 같이 대소문자 구분 없음)
+     * - 압축 저장된 내용은 복원하여 확인하므로, SQL로 내용을 검색할 수 없는 압축 게시글을 거를 때 사용
+     *
+     * @param searchType 검색 기준 ("title", "content", "username", "all")
+     * @param searchKeyword 검색어 (null이거나 비어 있으면 항상 true)
+     */
+    public static boolean matches(PostDto post, String searchType, String searchKeyword) {
+        if (searchKeyword == null || searchKeyword.isEmpty()) {
+            return true;
+        }
+        return matchesLowerCase(post, searchType, searchKeyword.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean matchesLowerCase(PostDto post, String searchType, String keyword) {
+        boolean all = "all".equals(searchType);
+        return ((all || "title".equals(searchType)) && contains(post.getTitle(), keyword))
+            || ((all || "username".equals(searchType)) && contains(post.getUsername(), keyword))
+            || ((all || "content".equals(searchType)) && contains(post.getContent(), keyword));
+    }
+
+    private static boolean contains(String text, String keyword) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+
+    /**
+     * 새 게시글을 색인에 추가
+     * @param post 등록된 게시글 (ID 포함)
+     */
+    public void add(PostDto post) {
+        lock.writeLock().lock();
+        try {
+            markTouched(post.getId());
+            index(post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 수정된 게시글을 색인에 반영
+     * @param original 수정 전 게시글 (이전 토큰 제거용)
+     * @param updated 수정 후 게시글
+     */
+    public void update(PostDto original, PostDto updated) {
+        lock.writeLock().lock();
+        try {
+            markTouched(updated.getId());
+            unindex(original);
+            index(updated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 색인에서 제거
+     * @param original 삭제 전 게시글
+     */
+    public void remove(PostDto original) {
+        lock.writeLock().lock();
+        try {
+            markTouched(original.getId());
+            unindex(original);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 내용을 색인하는지 여부
+     * @return true면 update()/remove()에 수정/삭제 전 내용이 필요함 (이전 내용의 토큰을 지움)
+     */
+    public boolean indexesContent() {
+        return enabled && indexContent;
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     * @return 초기 구축이 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void markTouched(int id) {
+        if (!ready) {
+            touchedDuringBuild.add(id);
+        }
+    }
+
+    private void index(PostDto post) {
+        int id = post.getId();
+        addTokens(titleIndex, post.getTitle(), id);
+        addTokens(usernameIndex, post.getUsername(), id);
+        if (indexContent) {
+            addTokens(contentIndex, post.getContent(), id);
+        }
+    }
+
+    private void unindex(PostDto post) {
+        int id = post.getId();
+        removeTokens(titleIndex, post.getTitle(), id);
+        removeTokens(usernameIndex, post.getUsername(), id);
+        if (indexContent) {
+            removeTokens(contentIndex, post.getContent(), id);
+        }
+    }
+
+    private static void addTokens(Map<Integer, PostingList> index, String text, int id) {
+        for (int token : BigramTokenizer.tokenize(text)) {
+            PostingList postings = index.get(token);
+            if (postings == null) {
+                postings = new PostingList();
+                index.put(token, postings);
+            }
+            postings.add(id);
+        }
+    }
+
+    private static void removeTokens(Map<Integer, PostingList> index, String text, int id) {
+        for (int token : BigramTokenizer.tokenize(text)) {
+            PostingList postings = index.get(token);
+            if (postings != null) {
+                postings.remove(id);
+                if (postings.isEmpty()) {
+                    index.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 모든 토큰을 포함하는 게시글 ID 교집합 (가장 짧은 목록부터 이진 탐색으로 걸러냄)
+     */
+    private static int[] match(Map<Integer, PostingList> index, int[] tokens) {
+        PostingList[] lists = new PostingList[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            lists[i] = index.get(tokens[i]);
+            if (lists[i] == null) {
+                return EMPTY;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+
+        int[] result = lists[0].toArray();
+        int size = result.length;
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            int kept = 0;
+            for (int j = 0; j < size; j++) {
+                if (lists[i].contains(result[j])) {
+                    result[kept++] = result[j];
+                }
+            }
+            size = kept;
+        }
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 정렬된 두 ID 배열의 합집합
+     */
+    private static int[] union(int[] a, int[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+
+        int[] merged = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                merged[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                merged[k++] = b[j++];
+            } else {
+                merged[k++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            merged[k++] = a[i++];
+        }
+        while (j < b.length) {
+            merged[k++] = b[j++];
+        }
+
+        return Arrays.copyOf(merged, k);
+    }
+}
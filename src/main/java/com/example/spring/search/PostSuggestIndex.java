@@ -0,0 +1,501 @@
+package com.example.spring.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.spring.metrics.MetricsRegistry;
+import com.example.spring.post.PostDao;
+import com.example.spring.post.PostDto;
+import com.example.spring.post.PostSummary;
+
+/**
+ * 게시글 제목/작성자 자동완성용 메모리 접두어 색인
+ *
+ * - 필드(제목, 작성자)별로 서로 다른 문자열마다 최신 게시글 ID와 게시글 수를 보관 (대소문자 구분 없음, 같은 제목은 한 항목)
+ * - 대부분의 항목은 변경 불가능한 정렬 표(PrefixTable, 앞부분 공유 저장)에 두고,
+ *   이후 등록/수정/삭제로 바뀐 항목만 TreeMap(변경분)에 두어 표보다 우선 적용
+ * - 변경분이 rebuildThreshold개를 넘으면 변경분을 고정하고 백그라운드 스레드에서 표와 합친 새 표를 만들어 교체
+ * - 애플리케이션 시작 시 POST 테이블의 제목과 작성자를 스트리밍으로 읽어 백그라운드에서 표를 만들고,
+ *   이후에는 PostService의 등록/수정/삭제 시점에 증분 반영
+ * - 최신순: 게시글 ID가 클수록 최신 (등록 순서), 구축이 끝나기 전에는 빈 결과
+ *
+ * 참고: 어떤 제목의 최신 게시글이 삭제되어도 그 제목의 다른 게시글이 남아 있으면 최신 게시글 ID는 그대로 둠
+ * (순위만 조금 앞설 뿐이고 다음 재구축 전까지 유지, 재시작하면 정확한 값으로 다시 만들어짐)
+ */
+@Component
+public class PostSuggestIndex implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSuggestIndex.class);
+
+    private static final int MAX_LIMIT = 20;    // 한 번에 돌려줄 수 있는 최대 제안 수
+
+    @Autowired
+    PostDao postDao;
+
+    @Value("${suggest.enabled:true}")
+    private boolean enabled;            // 자동완성 색인 사용 여부
+
+    @Value("${suggest.maxLength:50}")
+    private int maxLength;              // 색인할 제목/작성자 최대 길이 (넘는 부분은 잘라서 색인)
+
+    @Value("${suggest.rebuildThreshold:10000}")
+    private int rebuildThreshold;       // 변경분이 이 개수를 넘으면 표를 다시 만듦
+
+    private final Field title = new Field("title");
+    private final Field username = new Field("username");
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 색인 구축 중 변경된 게시글 ID (구축 스레드가 이전 스냅샷으로 다시 세지 않도록 건너뜀)
+    private final Set<Integer> touchedDuringBuild = new HashSet<>();
+    private int streamedUpTo;           // 구축 스레드가 읽은 마지막 게시글 ID (구축이 끝나면 Integer.MAX_VALUE)
+
+    private volatile boolean ready;
+    private boolean rebuilding;
+    private Thread buildThread;
+
+    /**
+     * 빈 초기화 후 백그라운드 스레드에서 색인 구축 시작
+     */
+    @Override
+    public void afterPropertiesSet() {
+        maxLength = Math.min(maxLength, PrefixTable.MAX_KEY_LENGTH);
+        MetricsRegistry registry = MetricsRegistry.get();
+        for (Field field : new Field[] {title, username}) {
+            String labels = MetricsRegistry.label("field", field.name);
+            registry.gauge("suggest_index_entries", "자동완성 표의 항목 수", labels, () -> field.base.size());
+            registry.gauge("suggest_index_bytes", "자동완성 표의 대략적인 메모리", labels, () -> field.base.memoryBytes());
+            registry.gauge("suggest_index_pending", "표에 합쳐지지 않은 변경 항목 수", labels, () -> field.active.size() + field.frozen.size());
+        }
+
+        if (!enabled) {
+            logger.info("게시글 자동완성 색인 비활성화 (suggest.enabled=false)");
+            return;
+        }
+
+        buildThread = new Thread(this::build, "post-suggest-build");
+        buildThread.setDaemon(true);
+        buildThread.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (buildThread != null) {
+            buildThread.interrupt();
+        }
+    }
+
+    /**
+     * POST 테이블 전체의 제목과 작성자를 스트리밍으로 읽어 첫 표를 구축
+     * - 읽은 항목은 변경분(TreeMap)에 모은 뒤 한 번에 표로 만듦
+     */
+    private void build() {
+        long start = System.currentTimeMillis();
+        int[] rows = new int[1];
+
+        try {
+            postDao.streamSuggestSource(context -> {
+                if (Thread.currentThread().isInterrupted()) {
+                    context.stop();
+                    return;
+                }
+                PostSummary post = context.getResultObject();
+                lock.writeLock().lock();
+                try {
+                    streamedUpTo = post.getId();
+                    if (!touchedDuringBuild.contains(post.getId())) {
+                        increment(title, post.getTitle(), post.getId());
+                        increment(username, post.getUsername(), post.getId());
+                        rows[0]++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("게시글 자동완성 색인 구축 오류 : {}", e.getMessage(), e);
+            return;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            streamedUpTo = Integer.MAX_VALUE;
+            touchedDuringBuild.clear();
+            freeze();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuild();
+
+        logger.info("게시글 자동완성 색인 구축 완료 : 게시글 {}건, 제목 {}개({}KB), 작성자 {}개({}KB), {}ms",
+            rows[0], title.base.size(), title.base.memoryBytes() / 1024,
+            username.base.size(), username.base.memoryBytes() / 1024, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 접두어로 시작하는 제목 또는 작성자를 최신순으로 조회
+     *
+     * @param type 대상 필드 ("title" 또는 "username")
+     * @param prefix 입력한 접두어 (앞쪽 공백은 무시, 대소문자 구분 없음)
+     * @param limit 최대 제안 수 (1~20으로 맞춤)
+     * @return 최신 게시글 ID가 큰 순서의 제안 목록, 색인이 준비되지 않았거나 접두어가 비어 있으면 빈 목록
+     * @throws IllegalArgumentException 지원하지 않는 type인 경우
+     */
+    public List<PostSuggestion> suggest(String type, String prefix, int limit) {
+        Field field = field(type);
+        if (field == null) {
+            throw new IllegalArgumentException("type은 title 또는 username이어야 합니다.");
+        }
+
+        String key = prefix == null ? "" : stripLeading(prefix);
+        if (!ready || key.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (key.length() > maxLength) {
+            key = key.substring(0, maxLength);
+        }
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<Entry> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            String end = key + Character.MAX_VALUE;
+            Map<String, Entry> active = field.active.subMap(key, true, end, false);
+            Map<String, Entry> frozen = field.frozen.subMap(key, true, end, false);
+            // 변경분 항목은 락을 놓은 뒤에도 바뀔 수 있으므로 복사
+            for (Entry entry : active.values()) {
+                if (entry.count > 0) {
+                    candidates.add(new Entry(entry.text, entry.latest, entry.count));
+                }
+            }
+            for (Entry entry : frozen.values()) {
+                if (entry.count > 0 && !active.containsKey(entry.text)) {
+                    candidates.add(entry);
+                }
+            }
+
+            // 변경분에 있는 항목은 표의 값보다 변경분이 우선이므로 건너뜀
+            PrefixTable base = field.base;
+            base.visitNewest(base.prefixStart(key), base.prefixEnd(key), limit, index -> {
+                String text = base.key(index);
+                if (active.containsKey(text) || frozen.containsKey(text)) {
+                    return false;
+                }
+                candidates.add(new Entry(text, base.latest(index), base.count(index)));
+                return true;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidates.sort((a, b) -> Integer.compare(b.latest, a.latest));
+        List<PostSuggestion> suggestions = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            Entry entry = candidates.get(i);
+            PostSuggestion suggestion = new PostSuggestion();
+            suggestion.setText(entry.text);
+            suggestion.setId(entry.latest);
+            suggestion.setCount(entry.count);
+            suggestions.add(suggestion);
+        }
+        return suggestions;
+    }
+
+    /**
+     * 새 게시글을 색인에 추가
+     * @param post 등록된 게시글 (ID 포함)
+     */
+    public void add(PostDto post) {
+        lock.writeLock().lock();
+        try {
+            markTouched(post.getId());
+            increment(title, post.getTitle(), post.getId());
+            increment(username, post.getUsername(), post.getId());
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 수정된 게시글을 색인에 반영
+     * @param original 수정 전 게시글 (이전 제목/작성자의 게시글 수를 줄임)
+     * @param updated 수정 후 게시글
+     */
+    public void update(PostDto original, PostDto updated) {
+        lock.writeLock().lock();
+        try {
+            if (markTouched(updated.getId())) {
+                decrement(title, original.getTitle());
+                decrement(username, original.getUsername());
+            }
+            increment(title, updated.getTitle(), updated.getId());
+            increment(username, updated.getUsername(), updated.getId());
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 색인에서 제거
+     * @param original 삭제 전 게시글
+     */
+    public void remove(PostDto original) {
+        lock.writeLock().lock();
+        try {
+            if (markTouched(original.getId())) {
+                decrement(title, original.getTitle());
+                decrement(username, original.getUsername());
+            }
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     * @return 첫 표 구축이 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 구축 중 변경된 게시글 표시
+     * @return 게시글의 이전 상태가 이미 색인에 반영되어 있으면 true
+     *         (구축 스레드가 아직 읽지 않은 게시글이면 false, 이후 구축 스레드는 이 게시글을 건너뜀)
+     */
+    private boolean markTouched(int id) {
+        if (streamedUpTo == Integer.MAX_VALUE) {
+            return true;
+        }
+        return !touchedDuringBuild.add(id) || id <= streamedUpTo;
+    }
+
+    private void increment(Field field, String text, int id) {
+        String key = normalize(text);
+        if (key == null) {
+            return;
+        }
+        Entry entry = field.modifiable(key);
+        entry.count++;
+        if (id >= entry.latest) {
+            entry.latest = id;
+            entry.text = key;   // 대소문자만 다른 제목은 최신 게시글의 표기로 보여줌
+        }
+    }
+
+    private void decrement(Field field, String text) {
+        String key = normalize(text);
+        if (key == null) {
+            return;
+        }
+        Entry entry = field.modifiable(key);
+        if (entry.count > 0) {
+            entry.count--;
+        }
+    }
+
+    private String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String key = text.trim();
+        if (key.length() > maxLength) {
+            key = key.substring(0, maxLength).trim();
+        }
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * 변경분이 많으면 고정하고 백그라운드에서 표를 다시 만듦 (쓰기 락 안에서 호출)
+     */
+    private void rebuildIfNeeded() {
+        if (!ready || rebuilding || (title.active.size() < rebuildThreshold && username.active.size() < rebuildThreshold)) {
+            return;
+        }
+        freeze();
+
+        Thread thread = new Thread(this::rebuild, "post-suggest-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 현재 변경분을 고정 (이후 변경은 새 변경분에 기록, 쓰기 락 안에서 호출)
+     */
+    private void freeze() {
+        rebuilding = true;
+        for (Field field : new Field[] {title, username}) {
+            field.frozen = field.active;
+            field.active = newDelta();
+        }
+    }
+
+    /**
+     * 표와 고정된 변경분을 합친 새 표를 만들어 교체
+     * - 고정된 변경분은 더 이상 바뀌지 않으므로 합치는 동안에는 락을 잡지 않음 (교체할 때만 쓰기 락)
+     */
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        PrefixTable mergedTitle;
+        PrefixTable mergedUsername;
+        try {
+            mergedTitle = merge(title.base, title.frozen);
+            mergedUsername = merge(username.base, username.frozen);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            logger.error("게시글 자동완성 표 재구축 오류 : {}", e.getMessage(), e);
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            title.base = mergedTitle;
+            title.frozen = newDelta();
+            username.base = mergedUsername;
+            username.frozen = newDelta();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("게시글 자동완성 표 재구축 : 제목 {}개, 작성자 {}개, {}ms",
+            mergedTitle.size(), mergedUsername.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 정렬된 표와 변경분을 차례로 합침 (같은 문자열이면 변경분 값 사용, 게시글 수가 0인 항목은 제외)
+     */
+    static PrefixTable merge(PrefixTable base, TreeMap<String, Entry> delta) {
+        int capacity = base.size() + delta.size();
+        List<String> keys = new ArrayList<>(capacity);
+        int[] latest = new int[capacity];
+        int[] counts = new int[capacity];
+        int size = 0;
+
+        Iterator<Entry> changes = delta.values().iterator();
+        Entry change = changes.hasNext() ? changes.next() : null;
+        for (int i = 0; i < base.size() || change != null; ) {
+            String key = i < base.size() ? base.key(i) : null;
+            int order = key == null ? 1 : change == null ? -1 : String.CASE_INSENSITIVE_ORDER.compare(key, change.text);
+            if (order < 0) {
+                keys.add(key);
+                latest[size] = base.latest(i);
+                counts[size++] = base.count(i);
+                i++;
+                continue;
+            }
+            if (change.count > 0) {
+                keys.add(change.text);
+                latest[size] = change.latest;
+                counts[size++] = change.count;
+            }
+            if (order == 0) {
+                i++;
+            }
+            change = changes.hasNext() ? changes.next() : null;
+        }
+
+        return PrefixTable.of(keys, Arrays.copyOf(latest, size), Arrays.copyOf(counts, size));
+    }
+
+    private Field field(String type) {
+        if ("title".equals(type)) {
+            return title;
+        }
+        if ("username".equals(type)) {
+            return username;
+        }
+        return null;
+    }
+
+    private static TreeMap<String, Entry> newDelta() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    private static String stripLeading(String text) {
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return text.substring(start);
+    }
+
+    /**
+     * 필드 하나의 표 + 변경분
+     * - 조회: active → frozen → base 순서로 먼저 찾은 값을 사용
+     * - 변경분 항목은 표 값에 더할 차이가 아니라 변경 후 값 그대로를 보관
+     */
+    private static final class Field {
+
+        final String name;
+        volatile PrefixTable base = PrefixTable.EMPTY;
+        volatile TreeMap<String, Entry> frozen = newDelta();    // 재구축 중인 변경분 (읽기 전용)
+        volatile TreeMap<String, Entry> active = newDelta();    // 새 변경분
+
+        Field(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 변경할 항목 (active에 없으면 frozen/base의 현재 값을 복사하여 추가)
+         */
+        Entry modifiable(String key) {
+            Entry entry = active.get(key);
+            if (entry != null) {
+                return entry;
+            }
+
+            Entry current = frozen.get(key);
+            if (current != null) {
+                entry = new Entry(current.text, current.latest, current.count);
+            } else {
+                int index = base.indexOf(key);
+                entry = index < 0 ? new Entry(key, 0, 0) : new Entry(base.key(index), base.latest(index), base.count(index));
+            }
+            active.put(key, entry);
+            return entry;
+        }
+    }
+
+    /**
+     * 문자열 하나의 최신 게시글 ID와 게시글 수
+     */
+    static final class Entry {
+
+        String text;
+        int latest;
+        int count;
+
+        Entry(String text, int latest, int count) {
+            this.text = text;
+            this.latest = latest;
+            this.count = count;
+        }
+    }
+}
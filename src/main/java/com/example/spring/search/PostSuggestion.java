@@ -0,0 +1,14 @@
+package com.example.spring.search;
+
+import lombok.Data;
+
+/**
+ * 자동완성 결과 한 건
+ */
+@Data
+public class PostSuggestion {
+
+    private String text;        // 제안할 제목 또는 작성자 이름
+    private int id;             // 이 제목/작성자의 가장 최신 게시글 ID
+    private int count;          // 이 제목/작성자의 게시글 수
+}
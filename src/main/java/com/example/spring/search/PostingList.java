@@ -0,0 +1,78 @@
+package com.example.spring.search;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 토큰(bigram)에 해당하는 게시글 ID 목록
+ * - ID를 오름차순 int 배열로 보관하여 객체 할당 없이 교집합/합집합 계산
+ * - 게시글은 대부분 ID 순서대로 추가되므로 append가 기본 경로
+ * - 동시성 제어는 PostSearchIndex의 읽기/쓰기 락에 맡김
+ */
+class PostingList {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    /**
+     * 게시글 ID 추가 (정렬 상태 유지, 중복 무시)
+     * @param id 게시글 ID
+     */
+    void add(int id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+
+        int insertAt = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    /**
+     * 게시글 ID 제거
+     * @param id 게시글 ID
+     */
+    void remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * 정렬된 ID 배열 복사본
+     * @return 오름차순 게시글 ID 배열
+     */
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
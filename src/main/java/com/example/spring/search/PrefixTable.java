@@ -0,0 +1,276 @@
+package com.example.spring.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 자동완성용 정렬 문자열 표 (변경 불가)
+ *
+ * - 문자열을 대소문자 구분 없는 순서(String.CASE_INSENSITIVE_ORDER)로 정렬하여 하나의 char[]에 앞부분 공유(front coding) 방식으로 저장
+ *   (BLOCK_SIZE개 단위 블록의 첫 문자열만 전체를 저장하고, 나머지는 앞 문자열과 겹치는 길이 + 나머지 글자만 저장)
+ * - 문자열마다 최신 게시글 ID(latest)와 게시글 수(count)를 int 배열로 보관
+ * - 접두어에 해당하는 범위는 블록 첫 문자열 이진 탐색 + 블록 안 순차 탐색으로 찾음
+ * - 범위 안에서 최신순 상위 k개는 latest의 구간 최댓값 트리(segment tree)로 찾으므로 범위 크기와 관계없이 O(k log n)
+ *
+ * 항목 하나당 대략 (문자열에서 앞 문자열과 겹치지 않는 글자 수 + 2) * 2바이트 + 16바이트
+ */
+final class PrefixTable {
+
+    /** 전체 문자열을 저장하는 간격 (클수록 작아지고 느려짐) */
+    static final int BLOCK_SIZE = 16;
+
+    /** 문자열 최대 길이 (겹치는 길이와 나머지 길이를 char 하나씩에 저장) */
+    static final int MAX_KEY_LENGTH = Character.MAX_VALUE;
+
+    static final PrefixTable EMPTY = new PrefixTable(new char[0], new int[0], new int[0], new int[0], 0);
+
+    private final char[] data;          // [겹치는 길이][나머지 길이][나머지 글자...] 반복
+    private final int[] blockOffsets;   // 블록 첫 문자열의 data 위치
+    private final int[] latest;         // 문자열별 최신 게시글 ID
+    private final int[] counts;         // 문자열별 게시글 수
+    private final int[] tree;           // latest 구간 최댓값의 위치 (tree[size + i] = i, 잎부터 거꾸로 채움)
+    private final int size;
+
+    private PrefixTable(char[] data, int[] blockOffsets, int[] latest, int[] counts, int size) {
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.latest = latest;
+        this.counts = counts;
+        this.size = size;
+
+        tree = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            tree[i] = newer(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    /**
+     * 정렬된 항목으로 표 생성
+     *
+     * @param keys 대소문자 구분 없는 순서로 정렬된 문자열 (대소문자만 다른 중복 없음, 길이 MAX_KEY_LENGTH 이하)
+     * @param latest 문자열별 최신 게시글 ID
+     * @param counts 문자열별 게시글 수
+     */
+    static PrefixTable of(List<String> keys, int[] latest, int[] counts) {
+        int size = keys.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        int[] blockOffsets = new int[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        char[] data = new char[Math.max(16, size * 8)];
+        int length = 0;
+        String previous = "";
+        for (int i = 0; i < size; i++) {
+            String key = keys.get(i);
+            int shared = 0;
+            if (i % BLOCK_SIZE == 0) {
+                blockOffsets[i / BLOCK_SIZE] = length;
+            } else {
+                int max = Math.min(previous.length(), key.length());
+                while (shared < max && previous.charAt(shared) == key.charAt(shared)) {
+                    shared++;
+                }
+            }
+
+            int suffix = key.length() - shared;
+            if (length + 2 + suffix > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 3 / 2, length + 2 + suffix));
+            }
+            data[length++] = (char) shared;
+            data[length++] = (char) suffix;
+            key.getChars(shared, key.length(), data, length);
+            length += suffix;
+            previous = key;
+        }
+
+        return new PrefixTable(Arrays.copyOf(data, length), blockOffsets,
+            Arrays.copyOf(latest, size), Arrays.copyOf(counts, size), size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int latest(int index) {
+        return latest[index];
+    }
+
+    int count(int index) {
+        return counts[index];
+    }
+
+    /**
+     * 표가 차지하는 대략적인 메모리 (바이트)
+     */
+    long memoryBytes() {
+        return (long) data.length * 2 + (long) blockOffsets.length * 4 + (long) size * 16;
+    }
+
+    /**
+     * index번째 문자열 (블록 첫 문자열부터 차례로 복원)
+     */
+    String key(int index) {
+        char[] buffer = new char[64];
+        int length = 0;
+        int offset = blockOffsets[index / BLOCK_SIZE];
+        for (int i = index - index % BLOCK_SIZE; i <= index; i++) {
+            int shared = data[offset];
+            int suffix = data[offset + 1];
+            if (shared + suffix > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, shared + suffix));
+            }
+            System.arraycopy(data, offset + 2, buffer, shared, suffix);
+            length = shared + suffix;
+            offset += 2 + suffix;
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * 대소문자 구분 없이 key와 같은 문자열의 위치
+     * @return 위치, 없으면 -1
+     */
+    int indexOf(String key) {
+        int index = lowerBound(key);
+        return index < size && String.CASE_INSENSITIVE_ORDER.compare(key(index), key) == 0 ? index : -1;
+    }
+
+    /**
+     * prefix로 시작하는(대소문자 구분 없음) 문자열 범위의 시작 위치
+     */
+    int prefixStart(String prefix) {
+        return lowerBound(prefix);
+    }
+
+    /**
+     * prefix로 시작하는(대소문자 구분 없음) 문자열 범위의 끝 위치 (포함하지 않음)
+     */
+    int prefixEnd(String prefix) {
+        return lowerBound(prefix + Character.MAX_VALUE);
+    }
+
+    /**
+     * 범위 [from, to)에서 latest가 큰 순서로 항목을 방문
+     *
+     * @param visitor 항목 위치를 받아 결과에 포함했으면 true를 반환 (false면 건너뛴 것으로 보고 계속 탐색)
+     * @param limit 포함할 최대 항목 수
+     */
+    void visitNewest(int from, int to, int limit, Visitor visitor) {
+        if (from >= to || limit <= 0) {
+            return;
+        }
+
+        // 구간을 최댓값 위치로 나누어 가며 큐에 넣으므로 방문한 항목 수만큼만 구간 최댓값을 계산함
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> Integer.compare(latest[b[2]], latest[a[2]]));
+        ranges.add(new int[] {from, to, newest(from, to)});
+        int accepted = 0;
+        while (!ranges.isEmpty() && accepted < limit) {
+            int[] range = ranges.poll();
+            int index = range[2];
+            if (visitor.visit(index)) {
+                accepted++;
+            }
+            if (range[0] < index) {
+                ranges.add(new int[] {range[0], index, newest(range[0], index)});
+            }
+            if (index + 1 < range[1]) {
+                ranges.add(new int[] {index + 1, range[1], newest(index + 1, range[1])});
+            }
+        }
+    }
+
+    /**
+     * 범위 방문자
+     */
+    interface Visitor {
+        boolean visit(int index);
+    }
+
+    /**
+     * 대소문자 구분 없이 target 이상인 첫 문자열의 위치
+     */
+    private int lowerBound(String target) {
+        // target 이상인 첫 블록 바로 앞 블록부터 찾으면 됨
+        int low = 0;
+        int high = blockOffsets.length - 1;
+        int block = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = blockOffsets[mid];
+            if (compare(data, offset + 2, data[offset + 1], target) < 0) {
+                block = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (block < 0) {
+            return 0;
+        }
+
+        char[] buffer = new char[64];
+        int offset = blockOffsets[block];
+        int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+        for (int i = block * BLOCK_SIZE; i < end; i++) {
+            int shared = data[offset];
+            int suffix = data[offset + 1];
+            if (shared + suffix > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, shared + suffix));
+            }
+            System.arraycopy(data, offset + 2, buffer, shared, suffix);
+            if (compare(buffer, 0, shared + suffix, target) >= 0) {
+                return i;
+            }
+            offset += 2 + suffix;
+        }
+        return end;
+    }
+
+    /**
+     * String.CASE_INSENSITIVE_ORDER와 같은 비교 (문자열을 만들지 않음)
+     */
+    private static int compare(char[] chars, int offset, int length, String target) {
+        int max = Math.min(length, target.length());
+        for (int i = 0; i < max; i++) {
+            char c1 = chars[offset + i];
+            char c2 = target.charAt(i);
+            if (c1 != c2) {
+                c1 = Character.toUpperCase(c1);
+                c2 = Character.toUpperCase(c2);
+                if (c1 != c2) {
+                    c1 = Character.toLowerCase(c1);
+                    c2 = Character.toLowerCase(c2);
+                    if (c1 != c2) {
+                        return c1 - c2;
+                    }
+                }
+            }
+        }
+        return length - target.length();
+    }
+
+    /**
+     * 범위 [from, to)에서 latest가 가장 큰 위치
+     */
+    private int newest(int from, int to) {
+        int best = from;
+        for (int low = from + size, high = to + size; low < high; low >>= 1, high >>= 1) {
+            if ((low & 1) == 1) {
+                best = newer(best, tree[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = newer(best, tree[--high]);
+            }
+        }
+        return best;
+    }
+
+    private int newer(int a, int b) {
+        return latest[b] > latest[a] ? b : a;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.spring.slowquery;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * EXPLAIN 결과 (열 이름과 행을 그대로 보관)
+ */
+@Data
+public class ExplainPlan {
+    private String statementId;     // 매퍼 문장 ID
+    private List<String> columns;   // EXPLAIN 결과 열 이름
+    private List<List<String>> rows;// EXPLAIN 결과 행
+    private boolean fullScan;       // 테이블 전체 스캔(type=ALL)이 포함되어 있으면 true
+    private String error;           // EXPLAIN 실행 실패 시 오류 메시지
+    private Date capturedAt;        // 수집 시각
+}
@@ -0,0 +1,16 @@
+package com.example.spring.slowquery;
+
+import java.util.Date;
+
+import lombok.Data;
+
+/**
+ * 기준 시간을 넘긴 SQL 실행 한 건
+ */
+@Data
+public class SlowQuery {
+    private String statementId;     // 매퍼 문장 ID (예: postMapper.list)
+    private String sql;             // 파라미터 값을 채운 SQL
+    private double elapsedMillis;   // 실행 시간
+    private Date executedAt;        // 실행 완료 시각
+}
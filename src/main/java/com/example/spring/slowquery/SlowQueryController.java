@@ -0,0 +1,31 @@
+package com.example.spring.slowquery;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * 느린 SQL 조회 화면 요청을 처리하는 컨트롤러
+ */
+@Controller
+public class SlowQueryController {
+
+    /**
+     * 느린 SQL 조회 화면
+     *
+     * - 형태별 통계 (최대 실행 시간이 긴 순서, 실행 계획과 전체 스캔 여부 포함)
+     * - 최근 느린 실행 목록 (최신순)
+     *
+     * @param limit 표시할 형태 수 (기본값: 20)
+     * @param model 뷰에 전달할 데이터를 담는 객체
+     * @return 느린 SQL 화면 뷰 이름 ("admin/slow-queries.jsp")
+     */
+    @GetMapping("/admin/slow-queries")
+    public String slowQueriesGet(@RequestParam(defaultValue = "20") int limit, Model model) {
+        SlowQueryLog log = SlowQueryLog.get();
+        model.addAttribute("shapes", log.worst(Math.max(1, limit)));
+        model.addAttribute("recent", log.recent());
+        return "admin/slow-queries";
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.spring.slowquery;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 느린 SQL 기록 저장소
+ *
+ * - 최근 느린 실행과 실행 계획은 크기가 고정된 링 버퍼에 보관 (오래된 것부터 버림, 잠금 없음)
+ * - 형태(문장 ID + SQL)별 누적 통계를 보관하고, 형태가 처음 나타났을 때 한 번만 백그라운드 스레드에서 EXPLAIN 실행
+ *   (요청 스레드는 기다리지 않으며, EXPLAIN 대기열이 가득 차면 해당 형태의 계획 수집은 건너뜀)
+ * - MyBatis 플러그인(SlowQueryInterceptor)과 조회 화면(SlowQueryController)이 함께 사용하므로 하나의 인스턴스를 사용
+ */
+public final class SlowQueryLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final SlowQueryLog INSTANCE = new SlowQueryLog();
+
+    private static final int RECENT_CAPACITY = 200;     // 보관할 최근 느린 실행 수
+    private static final int PLAN_CAPACITY = 64;        // 보관할 실행 계획 수
+    private static final int MAX_SHAPES = 500;          // 통계를 보관할 최대 형태 수
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 5;
+
+    private final AtomicReferenceArray<SlowQuery> recent = new AtomicReferenceArray<>(RECENT_CAPACITY);
+    private final AtomicLong recentCursor = new AtomicLong();
+
+    // 실행 계획을 가진 형태 (덮어쓰이면 해당 형태의 실행 계획도 버려 보관 개수를 PLAN_CAPACITY로 제한)
+    private final AtomicReferenceArray<SlowQueryShape> planned = new AtomicReferenceArray<>(PLAN_CAPACITY);
+    private final AtomicLong planCursor = new AtomicLong();
+
+    private final ConcurrentHashMap<String, SlowQueryShape> shapes = new ConcurrentHashMap<>();
+
+    // EXPLAIN 전용 스레드 1개 (30초 동안 할 일이 없으면 종료되므로 재배포 시 남지 않음)
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(
+        1, 1, 30, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(16),
+        runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-explain");
+            thread.setDaemon(true);
+            return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    private SlowQueryLog() {
+        explainer.allowCoreThreadTimeOut(true);
+    }
+
+    public static SlowQueryLog get() {
+        return INSTANCE;
+    }
+
+    /**
+     * 느린 실행 기록
+     *
+     * @param statementId 매퍼 문장 ID
+     * @param sql 파라미터 자리표시자(?)가 남은 SQL
+     * @param displaySql 파라미터 값을 채운 SQL (화면 표시용)
+     * @param parameters 자리표시자 순서대로의 파라미터 값 (EXPLAIN 실행용)
+     * @param elapsedNanos 실행 시간
+     * @param dataSource EXPLAIN을 실행할 데이터소스, null이면 실행 계획을 수집하지 않음
+     */
+    void record(String statementId, String sql, String displaySql, List<Object> parameters, long elapsedNanos, DataSource dataSource) {
+        SlowQuery query = new SlowQuery();
+        query.setStatementId(statementId);
+        query.setSql(displaySql);
+        query.setElapsedMillis(elapsedNanos / 1e6);
+        query.setExecutedAt(new Date());
+        recent.set((int) (recentCursor.getAndIncrement() % RECENT_CAPACITY), query);
+
+        String key = statementId + "\n" + sql;
+        SlowQueryShape shape = shapes.get(key);
+        if (shape == null && shapes.size() < MAX_SHAPES) {
+            SlowQueryShape created = new SlowQueryShape(statementId, sql);
+            shape = shapes.putIfAbsent(key, created);
+            if (shape == null) {
+                shape = created;
+                if (dataSource != null) {
+                    explainLater(created, parameters, dataSource);
+                }
+            }
+        }
+        if (shape != null) {
+            shape.record(elapsedNanos, displaySql);
+        }
+
+        logger.warn("느린 SQL ({}ms) {} : {}", Math.round(elapsedNanos / 1e6), statementId, displaySql);
+    }
+
+    private void explainLater(SlowQueryShape shape, List<Object> parameters, DataSource dataSource) {
+        try {
+            explainer.execute(() -> {
+                ExplainPlan plan = explain(shape, parameters, dataSource);
+                shape.setPlan(plan);
+                SlowQueryShape evicted = planned.getAndSet((int) (planCursor.getAndIncrement() % PLAN_CAPACITY), shape);
+                if (evicted != null) {
+                    evicted.setPlan(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("EXPLAIN 대기열이 가득 차 실행 계획 수집을 건너뜁니다 : {}", shape.getStatementId());
+        }
+    }
+
+    private static ExplainPlan explain(SlowQueryShape shape, List<Object> parameters, DataSource dataSource) {
+        ExplainPlan plan = new ExplainPlan();
+        plan.setStatementId(shape.getStatementId());
+        plan.setCapturedAt(new Date());
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + shape.getSql())) {
+            statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+            for (int i = 0; i < parameters.size(); i++) {
+                Object value = parameters.get(i);
+                if (value == null) {
+                    statement.setNull(i + 1, Types.VARCHAR);
+                } else {
+                    statement.setObject(i + 1, value);
+                }
+            }
+
+            try (ResultSet rs = statement.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                List<String> columns = new ArrayList<>();
+                int typeColumn = 0;
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    columns.add(meta.getColumnLabel(i));
+                    if ("type".equalsIgnoreCase(meta.getColumnLabel(i))) {
+                        typeColumn = i;
+                    }
+                }
+
+                List<List<String>> rows = new ArrayList<>();
+                while (rs.next()) {
+                    List<String> row = new ArrayList<>(columns.size());
+                    for (int i = 1; i <= columns.size(); i++) {
+                        row.add(rs.getString(i));
+                    }
+                    rows.add(row);
+                    if (typeColumn > 0 && "ALL".equalsIgnoreCase(rs.getString(typeColumn))) {
+                        plan.setFullScan(true);
+                    }
+                }
+
+                plan.setColumns(columns);
+                plan.setRows(rows);
+            }
+        } catch (SQLException e) {
+            logger.error(e.getMessage());
+            plan.setError(e.getMessage());
+        }
+        return plan;
+    }
+
+    /**
+     * 최대 실행 시간이 긴 순서로 형태별 통계 조회
+     * @param limit 최대 개수
+     */
+    public List<SlowQueryShape> worst(int limit) {
+        List<SlowQueryShape> sorted = new ArrayList<>(shapes.values());
+        sorted.sort(Comparator.comparingDouble(SlowQueryShape::getMaxMillis).reversed());
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    /**
+     * @return 최근 느린 실행 (최신순)
+     */
+    public List<SlowQuery> recent() {
+        return snapshot(recent, recentCursor.get());
+    }
+
+    private static <T> List<T> snapshot(AtomicReferenceArray<T> ring, long cursor) {
+        int capacity = ring.length();
+        List<T> items = new ArrayList<>(capacity);
+        for (long i = cursor - 1; i >= 0 && i >= cursor - capacity; i--) {
+            T item = ring.get((int) (i % capacity));
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.spring.slowquery;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 형태(매퍼 문장 ID + 파라미터 자리표시자가 남은 SQL)가 같은 느린 SQL의 누적 통계와 실행 계획
+ * - 동적 SQL은 검색 조건에 따라 형태가 달라지므로 같은 문장 ID도 여러 형태로 나뉨
+ */
+public class SlowQueryShape {
+
+    private final String statementId;
+    private final String sql;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private volatile String lastSql;
+    private volatile ExplainPlan plan;
+
+    SlowQueryShape(String statementId, String sql) {
+        this.statementId = statementId;
+        this.sql = sql;
+    }
+
+    void record(long elapsedNanos, String boundSql) {
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        lastSql = boundSql;
+    }
+
+    void setPlan(ExplainPlan plan) {
+        this.plan = plan;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1e6;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    public double getAverageMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / 1e6 / n;
+    }
+
+    /**
+     * @return 가장 최근에 느렸던 실행의 SQL (파라미터 값 포함)
+     */
+    public String getLastSql() {
+        return lastSql;
+    }
+
+    /**
+     * @return 실행 계획, 아직 수집 전이거나 수집할 수 없으면 null
+     */
+    public ExplainPlan getPlan() {
+        return plan;
+    }
+}
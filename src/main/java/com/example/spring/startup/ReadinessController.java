@@ -0,0 +1,33 @@
+package com.example.spring.startup;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+
+/**
+ * 준비 상태 확인 요청을 처리하는 컨트롤러 (로드 밸런서, 배포 스크립트, docker healthcheck 용)
+ */
+@Controller
+public class ReadinessController {
+
+    @Autowired
+    StartupWarmup startupWarmup;
+
+    /**
+     * 준비 상태 확인
+     * - 시작 워밍업(StartupWarmup)이 끝났으면 200 "ready", 아직이면 503 "warming up"
+     * @param response 상태 코드와 본문을 직접 쓸 응답 객체
+     */
+    @GetMapping("/ready")
+    public void readyGet(HttpServletResponse response) throws IOException {
+        boolean ready = startupWarmup.isReady();
+        response.setStatus(ready ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentType("text/plain; charset=UTF-8");
+        response.getWriter().write(ready ? "ready\n" : "warming up\n");
+    }
+}
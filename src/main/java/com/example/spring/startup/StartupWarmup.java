@@ -0,0 +1,311 @@
+package com.example.spring.startup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.ibatis.mapping.MappedStatement;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+
+import com.example.spring.bbs.BbsService;
+import com.example.spring.bbs.BbsSummary;
+import com.example.spring.libs.PageResult;
+import com.example.spring.metrics.MetricsRegistry;
+import com.example.spring.post.PostService;
+import com.example.spring.post.PostSummary;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 시작 직후 첫 요청 지연을 없애기 위한 워밍업
+ *
+ * DispatcherServlet 컨텍스트가 준비되면 별도 스레드에서 아래 순서로 실행하고, 끝나면 /ready 가 200을 응답
+ * 1) 커넥션 풀 채우기: HikariCP 풀마다 minimumIdle개 커넥션을 미리 연결 (기본은 첫 요청 때 연결)
+ * 2) SQL 준비: postMapper/bbsMapper 의 모든 문장으로 동적 SQL을 한 번씩 만들고,
+ *    목록/단건/버전 조회는 서비스 계층을 거쳐 실제로 한 번씩 실행 (쓰기 문장은 실행하지 않음)
+ * 3) 화면 준비: Tomcat 커넥터가 열리면 자기 자신에게 paths의 GET 요청을 보내 JSP 로딩, 핸들러 매핑, 목록 캐시를 준비
+ *
+ * 단계가 실패해도 로그만 남기고 다음 단계를 계속하며, 마지막에는 항상 준비 완료로 바꿈 (DB 장애 시에도 기동은 되도록)
+ * JVM 시작부터 준비 완료까지의 시간을 로그와 app_startup_seconds 지표로 남겨 기동 시간 변화를 확인할 수 있음
+ */
+@Component
+public class StartupWarmup implements ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String[] WARM_NAMESPACES = {"postMapper.", "bbsMapper."};
+
+    @Autowired(required = false)
+    List<HikariDataSource> pools = Collections.emptyList();
+
+    @Autowired
+    SqlSessionTemplate sqlSessionTemplate;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    BbsService bbsService;
+
+    @Value("${startup.warmup.enabled:true}")
+    private boolean enabled;            // false면 워밍업 없이 바로 준비 완료
+
+    @Value("${startup.warmup.baseUrl:http://127.0.0.1:8080}")
+    private String baseUrl;             // 화면 준비 요청을 보낼 주소 (이 서버의 Tomcat 커넥터)
+
+    @Value("${startup.warmup.paths:/posts,/posts?sort=views,/posts/create,/bbses,/bbses/create}")
+    private String paths;               // 화면 준비 요청 경로 (쉼표로 구분, 조회수가 오르는 상세 화면은 제외)
+
+    @Value("${startup.warmup.connectorWaitMillis:60000}")
+    private long connectorWaitMillis;   // Tomcat 커넥터가 열리기를 기다리는 최대 시간
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean ready;
+    private volatile Thread thread;
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        long contextMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        MetricsRegistry registry = MetricsRegistry.get();
+        registry.gauge("app_startup_seconds", "JVM 시작부터 단계 완료까지의 시간", MetricsRegistry.label("phase", "context"), () -> contextMillis / 1000.0);
+        registry.gauge("app_ready", "워밍업을 마치고 요청을 받을 준비가 되었는지 여부 (1: 준비 완료)", "", () -> ready ? 1 : 0);
+
+        if (!enabled) {
+            markReady(contextMillis, 0);
+            return;
+        }
+
+        thread = new Thread(() -> run(contextMillis), "startup-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void destroy() {
+        Thread running = thread;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    /**
+     * 워밍업을 마치고 요청을 받을 준비가 되었는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void run(long contextMillis) {
+        long start = System.currentTimeMillis();
+        try {
+            primePools();
+            warmStatements();
+            warmPaths();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            logger.error("시작 워밍업 오류 : {}", e.getMessage(), e);
+        }
+        markReady(contextMillis, System.currentTimeMillis() - start);
+    }
+
+    private void markReady(long contextMillis, long warmupMillis) {
+        long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        MetricsRegistry.get().gauge("app_startup_seconds", "JVM 시작부터 단계 완료까지의 시간", MetricsRegistry.label("phase", "ready"), () -> readyMillis / 1000.0);
+        ready = true;
+        logger.info("시작 준비 완료 : JVM 시작 후 {}ms (컨텍스트 {}ms, 워밍업 {}ms)", readyMillis, contextMillis, warmupMillis);
+    }
+
+    /**
+     * 풀마다 minimumIdle개 커넥션을 동시에 빌렸다가 반납하여 풀을 채움
+     */
+    private void primePools() {
+        for (HikariDataSource pool : pools) {
+            long start = System.currentTimeMillis();
+            int count = Math.max(1, Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize()));
+            List<Connection> held = new ArrayList<>(count);
+            try {
+                for (int i = 0; i < count; i++) {
+                    held.add(pool.getConnection());
+                }
+            } catch (SQLException e) {
+                logger.warn("커넥션 풀 준비 실패 ({}) : {}", pool.getPoolName(), e.getMessage());
+            } finally {
+                for (Connection connection : held) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        // 반납 실패는 풀이 처리함
+                    }
+                }
+            }
+            logger.info("커넥션 풀 준비 ({}) : 커넥션 {}개, {}ms", pool.getPoolName(), held.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 매퍼 문장의 동적 SQL 생성과 주요 조회 실행
+     */
+    private void warmStatements() {
+        long start = System.currentTimeMillis();
+
+        // 모든 문장의 동적 SQL(<if>, <choose>, <foreach>)을 한 번씩 생성 (DB 실행 없음)
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", 0);
+        params.put("ids", Collections.singletonList(0));
+        params.put("deltas", Collections.singletonMap(0, 0L));
+        params.put("offset", 0);
+        params.put("listCountPerPage", 1);
+        params.put("limit", 1);
+        params.put("afterId", 0);
+        params.put("minLength", 1);
+        params.put("cap", 1);
+        params.put("searchType", "all");
+        params.put("searchKeyword", "warmup");
+
+        Set<String> seen = new HashSet<>();
+        int built = 0;
+        for (Object value : sqlSessionTemplate.getConfiguration().getMappedStatements()) {
+            // 이름 충돌 표시용 값(Ambiguity)이 섞여 있으므로 MappedStatement만 사용
+            if (!(value instanceof MappedStatement)) {
+                continue;
+            }
+            MappedStatement statement = (MappedStatement) value;
+            if (!isWarmNamespace(statement.getId()) || !seen.add(statement.getId())) {
+                continue;
+            }
+            try {
+                statement.getBoundSql(params);
+                built++;
+            } catch (RuntimeException e) {
+                logger.warn("SQL 준비 실패 ({}) : {}", statement.getId(), e.getMessage());
+            }
+        }
+
+        // 목록/단건/버전 조회는 서비스 계층(복제본 라우팅, 캐시 포함)을 거쳐 실제로 실행
+        int executed = 0;
+        try {
+            PageResult<PostSummary> posts = postService.listPage(1, 10, 5, null, null);
+            postService.listPage(1, 10, 5, null, null, PostService.SORT_VIEWS);
+            postService.cursorPage(null, null, 10, null, null);
+            postService.listVersion();
+            executed += 4;
+            if (posts.getItems() != null && !posts.getItems().isEmpty()) {
+                int id = posts.getItems().get(0).getId();
+                postService.version(id);
+                postService.read(id);
+                executed += 2;
+            }
+
+            PageResult<BbsSummary> bbses = bbsService.listPage(null, null, 10);
+            bbsService.listVersion();
+            executed += 2;
+            if (bbses.getItems() != null && !bbses.getItems().isEmpty()) {
+                int id = bbses.getItems().get(0).getId();
+                bbsService.version(id);
+                bbsService.read(id);
+                executed += 2;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("조회 준비 실패 : {}", e.getMessage());
+        }
+
+        logger.info("SQL 준비 : 동적 SQL {}개, 조회 {}개, {}ms", built, executed, System.currentTimeMillis() - start);
+    }
+
+    private static boolean isWarmNamespace(String id) {
+        for (String namespace : WARM_NAMESPACES) {
+            if (id.startsWith(namespace)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tomcat 커넥터가 열릴 때까지 기다린 뒤 화면 경로마다 GET 요청 한 번
+     */
+    private void warmPaths() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        long deadline = start + connectorWaitMillis;
+        int warmed = 0;
+
+        for (String path : paths.split(",")) {
+            path = path.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+
+            while (true) {
+                try {
+                    int status = get(baseUrl + path);
+                    if (status >= 500) {
+                        logger.warn("화면 준비 요청 실패 ({}) : HTTP {}", path, status);
+                    } else {
+                        warmed++;
+                    }
+                    break;
+                } catch (ConnectException e) {
+                    // 커넥터가 아직 열리지 않음 (컨텍스트 초기화가 끝난 뒤에 열림)
+                    if (System.currentTimeMillis() > deadline) {
+                        logger.warn("화면 준비 생략 : {}ms 동안 {}에 연결하지 못했습니다.", connectorWaitMillis, baseUrl);
+                        return;
+                    }
+                    Thread.sleep(200);
+                } catch (IOException e) {
+                    logger.warn("화면 준비 요청 실패 ({}) : {}", path, e.getMessage());
+                    break;
+                }
+            }
+        }
+
+        logger.info("화면 준비 : 요청 {}개, {}ms", warmed, System.currentTimeMillis() - start);
+    }
+
+    private static int get(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(1000);
+        connection.setReadTimeout(30000);
+        connection.setInstanceFollowRedirects(false);
+        try {
+            int status = connection.getResponseCode();
+            InputStream body = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            if (body != null) {
+                try (InputStream in = body) {
+                    byte[] buffer = new byte[8192];
+                    while (in.read(buffer) >= 0) {
+                        // 응답 본문은 버림 (렌더링까지 끝나도록 끝까지 읽음)
+                    }
+                }
+            }
+            return status;
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
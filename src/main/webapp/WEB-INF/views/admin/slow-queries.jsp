@@ -0,0 +1,95 @@
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8"%> <%@ taglib prefix="c"
+uri="http://java.sun.com/jsp/jstl/core" %> <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+
+<!DOCTYPE html>
+<html lang="ko">
+  <%@ include file="../base/head.jsp" %>
+  <body>
+    <div class="container">
+      <%-- 네비게이션 --%> <%@ include file="../base/navbar.jsp" %> <%--// 네비게이션 --%> <%-- 페이지 내용 --%>
+      <div class="row">
+        <div class="col-12">
+          <h1>느린 SQL</h1>
+
+          <%-- 형태별 통계 (최대 실행 시간순) --%>
+          <h2 class="h4 mt-4">형태별 통계</h2>
+          <c:if test="${empty shapes}">
+            <p class="text-muted">기록된 느린 SQL이 없습니다.</p>
+          </c:if>
+          <c:forEach items="${shapes}" var="shape">
+            <div class="card mb-3">
+              <div class="card-header">
+                <strong><c:out value="${shape.statementId}" /></strong>
+                <span class="ms-2">횟수 ${shape.count}</span>
+                <span class="ms-2">최대 <fmt:formatNumber value="${shape.maxMillis}" pattern="#,##0.0" />ms</span>
+                <span class="ms-2">평균 <fmt:formatNumber value="${shape.averageMillis}" pattern="#,##0.0" />ms</span>
+                <c:if test="${shape.plan.fullScan}">
+                  <span class="badge bg-danger ms-2">전체 스캔</span>
+                </c:if>
+              </div>
+              <div class="card-body">
+                <pre class="mb-2"><c:out value="${shape.lastSql}" /></pre>
+                <c:choose>
+                  <c:when test="${shape.plan == null}">
+                    <p class="text-muted mb-0">실행 계획 없음</p>
+                  </c:when>
+                  <c:when test="${shape.plan.error != null}">
+                    <p class="text-danger mb-0">EXPLAIN 실패 : <c:out value="${shape.plan.error}" /></p>
+                  </c:when>
+                  <c:otherwise>
+                    <table class="table table-sm table-bordered mb-0">
+                      <thead>
+                        <tr>
+                          <c:forEach items="${shape.plan.columns}" var="column">
+                            <th><c:out value="${column}" /></th>
+                          </c:forEach>
+                        </tr>
+                      </thead>
+                      <tbody>
+                        <c:forEach items="${shape.plan.rows}" var="row">
+                          <tr>
+                            <c:forEach items="${row}" var="value">
+                              <td><c:out value="${value}" /></td>
+                            </c:forEach>
+                          </tr>
+                        </c:forEach>
+                      </tbody>
+                    </table>
+                  </c:otherwise>
+                </c:choose>
+              </div>
+            </div>
+          </c:forEach>
+          <%--// 형태별 통계 --%>
+
+          <%-- 최근 느린 실행 --%>
+          <h2 class="h4 mt-4">최근 느린 실행</h2>
+          <table class="table table-striped table-bordered">
+            <thead>
+              <tr>
+                <th>시각</th>
+                <th>문장</th>
+                <th>실행 시간</th>
+                <th>SQL</th>
+              </tr>
+            </thead>
+            <tbody>
+              <c:forEach items="${recent}" var="query">
+                <tr>
+                  <td><fmt:formatDate value="${query.executedAt}" pattern="yyyy-MM-dd HH:mm:ss" /></td>
+                  <td><c:out value="${query.statementId}" /></td>
+                  <td><fmt:formatNumber value="${query.elapsedMillis}" pattern="#,##0.0" />ms</td>
+                  <td><code><c:out value="${query.sql}" /></code></td>
+                </tr>
+              </c:forEach>
+            </tbody>
+          </table>
+          <%--// 최근 느린 실행 --%>
+        </div>
+      </div>
+      <%--// 페이지 내용 --%>
+    </div>
+
+    <%-- 자바스크립트 --%> <%@ include file="../base/script.jsp" %> <%--// 자바스크립트 --%>
+  </body>
+</html>
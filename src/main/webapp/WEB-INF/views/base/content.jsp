@@ -1,4 +1,4 @@
-<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"% language="java" %>
+<%@ page session="false" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"% language="java" %>
 <!DOCTYPE html>
 <html lang="ko">
   <%@ include file="head.jsp" %>
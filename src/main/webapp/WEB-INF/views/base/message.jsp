@@ -1,4 +1,4 @@
-<%@ page language="java" contentType="text/html; charset=UTF-8"%> <%@ taglib prefix="c"
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8"%> <%@ taglib prefix="c"
 uri="http://java.sun.com/jsp/jstl/core" %>
 
 <c:if test="${not empty successMessage}">
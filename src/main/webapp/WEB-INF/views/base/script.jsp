@@ -1,4 +1,4 @@
-<%@ page language="java" contentType="text/html; charset=UTF-8"%> <%-- jQuery --%>
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8"%> <%-- jQuery --%>
 <script src="https://cdn.jsdelivr.net/npm/jquery@3.7.1/dist/jquery.min.js"></script>
 <%-- jQuery Validation --%>
 <script src="https://cdn.jsdelivr.net/npm/jquery-validation@1.19.5/dist/jquery.validate.min.js"></script>
@@ -0,0 +1,54 @@
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8" buffer="8kb" autoFlush="true"%> <%@ taglib prefix="c"
+uri="http://java.sun.com/jsp/jstl/core" %> <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+
+<!DOCTYPE html>
+<html lang="ko">
+  <%@ include file="../base/head.jsp" %>
+  <body>
+    <div class="container">
+      <%-- 네비게이션 --%> <%@ include file="../base/navbar.jsp" %> <%--// 네비게이션 --%> <%-- 페이지 제목 --%> <%@
+      include file="../base/title.jsp" %> <%--// 페이지 제목 --%> <%-- 메시지 --%> <%@ include
+      file="../base/message.jsp" %> <%--// 메시지 --%> <%-- 페이지 내용 --%>
+      <div class="row">
+        <div class="col-12">
+          <%-- 게시글 등록 버튼 --%>
+          <div class="mb-3">
+            <a href="/bbses/create" class="btn btn-primary">등록</a>
+            <a href="/bbses" class="btn btn-outline-secondary">목록</a>
+          </div>
+          <%--// 게시글 등록 버튼 --%> <%-- 게시글 전체 목록 --%>
+          <table class="table table-striped table-hover table-bordered">
+            <thead>
+              <tr>
+                <th>번호</th>
+                <th>제목</th>
+                <th>작성자</th>
+                <th>생성일시</th>
+                <th>수정일시</th>
+              </tr>
+            </thead>
+            <tbody>
+              <%--
+                  bbses는 DB 커서의 Iterator이므로 한 건씩 읽는 즉시 출력됨
+                  - 페이지 버퍼(8kb)가 찰 때마다 클라이언트로 전송 (chunked), 전체 목록을 메모리에 모으지 않음
+              --%>
+              <c:forEach items="${bbses}" var="bbs">
+                <tr>
+                  <td>${bbs.id}</td>
+                  <td><a href="/bbses/${bbs.id}/" style="text-decoration: none" title="<c:out value="${bbs.excerpt}" />">${bbs.title}</a></td>
+                  <td>${bbs.username}</td>
+                  <td><fmt:formatDate value="${bbs.createdAt}" pattern="yyyy-MM-dd HH:mm" /></td>
+                  <td><fmt:formatDate value="${bbs.updatedAt}" pattern="yyyy-MM-dd HH:mm" /></td>
+                </tr>
+              </c:forEach>
+            </tbody>
+          </table>
+          <%--// 게시글 전체 목록 --%>
+        </div>
+      </div>
+      <%--// 페이지 내용 --%>
+    </div>
+
+    <%-- 자바스크립트 --%> <%@ include file="../base/script.jsp" %> <%--// 자바스크립트 --%>
+  </body>
+</html>
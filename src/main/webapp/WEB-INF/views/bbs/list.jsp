@@ -1,4 +1,4 @@
-<%@ page language="java" contentType="text/html; charset=UTF-8"%> <%@ taglib prefix="c"
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8"%> <%@ taglib prefix="c"
 uri="http://java.sun.com/jsp/jstl/core" %> <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
 
 <!DOCTYPE html>
@@ -14,6 +14,7 @@ uri="http://java.sun.com/jsp/jstl/core" %> <%@ taglib prefix="fmt" uri="http://j
           <%-- 게시글 등록 버튼 --%>
           <div class="mb-3">
             <a href="/bbses/create" class="btn btn-primary">등록</a>
+            <a href="/bbses/all" class="btn btn-outline-secondary">전체 보기</a>
           </div>
           <%--// 게시글 등록 버튼 --%> <%-- 게시글 목록 --%>
           <table class="table table-striped table-hover table-bordered">
@@ -30,7 +31,7 @@ uri="http://java.sun.com/jsp/jstl/core" %> <%@ taglib prefix="fmt" uri="http://j
               <c:forEach items="${bbses}" var="bbs">
                 <tr>
                   <td>${bbs.id}</td>
-                  <td><a href="/bbses/${bbs.id}/" style="text-decoration: none">${bbs.title}</a></td>
+                  <td><a href="/bbses/${bbs.id}/" style="text-decoration: none" title="<c:out value="${bbs.excerpt}" />">${bbs.title}</a></td>
                   <td>${bbs.username}</td>
                   <td><fmt:formatDate value="${bbs.createdAt}" pattern="yyyy-MM-dd HH:mm" /></td>
                   <td><fmt:formatDate value="${bbs.updatedAt}" pattern="yyyy-MM-dd HH:mm" /></td>
@@ -39,6 +40,29 @@ uri="http://java.sun.com/jsp/jstl/core" %> <%@ taglib prefix="fmt" uri="http://j
             </tbody>
           </table>
           <%--// 게시글 목록 --%>
+
+          <%-- 페이지네이션 (게시글 ID 커서 방식) --%>
+          <nav aria-label="Page navigation">
+            <ul class="pagination justify-content-center">
+              <li class="page-item">
+                <a class="page-link" href="/bbses">처음</a>
+              </li>
+              <c:if test="${pagination.prevCursor != null}">
+                <li class="page-item">
+                  <a class="page-link" href="/bbses?before=${pagination.prevCursor}">이전</a>
+                </li>
+              </c:if>
+              <c:if test="${pagination.nextCursor != null}">
+                <li class="page-item">
+                  <a class="page-link" href="/bbses?after=${pagination.nextCursor}">다음</a>
+                </li>
+                <li class="page-item">
+                  <a class="page-link" href="/bbses?before=0">마지막</a>
+                </li>
+              </c:if>
+            </ul>
+          </nav>
+          <%--// 페이지네이션 --%>
         </div>
       </div>
       <%--// 페이지 내용 --%>
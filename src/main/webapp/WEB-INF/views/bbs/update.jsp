@@ -1,4 +1,4 @@
-<%@ page language="java" contentType="text/html; charset=UTF-8"%>
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8"%>
 
 <!DOCTYPE html>
 <html lang="ko">
@@ -1,4 +1,4 @@
-<!DOCTYPE html>
+<%@ page session="false" %><!DOCTYPE html>
 <html>
   <head>
     <meta charset="UTF-8" />
@@ -1,6 +1,7 @@
-<%@ page language="java" contentType="text/html; charset=UTF-8"%>
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8"%>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %>
 
 <!DOCTYPE html>
 <html lang="ko">
@@ -15,8 +16,11 @@
         <%@ include file="../base/title.jsp" %>
         <%--// 페이지 제목 --%>
 
-        <%-- 메시지 --%>
-        <%@ include file="../base/message.jsp" %>
+        <%-- 메시지 (HTML 캐시용 렌더링이면 표시자만 출력하고 메시지는 요청마다 PostListPageCache가 채움) --%>
+        <c:choose>
+            <c:when test="${postListFragment}"><!--#post-list-message--></c:when>
+            <c:otherwise><%@ include file="../base/message.jsp" %></c:otherwise>
+        </c:choose>
         <%--// 메시지 --%>
 
         <%-- 페이지 내용 --%>
@@ -33,7 +37,9 @@
                                 <option value="username" ${searchType == 'username' ? 'selected' : ''}>작성자</option>
                                 <option value="all" <c:if test="${searchType == null}">selected</c:if>>전체</option>
                             </select>
-                            <input type="text" name="searchKeyword" class="form-control" value="${searchKeyword}" placeholder="검색어를 입력하세요" style="width: 300px;">
+                            <c:if test="${sort != null}"><input type="hidden" name="sort" value="${sort}"></c:if>
+                            <input type="text" name="searchKeyword" class="form-control" value="${searchKeyword}" placeholder="검색어를 입력하세요" style="width: 300px;" list="search-suggestions" autocomplete="off">
+                            <datalist id="search-suggestions"></datalist>
                             <button type="submit" class="btn btn-primary">검색</button>
                             <c:if test="${searchKeyword != null}">
                                 <a href="/posts" class="btn btn-danger">취소</a>
@@ -42,9 +48,28 @@
                     </form>
                     <%--// 검색 --%>
 
-                    <%-- 등록 버튼 --%>
-                    <a href="/posts/create/" class="btn btn-primary">등록</a>
-                    <%--// 등록 버튼 --%>
+                    <%-- 정렬, 등록 버튼 --%>
+                    <div>
+                        <c:url var="latestUrl" value="/posts">
+                            <c:if test="${searchKeyword != null}">
+                                <c:param name="searchType" value="${searchType}" />
+                                <c:param name="searchKeyword" value="${searchKeyword}" />
+                            </c:if>
+                        </c:url>
+                        <c:url var="viewsUrl" value="/posts">
+                            <c:param name="sort" value="views" />
+                            <c:if test="${searchKeyword != null}">
+                                <c:param name="searchType" value="${searchType}" />
+                                <c:param name="searchKeyword" value="${searchKeyword}" />
+                            </c:if>
+                        </c:url>
+                        <div class="btn-group me-2">
+                            <a href="${latestUrl}" class="btn btn-outline-secondary <c:if test='${sort == null}'>active</c:if>">최신순</a>
+                            <a href="${viewsUrl}" class="btn btn-outline-secondary <c:if test='${sort == "views"}'>active</c:if>">조회순</a>
+                        </div>
+                        <a href="/posts/create/" class="btn btn-primary">등록</a>
+                    </div>
+                    <%--// 정렬, 등록 버튼 --%>
                 </div>
                 <%--// 검색, 등록 버튼 --%>
 
@@ -55,6 +80,7 @@
                             <th>번호</th>
                             <th>제목</th>
                             <th>작성자</th>
+                            <th>조회수</th>
                             <th>생성일시</th>
                             <th>수정일시</th>
                         </tr>
@@ -63,8 +89,9 @@
                         <c:forEach items="${posts}" var="post">
                             <tr>
                                 <td>${post.id}</td>
-                                <td><a href="/posts/${post.id}/">${post.title}</a></td>
+                                <td><a href="/posts/${post.id}/" title="${fn:escapeXml(post.excerpt)}">${post.title}</a></td>
                                 <td>${post.username}</td>
+                                <td>${post.views}</td>
                                 <td><fmt:formatDate value="${post.createdAt}" pattern="yyyy-MM-dd HH:mm"/></td>
                                 <td><fmt:formatDate value="${post.updatedAt}" pattern="yyyy-MM-dd HH:mm"/></td>
                             </tr>
@@ -74,37 +101,95 @@
                 <%--// 게시글 목록 --%>
 
                 <%-- 페이지네이션 --%>
+                <%-- 검색 조건과 정렬 기준을 유지한 목록 URL (페이지/커서 파라미터는 뒤에 덧붙임) --%>
+                <c:url var="listUrl" value="/posts">
+                    <c:if test="${sort != null}">
+                        <c:param name="sort" value="${sort}" />
+                    </c:if>
+                    <c:if test="${searchKeyword != null}">
+                        <c:param name="searchType" value="${searchType}" />
+                        <c:param name="searchKeyword" value="${searchKeyword}" />
+                    </c:if>
+                </c:url>
+                <c:set var="sep" value="${fn:contains(listUrl, '?') ? '&' : '?'}" />
                 <nav aria-label="Page navigation">
                     <ul class="pagination justify-content-center">
-                        <%-- 이전 페이지 --%>
-                        <c:if test="${pagination.currentPage > 1}">
-                            <li class="page-item">
-                                <a class="page-link" href="/posts?page=1">처음</a>
-                            </li>
-                            <li class="page-item">
-                                <a class="page-link" href="/posts?page=${pagination.currentPage - 1}">이전</a>
-                            </li>
-                        </c:if>
-                        <%--// 이전 페이지 --%>
+                        <c:choose>
+                            <%-- 커서 방식 (깊은 페이지) --%>
+                            <c:when test="${pagination.cursorMode}">
+                                <li class="page-item">
+                                    <a class="page-link" href="${listUrl}">처음</a>
+                                </li>
+                                <c:if test="${pagination.prevCursor != null}">
+                                    <li class="page-item">
+                                        <a class="page-link" href="${listUrl}${sep}before=${pagination.prevCursor}">이전</a>
+                                    </li>
+                                </c:if>
+                                <c:if test="${pagination.nextCursor != null}">
+                                    <li class="page-item">
+                                        <a class="page-link" href="${listUrl}${sep}after=${pagination.nextCursor}">다음</a>
+                                    </li>
+                                    <li class="page-item">
+                                        <a class="page-link" href="${listUrl}${sep}before=0">마지막</a>
+                                    </li>
+                                </c:if>
+                            </c:when>
+                            <%--// 커서 방식 --%>
 
-                        <%-- 페이지 번호 --%>
-                        <c:forEach begin="${pagination.startPage}" end="${pagination.endPage}" var="pageNumber">
-                            <li class="page-item">
-                                <a class="page-link <c:if test='${pageNumber == pagination.currentPage}'>active</c:if>" href="/posts?page=${pageNumber}">${pageNumber}</a>
-                            </li>
-                        </c:forEach>
-                        <%--// 페이지 번호 --%>
+                            <%-- 페이지 번호 방식 (앞쪽 블록) --%>
+                            <c:otherwise>
+                                <%-- 이전 페이지 --%>
+                                <c:if test="${pagination.currentPage > 1}">
+                                    <li class="page-item">
+                                        <a class="page-link" href="${listUrl}${sep}page=1">처음</a>
+                                    </li>
+                                    <li class="page-item">
+                                        <a class="page-link" href="${listUrl}${sep}page=${pagination.currentPage - 1}">이전</a>
+                                    </li>
+                                </c:if>
+                                <%--// 이전 페이지 --%>
+
+                                <%-- 페이지 번호 --%>
+                                <c:forEach begin="${pagination.startPage}" end="${pagination.endPage}" var="pageNumber">
+                                    <c:if test="${pageNumber <= pagination.maxOffsetPage}">
+                                        <li class="page-item">
+                                            <a class="page-link <c:if test='${pageNumber == pagination.currentPage}'>active</c:if>" href="${listUrl}${sep}page=${pageNumber}">${pageNumber}</a>
+                                        </li>
+                                    </c:if>
+                                </c:forEach>
+                                <%--// 페이지 번호 --%>
 
-                        <%-- 다음 페이지 --%>
-                        <c:if test="${pagination.currentPage < pagination.totalPages}">
-                            <li class="page-item">
-                                <a class="page-link" href="/posts?page=${pagination.currentPage + 1}">다음</a>
-                            </li>
-                            <li class="page-item">
-                                <a class="page-link" href="/posts?page=${pagination.totalPages}">마지막</a>
-                            </li>
-                        </c:if>
-                        <%--// 다음 페이지 --%>
+                                <%-- 다음 페이지 (페이지 번호 범위를 넘어가면 커서 방식으로 이동) --%>
+                                <%-- 조회순은 커서 방식이 없으므로 페이지 번호로 이동할 수 있는 범위까지만 표시 --%>
+                                <c:if test="${pagination.currentPage < pagination.totalPages and (sort == null or pagination.currentPage < pagination.maxOffsetPage)}">
+                                    <li class="page-item">
+                                        <c:choose>
+                                            <c:when test="${pagination.currentPage >= pagination.maxOffsetPage}">
+                                                <a class="page-link" href="${listUrl}${sep}after=${pagination.nextCursor}">다음</a>
+                                            </c:when>
+                                            <c:otherwise>
+                                                <a class="page-link" href="${listUrl}${sep}page=${pagination.currentPage + 1}">다음</a>
+                                            </c:otherwise>
+                                        </c:choose>
+                                    </li>
+                                    <li class="page-item">
+                                        <c:choose>
+                                            <c:when test="${sort != null and (pagination.approximate or pagination.totalPages > pagination.maxOffsetPage)}">
+                                                <a class="page-link" href="${listUrl}${sep}page=${pagination.totalPages < pagination.maxOffsetPage ? pagination.totalPages : pagination.maxOffsetPage}">마지막</a>
+                                            </c:when>
+                                            <c:when test="${pagination.approximate or pagination.totalPages > pagination.maxOffsetPage}">
+                                                <a class="page-link" href="${listUrl}${sep}before=0">마지막</a>
+                                            </c:when>
+                                            <c:otherwise>
+                                                <a class="page-link" href="${listUrl}${sep}page=${pagination.totalPages}">마지막</a>
+                                            </c:otherwise>
+                                        </c:choose>
+                                    </li>
+                                </c:if>
+                                <%--// 다음 페이지 --%>
+                            </c:otherwise>
+                            <%--// 페이지 번호 방식 --%>
+                        </c:choose>
                     </ul>
                 </nav>
                 <%--// 페이지네이션 --%>
@@ -116,6 +201,49 @@
 
     <%-- 자바스크립트 --%>
     <%@ include file="../base/script.jsp" %>
+    <script>
+      $(document).ready(function () {
+        // 제목/작성자 검색어 자동완성 (입력이 멈추고 150ms 뒤에 한 번만 요청)
+        var $type = $("select[name=searchType]");
+        var $keyword = $("input[name=searchKeyword]");
+        var $suggestions = $("#search-suggestions");
+        var timer = null;
+        var lastQuery = null;
+
+        $keyword.on("input", function () {
+          clearTimeout(timer);
+          var type = $type.val();
+          var q = $keyword.val();
+          if ((type !== "title" && type !== "username") || $.trim(q) === "") {
+            $suggestions.empty();
+            lastQuery = null;
+            return;
+          }
+
+          timer = setTimeout(function () {
+            var query = type + ":" + q;
+            if (query === lastQuery) {
+              return;
+            }
+            lastQuery = query;
+            $.getJSON("/posts/suggest", { type: type, q: q }, function (data) {
+              if (query !== lastQuery) {
+                return; // 더 최근 입력의 응답이 이미 요청됨
+              }
+              $suggestions.empty();
+              $.each(data.suggestions, function (i, suggestion) {
+                $("<option>").val(suggestion.text).appendTo($suggestions);
+              });
+            });
+          }, 150);
+        });
+
+        $type.on("change", function () {
+          $suggestions.empty();
+          lastQuery = null;
+        });
+      });
+    </script>
     <%--// 자바스크립트 --%>
 </body>
 </html>
@@ -1,4 +1,4 @@
-<%@ page language="java" contentType="text/html; charset=UTF-8"%> <%@ taglib prefix="c"
+<%@ page session="false" language="java" contentType="text/html; charset=UTF-8"%> <%@ taglib prefix="c"
 uri="http://java.sun.com/jsp/jstl/core" %> <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %> <%@ taglib
 prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %> <% pageContext.setAttribute("newLine", "\n"); %>
 
@@ -21,7 +21,7 @@ prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %> <% pageContext.setAt
               <div class="mb-3 text-muted">
                 글쓴이: ${post.username} | 등록일시:
                 <fmt:formatDate value="${post.createdAt}" pattern="yyyy-MM-dd HH:mm" /> | 수정일시:
-                <fmt:formatDate value="${post.updatedAt}" pattern="yyyy-MM-dd HH:mm" />
+                <fmt:formatDate value="${post.updatedAt}" pattern="yyyy-MM-dd HH:mm" /> | 조회수: ${views}
               </div>
               <div class="mb-3">${post.content}</div>
             </div>
@@ -0,0 +1,155 @@
+package com.example.spring.flash;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+import java.util.Base64;
+import java.util.Collections;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+/**
+ * CookieFlashMapManager 테스트
+ * - 글 등록(POST) → 리다이렉트 → 목록(GET) 흐름에서 플래시 메시지가 쿠키로만 전달되고 세션이 만들어지지 않는지 확인
+ * - 변조된 쿠키의 메시지는 표시되지 않고 쿠키가 바로 삭제되는지 확인
+ */
+public class CookieFlashMapManagerTest {
+
+    private static final String COOKIE_NAME = "FLASH";   // flash.cookie.name 기본값
+    private static final String MESSAGE = "게시글이 등록되었습니다.";
+
+    private AnnotationConfigWebApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Before
+    public void setUp() {
+        // standaloneSetup은 flashMapManager 빈을 SessionFlashMapManager로 덮어쓰므로 DispatcherServlet이 빈 이름으로 찾도록 구성
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(
+            new MapPropertySource("test", Collections.singletonMap("flash.cookie.secret", "test-secret")));
+        context.register(WebConfig.class);
+        context.refresh();
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    @Test
+    public void createRedirectShowsMessageWithoutSession() throws Exception {
+        Cookie cookie = create();
+
+        MvcResult list = mockMvc.perform(get("/post").cookie(cookie))
+            .andExpect(model().attribute("successMessage", MESSAGE))
+            .andReturn();
+        assertNull(list.getRequest().getSession(false));
+
+        // 꺼낸 메시지는 쿠키에서 지워져 새로고침하면 다시 표시되지 않음
+        Cookie cleared = list.getResponse().getCookie(COOKIE_NAME);
+        assertNotNull(cleared);
+        assertTrue(cleared.getValue().isEmpty());
+        MvcResult reload = mockMvc.perform(get("/post").cookie(cleared))
+            .andExpect(model().attributeDoesNotExist("successMessage"))
+            .andReturn();
+        assertNull(reload.getRequest().getSession(false));
+    }
+
+    @Test
+    public void tamperedCookieIsIgnoredAndCleared() throws Exception {
+        Cookie cookie = create();
+
+        // 서명은 그대로 두고 내용의 메시지 코드(마지막 바이트)를 다른 메시지로 바꿈
+        String value = cookie.getValue();
+        int dot = value.indexOf('.');
+        byte[] payload = Base64.getUrlDecoder().decode(value.substring(0, dot));
+        payload[payload.length - 1]++;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(payload) + value.substring(dot);
+
+        MvcResult list = mockMvc.perform(get("/post").cookie(new Cookie(COOKIE_NAME, tampered)))
+            .andExpect(model().attributeDoesNotExist("successMessage"))
+            .andReturn();
+        assertNull(list.getRequest().getSession(false));
+
+        // 만료될 때까지 요청마다 다시 확인하지 않도록 같은 응답에서 삭제
+        Cookie cleared = list.getResponse().getCookie(COOKIE_NAME);
+        assertNotNull(cleared);
+        assertTrue(cleared.getValue().isEmpty());
+        assertEquals(0, cleared.getMaxAge());
+    }
+
+    /**
+     * 글을 등록하고 응답의 플래시 쿠키를 반환
+     */
+    private Cookie create() throws Exception {
+        MvcResult create = mockMvc.perform(post("/post/create"))
+            .andExpect(redirectedUrl("/post"))
+            .andReturn();
+        assertNull(create.getRequest().getSession(false));
+
+        Cookie cookie = create.getResponse().getCookie(COOKIE_NAME);
+        assertNotNull(cookie);
+        assertTrue(cookie.isHttpOnly());
+        assertTrue(cookie.getMaxAge() > 0);
+        return cookie;
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        public CookieFlashMapManager flashMapManager() {
+            return new CookieFlashMapManager();
+        }
+
+        @Bean
+        public PostFlowController postFlowController() {
+            return new PostFlowController();
+        }
+    }
+
+    /**
+     * PostController와 같은 방식으로 등록 후 목록으로 리다이렉트하는 컨트롤러
+     */
+    @Controller
+    static class PostFlowController {
+
+        @PostMapping("/post/create")
+        public String create(RedirectAttributes redirectAttributes) {
+            redirectAttributes.addFlashAttribute("successMessage", MESSAGE);
+            return "redirect:/post";
+        }
+
+        @GetMapping("/post")
+        public String list() {
+            return "post/list";
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.spring.post;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.spring.db.ReplicaHealthCheck;
+import com.example.spring.db.ReplicaRouting;
+
+/**
+ * PostReadLoader 요청 병합(single-flight) 테스트
+ * - 캐시 시간을 0으로 두어 캐시가 아닌 진행 중인 조회 공유만으로 DB 호출이 줄어드는지 확인
+ */
+public class PostReadLoaderTest {
+
+    private static final int THREADS = 16;
+
+    private BlockingPostDao postDao;
+    private PostReadLoader loader;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        postDao = new BlockingPostDao();
+        loader = new PostReadLoader();
+        loader.postDao = postDao;
+        loader.replicaHealthCheck = new ReplicaHealthCheck();
+        ReflectionTestUtils.setField(loader, "ttlMillis", 0L);
+        ReflectionTestUtils.setField(loader, "negativeTtlMillis", 0L);
+        ReflectionTestUtils.setField(loader, "maxEntries", 100);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void tearDown() {
+        postDao.release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentLoadsShareOneDaoCall() throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        List<Future<PostDto>> results = new ArrayList<>();
+        CountDownLatch started = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                synchronized (threads) {
+                    threads.add(Thread.currentThread());
+                }
+                started.countDown();
+                return loader.load(1);
+            }));
+        }
+
+        // 모든 스레드가 DB 조회(첫 스레드) 또는 진행 중인 조회의 결과(나머지)를 기다릴 때까지 대기
+        started.await(5, TimeUnit.SECONDS);
+        awaitAllWaiting(threads);
+        postDao.release.countDown();
+
+        PostDto first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<PostDto> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, postDao.calls.get());
+        assertFalse(postDao.primaryReads.get(0));
+    }
+
+    @Test
+    public void invalidateDetachesInFlightLoad() throws Exception {
+        // 변경 전 조회가 DB에서 멈춰 있는 동안 게시글이 수정됨
+        Future<PostDto> before = executor.submit(() -> loader.load(1));
+        postDao.entered.await(5, TimeUnit.SECONDS);
+        loader.invalidate(1);
+
+        // 무효화 이후 요청은 진행 중인 조회에 합류하지 않고 원본 DB에서 새로 조회
+        PostDto after = executor.submit(() -> loader.load(1)).get(5, TimeUnit.SECONDS);
+        assertEquals(2, postDao.calls.get());
+        assertEquals(1, after.getVersion());
+        assertTrue(postDao.primaryReads.get(1));
+
+        postDao.release.countDown();
+        assertEquals(0, before.get(5, TimeUnit.SECONDS).getVersion());
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            int waiting = 0;
+            synchronized (threads) {
+                for (Thread thread : threads) {
+                    Thread.State state = thread.getState();
+                    if (state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING) {
+                        waiting++;
+                    }
+                }
+            }
+            if (waiting == THREADS) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * 첫 조회는 release 될 때까지 멈추고, 조회할 때마다 version이 1씩 늘어난 게시글을 반환하는 PostDao
+     * (조회마다 원본 DB로 라우팅되었는지 기록)
+     */
+    private static final class BlockingPostDao extends PostDao {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Boolean> primaryReads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public PostDto read(int id) {
+            int call = calls.getAndIncrement();
+            primaryReads.add(ReplicaRouting.isPrimaryPinned());
+            if (call == 0) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            PostDto post = new PostDto();
+            post.setId(id);
+            post.setVersion(call);
+            return post;
+        }
+    }
+}
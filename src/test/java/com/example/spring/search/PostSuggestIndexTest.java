@@ -0,0 +1,159 @@
+package com.example.spring.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.spring.post.PostDao;
+import com.example.spring.post.PostDto;
+import com.example.spring.post.PostSummary;
+
+/**
+ * PostSuggestIndex 테스트
+ * - merge: 표와 변경분이 겹치는 경우, 게시글 수가 0이 된 항목, 대소문자만 다른 문자열
+ * - suggest: 표에 있는 항목을 변경분이 덮어쓸 때 변경분 값 기준 최신순으로 제안하는지 확인
+ */
+public class PostSuggestIndexTest {
+
+    private PostSuggestIndex index;
+
+    @Before
+    public void setUp() throws Exception {
+        // 제목 "Spring 01" ~ "Spring 20" (ID 1~20, BLOCK_SIZE를 넘음) + 대소문자만 다른 "spring 05" (ID 21)
+        List<PostSummary> posts = new ArrayList<>();
+        for (int id = 1; id <= 20; id++) {
+            posts.add(summary(id, String.format("Spring %02d", id), "alice"));
+        }
+        posts.add(summary(21, "spring 05", "bob"));
+
+        index = new PostSuggestIndex();
+        index.postDao = new ListPostDao(posts);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "maxLength", 50);
+        ReflectionTestUtils.setField(index, "rebuildThreshold", 10000);
+        index.afterPropertiesSet();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!index.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(index.isReady());
+    }
+
+    @After
+    public void tearDown() {
+        index.destroy();
+    }
+
+    @Test
+    public void mergeAppliesDeltaOverBase() {
+        PrefixTable base = PrefixTable.of(Arrays.asList("Apple", "banana", "Cherry", "date"),
+            new int[] {5, 3, 7, 2}, new int[] {2, 1, 1, 1});
+
+        TreeMap<String, PostSuggestIndex.Entry> delta = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        put(delta, "aardvark", 8, 1);   // 표의 첫 항목보다 앞
+        put(delta, "APPLE", 9, 3);      // 대소문자만 다른 기존 항목 → 변경분 표기와 값으로 교체
+        put(delta, "banana", 3, 0);     // 삭제로 게시글 수 0 → 제외
+        put(delta, "blueberry", 4, 1);  // 표 항목 사이에 추가
+        put(delta, "eggplant", 0, 0);   // 표에 없고 게시글 수 0 → 제외
+        put(delta, "zucchini", 1, 1);   // 표의 마지막 항목보다 뒤
+
+        PrefixTable merged = PostSuggestIndex.merge(base, delta);
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < merged.size(); i++) {
+            keys.add(merged.key(i));
+        }
+        assertEquals(Arrays.asList("aardvark", "APPLE", "blueberry", "Cherry", "date", "zucchini"), keys);
+        assertEquals(9, merged.latest(1));
+        assertEquals(3, merged.count(1));
+        assertEquals(7, merged.latest(3));
+        assertEquals(1, merged.count(3));
+        assertEquals(-1, merged.indexOf("banana"));
+        assertEquals(1, merged.indexOf("apple"));
+    }
+
+    @Test
+    public void suggestOrdersDeltaOverridesByLatest() {
+        // 구축 직후: 대소문자만 다른 제목은 한 항목 (최신 게시글의 표기, 게시글 수 합산)
+        assertEquals(Arrays.asList("spring 05:21:2", "Spring 20:20:1", "Spring 19:19:1"),
+            texts(index.suggest("title", "SPRING", 3)));
+
+        // 표에 있는 항목을 변경분이 덮어씀: 최신 ID 변경, 게시글 수 0 (삭제, 제목 변경)
+        index.add(post(30, "Spring 03", "carol"));
+        index.add(post(31, "SPRING 05", "carol"));
+        index.remove(post(20, "Spring 20", "alice"));
+        index.update(post(19, "Spring 19", "alice"), post(19, "Autumn", "alice"));
+
+        // 변경분에 있는 표 항목(Spring 20, 19)은 건너뛰고 다음 최신 항목(Spring 18, 17)으로 채움
+        assertEquals(Arrays.asList("SPRING 05:31:3", "Spring 03:30:2", "Spring 18:18:1", "Spring 17:17:1"),
+            texts(index.suggest("title", "spring", 4)));
+        assertEquals(Arrays.asList("Autumn:19:1"), texts(index.suggest("title", "aut", 4)));
+        // 최신 게시글이 삭제되어도 같은 작성자의 다른 게시글이 남아 있으면 최신 ID는 유지 (게시글 수만 줄어듦)
+        assertEquals(Arrays.asList("alice:20:19"), texts(index.suggest("username", "A", 4)));
+        assertEquals(Arrays.asList("carol:31:2"), texts(index.suggest("username", "c", 4)));
+    }
+
+    private static List<String> texts(List<PostSuggestion> suggestions) {
+        List<String> texts = new ArrayList<>();
+        for (PostSuggestion suggestion : suggestions) {
+            texts.add(suggestion.getText() + ":" + suggestion.getId() + ":" + suggestion.getCount());
+        }
+        return texts;
+    }
+
+    private static void put(TreeMap<String, PostSuggestIndex.Entry> delta, String text, int latest, int count) {
+        delta.put(text, new PostSuggestIndex.Entry(text, latest, count));
+    }
+
+    private static PostSummary summary(int id, String title, String username) {
+        PostSummary summary = new PostSummary();
+        summary.setId(id);
+        summary.setTitle(title);
+        summary.setUsername(username);
+        return summary;
+    }
+
+    private static PostDto post(int id, String title, String username) {
+        PostDto post = new PostDto();
+        post.setId(id);
+        post.setTitle(title);
+        post.setUsername(username);
+        return post;
+    }
+
+    /**
+     * 주어진 게시글 목록을 ID 순서로 스트리밍하는 PostDao
+     */
+    private static final class ListPostDao extends PostDao {
+
+        private final List<PostSummary> posts;
+
+        ListPostDao(List<PostSummary> posts) {
+            this.posts = posts;
+        }
+
+        @Override
+        public void streamSuggestSource(ResultHandler<PostSummary> handler) {
+            DefaultResultContext<PostSummary> context = new DefaultResultContext<>();
+            for (PostSummary post : posts) {
+                context.nextResultObject(post);
+                handler.handleResult(context);
+                if (context.isStopped()) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.spring.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * PrefixTable 테스트
+ * - 앞부분 공유로 저장한 문자열이 블록 경계와 관계없이 원래 표기 그대로 복원되는지 확인
+ * - 접두어 범위가 BLOCK_SIZE 경계를 넘어도 단순 비교로 구한 범위와 같은지 확인
+ * - 범위 안 항목을 latest가 큰 순서로 방문하는지 확인
+ */
+public class PrefixTableTest {
+
+    private List<String> keys;
+    private int[] latest;
+    private PrefixTable table;
+
+    @Before
+    public void setUp() {
+        // apple 10개(0~9), banana 20개(10~29, 블록 경계 16을 넘음), cherry 10개(30~39), 대소문자 표기를 섞음
+        keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keys.add(String.format("apple %02d", i));
+        }
+        for (int i = 0; i < 20; i++) {
+            keys.add(String.format(i % 3 == 0 ? "Banana %02d" : "banana %02d", i));
+        }
+        for (int i = 0; i < 10; i++) {
+            keys.add(String.format("CHERRY %02d", i));
+        }
+        keys.sort(String.CASE_INSENSITIVE_ORDER);
+
+        // 위치와 순서가 어긋나도록 섞은 최신 게시글 ID
+        latest = new int[keys.size()];
+        int[] counts = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            latest[i] = (i * 17) % keys.size() + 1;
+            counts[i] = 1;
+        }
+        table = PrefixTable.of(keys, latest, counts);
+    }
+
+    @Test
+    public void keysAreRestoredAcrossBlocks() {
+        assertEquals(keys.size(), table.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(keys.get(i), table.key(i));
+            assertEquals(i, table.indexOf(keys.get(i).toUpperCase(Locale.ROOT)));
+        }
+        assertEquals(-1, table.indexOf("banana"));
+        assertEquals(-1, table.indexOf("date"));
+    }
+
+    @Test
+    public void prefixRangesCrossBlockBoundaries() {
+        assertEquals(10, table.prefixStart("BANANA"));
+        assertEquals(30, table.prefixEnd("BANANA"));
+        assertEquals(20, table.prefixStart("banana 1"));
+        assertEquals(30, table.prefixEnd("banana 1"));
+        assertEquals(keys.size(), table.prefixStart("date"));
+        assertEquals(0, table.prefixEnd(" "));
+
+        // 모든 문자열의 모든 접두어(대소문자를 바꾼 것 포함)에 대해 단순 비교 결과와 같은지 확인
+        for (String key : keys) {
+            for (int length = 1; length <= key.length(); length++) {
+                for (String prefix : new String[] {key.substring(0, length), key.substring(0, length).toUpperCase(Locale.ROOT)}) {
+                    int start = 0;
+                    while (start < keys.size() && !startsWithIgnoreCase(keys.get(start), prefix)) {
+                        start++;
+                    }
+                    int end = start;
+                    while (end < keys.size() && startsWithIgnoreCase(keys.get(end), prefix)) {
+                        end++;
+                    }
+                    assertEquals(prefix, start, table.prefixStart(prefix));
+                    assertEquals(prefix, end, table.prefixEnd(prefix));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void visitNewestReturnsLatestFirst() {
+        int from = table.prefixStart("banana");
+        int to = table.prefixEnd("banana");
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            expected.add(latest[i]);
+        }
+        expected.sort((a, b) -> Integer.compare(b, a));
+
+        List<Integer> visited = new ArrayList<>();
+        table.visitNewest(from, to, 5, index -> visited.add(table.latest(index)));
+        assertEquals(expected.subList(0, 5), visited);
+
+        // 건너뛴(false) 항목은 limit에 포함되지 않음
+        List<Integer> accepted = new ArrayList<>();
+        table.visitNewest(from, to, 3, index -> {
+            if (table.latest(index) == expected.get(0) || table.latest(index) == expected.get(2)) {
+                return false;
+            }
+            accepted.add(table.latest(index));
+            return true;
+        });
+        assertEquals(Arrays.asList(expected.get(1), expected.get(3), expected.get(4)), accepted);
+    }
+
+    private static boolean startsWithIgnoreCase(String text, String prefix) {
+        return text.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+}